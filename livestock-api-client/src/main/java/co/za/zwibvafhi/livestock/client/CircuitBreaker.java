@@ -0,0 +1,123 @@
+package co.za.zwibvafhi.livestock.client;
+
+import java.time.Duration;
+
+/**
+ * Count-based circuit breaker over the outcomes of the last {@code windowSize} calls.
+ *
+ * <p>Once the window is full and at least {@code failureRatePercent} of it failed, the circuit
+ * opens and calls are rejected for {@code openDuration}. After that one probe call is let through:
+ * its success closes the circuit with an empty window, its failure opens it again.
+ */
+final class CircuitBreaker {
+
+  /** State of the circuit. */
+  enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final boolean[] outcomes;
+  private final int failureRatePercent;
+  private final long openNanos;
+  private int next;
+  private int recorded;
+  private int failures;
+  private State state = State.CLOSED;
+  private long openedAt;
+  private boolean probing;
+
+  /**
+   * Creates the circuit breaker.
+   *
+   * @param windowSize Number of last outcomes the failure rate is taken over
+   * @param failureRatePercent Failure rate at which the circuit opens
+   * @param openDuration Time calls are rejected for once the circuit opened
+   */
+  CircuitBreaker(int windowSize, int failureRatePercent, Duration openDuration) {
+    if (windowSize < 1) {
+      throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+    }
+    this.outcomes = new boolean[windowSize];
+    this.failureRatePercent = failureRatePercent;
+    this.openNanos = openDuration.toNanos();
+  }
+
+  /**
+   * Asks to send a call.
+   *
+   * @return Whether the call may be sent
+   */
+  synchronized boolean tryAcquire() {
+    if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+      state = State.HALF_OPEN;
+      probing = false;
+    }
+    return switch (state) {
+      case CLOSED -> true;
+      case OPEN -> false;
+      case HALF_OPEN -> {
+        if (probing) {
+          yield false;
+        }
+        probing = true;
+        yield true;
+      }
+    };
+  }
+
+  /**
+   * Records the outcome of a sent call.
+   *
+   * @param failed Whether the server was unreachable or unavailable
+   */
+  synchronized void record(boolean failed) {
+    if (state == State.HALF_OPEN) {
+      if (failed) {
+        open();
+      } else {
+        state = State.CLOSED;
+        reset();
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      return;
+    }
+    if (recorded == outcomes.length && outcomes[next]) {
+      failures--;
+    }
+    outcomes[next] = failed;
+    if (failed) {
+      failures++;
+    }
+    next = (next + 1) % outcomes.length;
+    recorded = Math.min(recorded + 1, outcomes.length);
+    if (recorded == outcomes.length && failures * 100 >= failureRatePercent * outcomes.length) {
+      open();
+    }
+  }
+
+  /**
+   * Returns the state of the circuit.
+   *
+   * @return Current state
+   */
+  synchronized State state() {
+    return state;
+  }
+
+  private void open() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+    probing = false;
+    reset();
+  }
+
+  private void reset() {
+    next = 0;
+    recorded = 0;
+    failures = 0;
+  }
+}
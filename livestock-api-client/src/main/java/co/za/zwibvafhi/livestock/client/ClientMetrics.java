@@ -0,0 +1,40 @@
+package co.za.zwibvafhi.livestock.client;
+
+/**
+ * Receives the measurements of the {@link ResiliencePolicy}. Implementations must be thread-safe.
+ */
+public interface ClientMetrics {
+
+  /** Metrics that discard every measurement. */
+  ClientMetrics NONE = new ClientMetrics() {};
+
+  /**
+   * Records the latency of a sent call.
+   *
+   * @param operation Name of the client operation
+   * @param outcome {@code success}, {@code unavailable} or {@code error}
+   * @param nanos Time from sending the call to its response
+   */
+  default void latency(String operation, String outcome, long nanos) {}
+
+  /**
+   * Records that a call is sent again after a transient failure.
+   *
+   * @param operation Name of the client operation
+   */
+  default void retry(String operation) {}
+
+  /**
+   * Records that a second copy of a slow call is sent.
+   *
+   * @param operation Name of the client operation
+   */
+  default void hedge(String operation) {}
+
+  /**
+   * Records that a call is rejected by the open circuit.
+   *
+   * @param operation Name of the client operation
+   */
+  default void rejection(String operation) {}
+}
@@ -0,0 +1,197 @@
+package co.za.zwibvafhi.livestock.client;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of GET responses that carried an ETag, for conditional requests.
+ *
+ * <p>Responses are kept per request URI and Accept header, least recently used first out once
+ * their bodies exceed {@code maxBytes} together. A cached response is served without a request for
+ * {@code maxStale} after it was last validated, and revalidated with {@code If-None-Match} after
+ * that: a 304 serves the cached body again, so only headers cross the wire.
+ */
+public final class ConditionalGetCache {
+
+  private final long maxBytes;
+  private final long maxStaleNanos;
+  private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+  private long bytes;
+
+  private final LongAdder freshHits = new LongAdder();
+  private final LongAdder revalidatedHits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder bytesSaved = new LongAdder();
+
+  /**
+   * Creates the cache.
+   *
+   * @param maxBytes Total size of the cached bodies at most
+   * @param maxStale Time a response is served after it was validated without revalidating it
+   */
+  public ConditionalGetCache(long maxBytes, Duration maxStale) {
+    if (maxBytes < 1) {
+      throw new IllegalArgumentException("maxBytes must be positive: " + maxBytes);
+    }
+    this.maxBytes = maxBytes;
+    this.maxStaleNanos = maxStale.toNanos();
+  }
+
+  /**
+   * Creates the cache key of a request.
+   *
+   * @param uri Request URI
+   * @param accept Accept header of the request, which the server varies responses on
+   * @return Cache key
+   */
+  static String key(String uri, String accept) {
+    return accept == null ? uri : uri + '|' + accept;
+  }
+
+  /**
+   * Returns the cached response of a request if it may be served without revalidating it,
+   * counting a hit.
+   *
+   * @param key Cache key
+   * @return Cached response validated less than {@code maxStale} ago, or null
+   */
+  Entry fresh(String key) {
+    if (maxStaleNanos <= 0) {
+      return null;
+    }
+    Entry entry = get(key);
+    if (entry == null || System.nanoTime() - entry.validatedAt() > maxStaleNanos) {
+      return null;
+    }
+    freshHits.increment();
+    bytesSaved.add(entry.body().length);
+    return entry;
+  }
+
+  /**
+   * Returns the cached response of a request, whose ETag the request is made conditional on.
+   *
+   * @param key Cache key
+   * @return Cached response, or null
+   */
+  synchronized Entry get(String key) {
+    return entries.get(key);
+  }
+
+  /**
+   * Serves the cached response again after the server answered 304, counting a hit.
+   *
+   * @param key Cache key
+   * @param entry Cached response the request was made conditional on
+   * @return Cached response, now validated
+   */
+  Entry notModified(String key, Entry entry) {
+    Entry validated = new Entry(entry.etag(), entry.contentType(), entry.body(), System.nanoTime());
+    synchronized (this) {
+      if (entries.get(key) == entry) {
+        entries.put(key, validated);
+      }
+    }
+    revalidatedHits.increment();
+    bytesSaved.add(entry.body().length);
+    return validated;
+  }
+
+  /**
+   * Caches a full response, counting a miss. A response without an ETag replaces nothing and
+   * drops the key, as it cannot be revalidated.
+   *
+   * @param key Cache key
+   * @param etag ETag of the response, or null
+   * @param contentType Content type of the response
+   * @param body Body of the response
+   */
+  void store(String key, String etag, String contentType, byte[] body) {
+    misses.increment();
+    synchronized (this) {
+      Entry previous = entries.remove(key);
+      if (previous != null) {
+        bytes -= previous.body().length;
+      }
+      if (etag == null || body.length > maxBytes) {
+        return;
+      }
+      entries.put(key, new Entry(etag, contentType, body, System.nanoTime()));
+      bytes += body.length;
+      Iterator<Entry> eldest = entries.values().iterator();
+      while (bytes > maxBytes) {
+        bytes -= eldest.next().body().length;
+        eldest.remove();
+      }
+    }
+  }
+
+  /**
+   * Returns the number of requests answered from the cache without a request.
+   *
+   * @return Fresh hits
+   */
+  public long freshHits() {
+    return freshHits.sum();
+  }
+
+  /**
+   * Returns the number of requests answered from the cache after a 304.
+   *
+   * @return Revalidated hits
+   */
+  public long revalidatedHits() {
+    return revalidatedHits.sum();
+  }
+
+  /**
+   * Returns the number of cacheable requests that downloaded a full response.
+   *
+   * @return Misses
+   */
+  public long misses() {
+    return misses.sum();
+  }
+
+  /**
+   * Returns the share of cacheable requests answered from the cache.
+   *
+   * @return Hits over all cacheable requests, 0 before the first
+   */
+  public double hitRatio() {
+    long hits = freshHits() + revalidatedHits();
+    long total = hits + misses();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  /**
+   * Returns the number of body bytes served from the cache instead of downloaded.
+   *
+   * @return Bytes saved
+   */
+  public long bytesSaved() {
+    return bytesSaved.sum();
+  }
+
+  /**
+   * Returns the total size of the cached bodies.
+   *
+   * @return Cached bytes
+   */
+  public synchronized long size() {
+    return bytes;
+  }
+
+  /**
+   * Cached response.
+   *
+   * @param etag ETag the response was served with
+   * @param contentType Content type of the body
+   * @param body Body bytes
+   * @param validatedAt {@link System#nanoTime()} when the server last confirmed the response
+   */
+  record Entry(String etag, String contentType, byte[] body, long validatedAt) {}
+}
@@ -0,0 +1,88 @@
+package co.za.zwibvafhi.livestock.client;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuration of the {@link ConditionalGetCache} shared by {@link LivestockClient} and
+ * {@link LivestockAsyncClient}, on unless {@code livestock.api.cache.enabled} is off.
+ */
+@Configuration
+public class ConditionalGetCacheConfig {
+
+  /**
+   * Creates the cache of GET responses with an ETag.
+   *
+   * @param maxSize Total size of the cached bodies at most
+   * @param maxStale Time a response is served without revalidating it, zero to always revalidate
+   * @return Conditional-GET cache
+   */
+  @Bean
+  @ConditionalOnProperty(name = "livestock.api.cache.enabled", matchIfMissing = true)
+  public ConditionalGetCache livestockResponseCache(
+      @Value("${livestock.api.cache.max-size:16MB}") DataSize maxSize,
+      @Value("${livestock.api.cache.max-stale:PT0S}") Duration maxStale) {
+    return new ConditionalGetCache(maxSize.toBytes(), maxStale);
+  }
+
+  /** Publishes the cache statistics when Micrometer is on the classpath. */
+  @Configuration
+  @ConditionalOnClass(MeterBinder.class)
+  static class CacheMetricsConfig {
+
+    /**
+     * Binds {@code livestock.client.cache.requests} counters tagged {@code result=fresh},
+     * {@code revalidated} or {@code miss}, the {@code livestock.client.cache.bytes.saved} counter
+     * and the {@code livestock.client.cache.hit.ratio} and {@code livestock.client.cache.size}
+     * gauges.
+     *
+     * @param cache Conditional-GET cache, if enabled
+     * @return Binder of the cache metrics, binding nothing without a cache
+     */
+    @Bean
+    public MeterBinder livestockResponseCacheMetrics(ObjectProvider<ConditionalGetCache> cache) {
+      return registry -> {
+        ConditionalGetCache responses = cache.getIfAvailable();
+        if (responses == null) {
+          return;
+        }
+        FunctionCounter.builder(
+                "livestock.client.cache.requests", responses, ConditionalGetCache::freshHits)
+            .tag("result", "fresh")
+            .description("GET calls answered from the cache without a request")
+            .register(registry);
+        FunctionCounter.builder(
+                "livestock.client.cache.requests", responses, ConditionalGetCache::revalidatedHits)
+            .tag("result", "revalidated")
+            .description("GET calls answered from the cache after a 304")
+            .register(registry);
+        FunctionCounter.builder(
+                "livestock.client.cache.requests", responses, ConditionalGetCache::misses)
+            .tag("result", "miss")
+            .description("GET calls that downloaded a full response")
+            .register(registry);
+        FunctionCounter.builder(
+                "livestock.client.cache.bytes.saved", responses, ConditionalGetCache::bytesSaved)
+            .baseUnit("bytes")
+            .description("Response body bytes served from the cache instead of downloaded")
+            .register(registry);
+        Gauge.builder("livestock.client.cache.hit.ratio", responses, ConditionalGetCache::hitRatio)
+            .description("Share of GET calls answered from the cache")
+            .register(registry);
+        Gauge.builder("livestock.client.cache.size", responses, ConditionalGetCache::size)
+            .baseUnit("bytes")
+            .description("Total size of the cached response bodies")
+            .register(registry);
+      };
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package co.za.zwibvafhi.livestock.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Util;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * Feign transport that answers GET requests from a {@link ConditionalGetCache}: fresh responses
+ * without a request, others by revalidating them with {@code If-None-Match}.
+ */
+final class ConditionalGetFeignClient implements Client {
+
+  private final Client delegate;
+  private final ConditionalGetCache cache;
+
+  /**
+   * Creates the caching transport.
+   *
+   * @param delegate Transport sending the requests
+   * @param cache Cache of the responses
+   */
+  ConditionalGetFeignClient(Client delegate, ConditionalGetCache cache) {
+    this.delegate = delegate;
+    this.cache = cache;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    if (request.httpMethod() != Request.HttpMethod.GET) {
+      return delegate.execute(request, options);
+    }
+    String key =
+        ConditionalGetCache.key(request.url(), header(request.headers(), HttpHeaders.ACCEPT));
+    ConditionalGetCache.Entry fresh = cache.fresh(key);
+    if (fresh != null) {
+      return cached(request, fresh);
+    }
+    ConditionalGetCache.Entry cached = cache.get(key);
+    Request sent = cached == null ? request : conditional(request, cached.etag());
+    Response response = delegate.execute(sent, options);
+    if (response.status() == 304 && cached != null) {
+      response.close();
+      return cached(request, cache.notModified(key, cached));
+    }
+    if (response.status() != 200) {
+      return response;
+    }
+    byte[] body;
+    try (InputStream stream = response.body() == null ? null : response.body().asInputStream()) {
+      body = stream == null ? new byte[0] : Util.toByteArray(stream);
+    }
+    cache.store(
+        key,
+        header(response.headers(), HttpHeaders.ETAG),
+        header(response.headers(), HttpHeaders.CONTENT_TYPE),
+        body);
+    return response.toBuilder().body(body).build();
+  }
+
+  private static Request conditional(Request request, String etag) {
+    Map<String, Collection<String>> headers = new LinkedHashMap<>(request.headers());
+    headers.put(HttpHeaders.IF_NONE_MATCH, List.of(etag));
+    return Request.create(
+        request.httpMethod(),
+        request.url(),
+        headers,
+        request.body(),
+        request.charset(),
+        request.requestTemplate());
+  }
+
+  private static Response cached(Request request, ConditionalGetCache.Entry entry) {
+    Map<String, Collection<String>> headers = new LinkedHashMap<>();
+    headers.put(HttpHeaders.ETAG, List.of(entry.etag()));
+    if (entry.contentType() != null) {
+      headers.put(HttpHeaders.CONTENT_TYPE, List.of(entry.contentType()));
+    }
+    return Response.builder()
+        .status(200)
+        .reason("OK")
+        .request(request)
+        .headers(headers)
+        .body(entry.body())
+        .build();
+  }
+
+  private static String header(Map<String, Collection<String>> headers, String name) {
+    for (Map.Entry<String, Collection<String>> header : headers.entrySet()) {
+      if (header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty()) {
+        return String.join(", ", header.getValue());
+      }
+    }
+    return null;
+  }
+}
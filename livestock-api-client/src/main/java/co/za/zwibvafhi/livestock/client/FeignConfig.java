@@ -1,15 +1,120 @@
 package co.za.zwibvafhi.livestock.client;
 
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import feign.Capability;
+import feign.RequestInterceptor;
+import feign.codec.Decoder;
+import feign.codec.Encoder;
 import feign.codec.ErrorDecoder;
+import feign.optionals.OptionalDecoder;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.beans.factory.ObjectFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.http.HttpMessageConverters;
+import org.springframework.cloud.openfeign.support.ResponseEntityDecoder;
+import org.springframework.cloud.openfeign.support.SpringDecoder;
+import org.springframework.cloud.openfeign.support.SpringEncoder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
-/** Configuration for Feign client. */
+/**
+ * Configuration for Feign client.
+ *
+ * <p>Request bodies are sent as JSON, which every deployment of the API and every proxy in front
+ * of it accepts. Responses are preferred in the media type of {@code livestock.api.media-type}:
+ * Smile by default, or CBOR or JSON, with JSON as fallback in the Accept header, and responses in
+ * any of the three are decoded. Smile is preferred because its back-references to repeated
+ * property names make event and expense lists a third the size of their JSON. GET responses with
+ * an ETag are kept in the {@link ConditionalGetCache} and revalidated rather than downloaded
+ * again, and calls are retried, hedged and circuit broken by the {@link ResiliencePolicy}.
+ */
 @Configuration
 public class FeignConfig {
 
+  private final MediaType mediaType;
+
+  /**
+   * Creates the Feign configuration.
+   *
+   * @param mediaType Media type responses are preferred in
+   */
+  public FeignConfig(
+      @Value("${livestock.api.media-type:" + LivestockConstants.APPLICATION_SMILE_VALUE + "}")
+          String mediaType) {
+    this.mediaType = MediaType.parseMediaType(mediaType);
+  }
+
   @Bean
   public ErrorDecoder errorDecoder() {
     return new LivestockFeignErrorDecoder();
   }
+
+  @Bean
+  public Encoder feignEncoder() {
+    MappingJackson2HttpMessageConverter jsonConverter =
+        new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build());
+    HttpMessageConverters messageConverters =
+        new HttpMessageConverters(false, List.of(jsonConverter));
+    return new SpringEncoder(() -> messageConverters);
+  }
+
+  @Bean
+  public Decoder feignDecoder() {
+    return new OptionalDecoder(new ResponseEntityDecoder(new SpringDecoder(messageConverters())));
+  }
+
+  /**
+   * Asks for the preferred media type, falling back to JSON.
+   *
+   * @return Interceptor setting the Accept header of requests without one
+   */
+  @Bean
+  public RequestInterceptor acceptInterceptor() {
+    String accept = mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+    return template -> {
+      if (!template.headers().containsKey(HttpHeaders.ACCEPT)) {
+        template.header(HttpHeaders.ACCEPT, accept);
+      }
+    };
+  }
+
+  /**
+   * Sends calls under the resilience policy and answers GET requests from the conditional-GET
+   * cache, each if enabled.
+   *
+   * @param resilience Resilience policy
+   * @param cache Conditional-GET cache
+   * @return Capability wrapping the transport
+   */
+  @Bean
+  public Capability transportCapability(
+      ObjectProvider<ResiliencePolicy> resilience, ObjectProvider<ConditionalGetCache> cache) {
+    return new LivestockTransportCapability(resilience.getIfAvailable(), cache.getIfAvailable());
+  }
+
+  /**
+   * Builds the message converters of responses, one per media type the API may answer in.
+   *
+   * @return Factory of the message converters
+   */
+  private ObjectFactory<HttpMessageConverters> messageConverters() {
+    List<HttpMessageConverter<?>> converters = new ArrayList<>();
+    converters.add(
+        new MappingJackson2CborHttpMessageConverter(Jackson2ObjectMapperBuilder.cbor().build()));
+    converters.add(
+        new MappingJackson2SmileHttpMessageConverter(Jackson2ObjectMapperBuilder.smile().build()));
+    converters.add(
+        new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build()));
+    HttpMessageConverters messageConverters = new HttpMessageConverters(false, converters);
+    return () -> messageConverters;
+  }
 }
@@ -0,0 +1,64 @@
+package co.za.zwibvafhi.livestock.client;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.time.Duration;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.openfeign.clientconfig.HttpClient5FeignConfiguration.HttpClientBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Tunes the pooled Apache HttpClient 5 transport that Spring Cloud OpenFeign builds for
+ * {@link LivestockClient} while {@code spring.cloud.openfeign.httpclient.hc5.enabled} is on.
+ *
+ * <p>Pool size, connection time to live and lease timeout are the
+ * {@code spring.cloud.openfeign.httpclient} properties, and connect and read timeouts those of the
+ * {@code livestock} client, set in {@code application-client.yaml}.
+ * Connections idle for {@code livestock.api.pool.idle-timeout} are closed in the background, before
+ * the server's keep-alive timeout closes them under a request.
+ */
+@Configuration
+public class FeignTransportConfig {
+
+  /**
+   * Applies the idle timeout to the HttpClient builder.
+   *
+   * @param idleTimeout Time after which an idle pooled connection is closed
+   * @return Customizer of the HttpClient builder
+   */
+  @Bean
+  public HttpClientBuilderCustomizer livestockHttpClientCustomizer(
+      @Value("${livestock.api.pool.idle-timeout:PT15S}") Duration idleTimeout) {
+    return builder ->
+        builder.evictIdleConnections(TimeValue.ofMilliseconds(idleTimeout.toMillis()));
+  }
+
+  /** Publishes the connection pool gauges when Micrometer is on the classpath. */
+  @Configuration
+  @ConditionalOnClass(MeterBinder.class)
+  static class PoolMetricsConfig {
+
+    /**
+     * Binds the leased, available and pending connection gauges of the pool, named
+     * {@code httpcomponents.httpclient.pool.*} with the tag {@code httpclient=livestock}.
+     *
+     * @param connectionManager Connection manager of the pooled transport, if enabled
+     * @return Binder of the pool gauges, binding nothing without a pool
+     */
+    @Bean
+    public MeterBinder livestockClientPoolMetrics(
+        ObjectProvider<HttpClientConnectionManager> connectionManager) {
+      return registry -> {
+        if (connectionManager.getIfAvailable() instanceof PoolingHttpClientConnectionManager pool) {
+          new PoolingHttpClientConnectionManagerMetricsBinder(pool, "livestock").bindTo(registry);
+        }
+      };
+    }
+  }
+}
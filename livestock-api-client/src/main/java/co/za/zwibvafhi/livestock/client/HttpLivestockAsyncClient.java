@@ -0,0 +1,466 @@
+package co.za.zwibvafhi.livestock.client;
+
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.PaginatedExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.ProfitReportResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import feign.Request;
+import feign.Response;
+import feign.codec.DecodeException;
+import feign.codec.EncodeException;
+import feign.codec.ErrorDecoder;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link LivestockAsyncClient} on the non-blocking JDK {@link HttpClient}, which negotiates
+ * HTTP/2 with servers that offer it.
+ *
+ * <p>Request bodies are sent as JSON, responses are preferred in the configured media type and
+ * decoded from the media type they arrive in, as {@link FeignConfig} does. Paths are the
+ * {@link LivestockConstants} ones the server maps. At most {@code maxInFlight} calls are sent at a
+ * time; up to {@code maxQueued} further calls wait in a queue without holding a thread, and calls
+ * beyond that fail with a {@link java.util.concurrent.RejectedExecutionException}. Error
+ * responses are handed to {@link LivestockFeignErrorDecoder}, so futures fail with the exceptions
+ * the blocking client throws. With a {@link ConditionalGetCache}, GET calls whose responses carry
+ * an ETag are revalidated instead of downloaded again. With a {@link ResiliencePolicy}, calls are
+ * retried, hedged and rejected while the circuit is open as its documentation describes.
+ */
+public class HttpLivestockAsyncClient implements LivestockAsyncClient {
+
+  private static final TypeReference<LivestockCountResponse> COUNT = new TypeReference<>() {};
+  private static final TypeReference<LivestockEventResponse> EVENT = new TypeReference<>() {};
+  private static final TypeReference<ExpenseResponse> EXPENSE = new TypeReference<>() {};
+  private static final TypeReference<List<LivestockEventResponse>> EVENTS =
+      new TypeReference<>() {};
+  private static final TypeReference<List<ProfitReportResponse>> PROFITS =
+      new TypeReference<>() {};
+  private static final TypeReference<PaginatedExpenseResponse> EXPENSE_PAGE =
+      new TypeReference<>() {};
+  private static final TypeReference<List<ExpenseSummaryResponse>> EXPENSE_SUMMARIES =
+      new TypeReference<>() {};
+  private static final TypeReference<HeadDayCostReportResponse> HEAD_DAY_COSTS =
+      new TypeReference<>() {};
+  private static final TypeReference<AnimalRosterResponse> ANIMALS = new TypeReference<>() {};
+  private static final TypeReference<ChangesResponse> CHANGES = new TypeReference<>() {};
+  private static final TypeReference<List<BulkItemResponse>> BULK_ITEMS =
+      new TypeReference<>() {};
+
+  private static final MediaType APPLICATION_SMILE =
+      MediaType.parseMediaType(LivestockConstants.APPLICATION_SMILE_VALUE);
+
+  private final HttpClient httpClient;
+  private final String baseUrl;
+  private final String accept;
+  private final Duration requestTimeout;
+  private final InFlightLimiter limiter;
+  private final ConditionalGetCache cache;
+  private final ResiliencePolicy resilience;
+  private final ErrorDecoder errorDecoder = new LivestockFeignErrorDecoder();
+  private final ObjectMapper jsonMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+  private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+  /**
+   * Creates the asynchronous client. {@link LivestockAsyncClientConfig} creates it from the
+   * {@code livestock.api} properties.
+   *
+   * @param httpClient HTTP client sending the calls
+   * @param baseUrl Base URL of the livestock API, e.g. {@code http://host/api/v1/livestock}
+   * @param mediaType Media type responses are preferred in
+   * @param requestTimeout Time after which a sent call fails with a timeout
+   * @param maxInFlight Maximum number of calls sent at a time
+   * @param maxQueued Maximum number of calls waiting for an in-flight slot
+   * @param cache Cache of GET responses with an ETag, or null for none
+   * @param resilience Retries, hedging and circuit breaking of calls, or null for none
+   */
+  public HttpLivestockAsyncClient(
+      HttpClient httpClient,
+      String baseUrl,
+      String mediaType,
+      Duration requestTimeout,
+      int maxInFlight,
+      int maxQueued,
+      ConditionalGetCache cache,
+      ResiliencePolicy resilience) {
+    this.httpClient = httpClient;
+    this.baseUrl = baseUrl;
+    this.accept = mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+    this.requestTimeout = requestTimeout;
+    this.limiter = new InFlightLimiter(maxInFlight, maxQueued);
+    this.cache = cache;
+    this.resilience = resilience;
+  }
+
+  /**
+   * Returns the number of calls sent and not yet answered.
+   *
+   * @return Calls in flight
+   */
+  public int inFlight() {
+    return limiter.inFlight();
+  }
+
+  @Override
+  public CompletableFuture<Optional<LivestockCountResponse>> initializeCount(
+      Long userId, InitializeCountRequest request) {
+    URI uri = uri(LivestockConstants.PATH_COUNTS).build(userId);
+    return send("initializeCount", "POST", uri, request, COUNT).thenApply(Optional::ofNullable);
+  }
+
+  @Override
+  public CompletableFuture<Optional<LivestockEventResponse>> recordEvent(
+      Long userId, RecordEventRequest request) {
+    URI uri = uri(LivestockConstants.PATH_EVENTS).build(userId);
+    return send("recordEvent", "POST", uri, request, EVENT).thenApply(Optional::ofNullable);
+  }
+
+  @Override
+  public CompletableFuture<Optional<ExpenseResponse>> recordExpense(
+      Long userId, RecordExpenseRequest request) {
+    URI uri = uri(LivestockConstants.PATH_EXPENSES).build(userId);
+    return send("recordExpense", "POST", uri, request, EXPENSE).thenApply(Optional::ofNullable);
+  }
+
+  @Override
+  public CompletableFuture<List<BulkItemResponse>> recordEvents(
+      Long userId, List<RecordEventRequest> requests) {
+    URI uri = uri(LivestockConstants.PATH_EVENTS_BATCH).build(userId);
+    return send("recordEvents", "POST", uri, requests, BULK_ITEMS);
+  }
+
+  @Override
+  public CompletableFuture<List<BulkItemResponse>> recordExpenses(
+      Long userId, List<RecordExpenseRequest> requests) {
+    URI uri = uri(LivestockConstants.PATH_EXPENSES_BATCH).build(userId);
+    return send("recordExpenses", "POST", uri, requests, BULK_ITEMS);
+  }
+
+  @Override
+  public CompletableFuture<Optional<LivestockCountResponse>> getCurrentCount(
+      Long userId, LivestockCategory category) {
+    URI uri = uri(LivestockConstants.PATH_COUNTS).queryParam("category", category).build(userId);
+    return send("getCurrentCount", "GET", uri, null, COUNT).thenApply(Optional::ofNullable);
+  }
+
+  @Override
+  public CompletableFuture<List<LivestockEventResponse>> getEventHistory(
+      Long userId, LivestockCategory category, String eventType) {
+    URI uri =
+        uri(LivestockConstants.PATH_EVENTS)
+            .queryParam("category", category)
+            .queryParamIfPresent("eventType", Optional.ofNullable(eventType))
+            .build(userId);
+    return send("getEventHistory", "GET", uri, null, EVENTS);
+  }
+
+  @Override
+  public CompletableFuture<List<ProfitReportResponse>> getProfitReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
+    URI uri =
+        dateRange(uri(LivestockConstants.PATH_PROFIT), category, startDate, endDate)
+            .build(userId);
+    return send("getProfitReport", "GET", uri, null, PROFITS);
+  }
+
+  @Override
+  public CompletableFuture<PaginatedExpenseResponse> getExpenses(
+      Long userId,
+      LivestockCategory category,
+      ExpenseCategory expenseCategory,
+      LocalDate startDate,
+      LocalDate endDate,
+      int page,
+      int size) {
+    URI uri =
+        dateRange(uri(LivestockConstants.PATH_EXPENSES), category, startDate, endDate)
+            .queryParamIfPresent("expenseCategory", Optional.ofNullable(expenseCategory))
+            .queryParam("page", page)
+            .queryParam("size", size)
+            .build(userId);
+    return send("getExpenses", "GET", uri, null, EXPENSE_PAGE);
+  }
+
+  @Override
+  public CompletableFuture<List<ExpenseSummaryResponse>> getExpenseSummaries(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
+    URI uri =
+        dateRange(uri(LivestockConstants.PATH_EXPENSE_SUMMARIES), category, startDate, endDate)
+            .build(userId);
+    return send("getExpenseSummaries", "GET", uri, null, EXPENSE_SUMMARIES);
+  }
+
+  @Override
+  public CompletableFuture<HeadDayCostReportResponse> getHeadDayCostReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
+    URI uri =
+        dateRange(uri(LivestockConstants.PATH_HEAD_DAY_COSTS), category, startDate, endDate)
+            .build(userId);
+    return send("getHeadDayCostReport", "GET", uri, null, HEAD_DAY_COSTS);
+  }
+
+  @Override
+  public CompletableFuture<AnimalRosterResponse> getAnimals(
+      Long userId,
+      LivestockCategory category,
+      LivestockStatus status,
+      LivestockGender gender,
+      String after,
+      int size) {
+    URI uri =
+        uri(LivestockConstants.PATH_ANIMALS)
+            .queryParam("category", category)
+            .queryParamIfPresent("status", Optional.ofNullable(status))
+            .queryParamIfPresent("gender", Optional.ofNullable(gender))
+            .queryParamIfPresent("after", Optional.ofNullable(after))
+            .queryParam("size", size)
+            .build(userId);
+    return send("getAnimals", "GET", uri, null, ANIMALS);
+  }
+
+  @Override
+  public CompletableFuture<List<LivestockEventResponse>> getAnimalTimeline(
+      Long userId, String tagNumber) {
+    URI uri = uri(LivestockConstants.PATH_ANIMAL_TIMELINE).build(userId, tagNumber);
+    return send("getAnimalTimeline", "GET", uri, null, EVENTS);
+  }
+
+  @Override
+  public CompletableFuture<ChangesResponse> getChanges(Long userId, long since, int size) {
+    URI uri =
+        uri(LivestockConstants.PATH_CHANGES)
+            .queryParam("since", since)
+            .queryParam("size", size)
+            .build(userId);
+    return send("getChanges", "GET", uri, null, CHANGES);
+  }
+
+  private UriComponentsBuilder uri(String path) {
+    return UriComponentsBuilder.fromHttpUrl(baseUrl).path(path);
+  }
+
+  private static UriComponentsBuilder dateRange(
+      UriComponentsBuilder uri,
+      LivestockCategory category,
+      LocalDate startDate,
+      LocalDate endDate) {
+    return uri.queryParam("category", category)
+        .queryParamIfPresent("startDate", Optional.ofNullable(startDate))
+        .queryParamIfPresent("endDate", Optional.ofNullable(endDate));
+  }
+
+  /**
+   * Sends a call once the in-flight limit allows and decodes its response.
+   *
+   * @param operation Name of the {@link LivestockAsyncClient} operation, for error messages
+   * @param method HTTP method
+   * @param uri Request URI
+   * @param body Request body, or null for none
+   * @param type Type of the response body
+   * @param <T> Type of the response body
+   * @return Future of the decoded body, null for an empty body
+   */
+  private <T> CompletableFuture<T> send(
+      String operation, String method, URI uri, Object body, TypeReference<T> type) {
+    String methodKey = LivestockAsyncClient.class.getSimpleName() + "#" + operation;
+    HttpRequest.Builder request =
+        HttpRequest.newBuilder(uri).timeout(requestTimeout).header(HttpHeaders.ACCEPT, accept);
+    if (body == null) {
+      request.method(method, BodyPublishers.noBody());
+    } else {
+      byte[] encoded;
+      try {
+        encoded = jsonMapper.writeValueAsBytes(body);
+      } catch (JsonProcessingException e) {
+        return CompletableFuture.failedFuture(
+            new EncodeException("Could not encode request body of " + methodKey, e));
+      }
+      request
+          .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+          .method(method, BodyPublishers.ofByteArray(encoded));
+    }
+    if (cache == null || !"GET".equals(method)) {
+      HttpRequest httpRequest = request.build();
+      return exchange(operation, httpRequest)
+          .thenCompose(response -> read(methodKey, response, type));
+    }
+    String key = ConditionalGetCache.key(uri.toString(), accept);
+    ConditionalGetCache.Entry fresh = cache.fresh(key);
+    if (fresh != null) {
+      return decode(
+          methodKey, 200, fresh.contentType(), fresh.body(), feignRequest(method, uri), type);
+    }
+    ConditionalGetCache.Entry cached = cache.get(key);
+    if (cached != null) {
+      request.header(HttpHeaders.IF_NONE_MATCH, cached.etag());
+    }
+    HttpRequest httpRequest = request.build();
+    return exchange(operation, httpRequest)
+        .thenCompose(
+            response -> {
+              if (response.statusCode() == 304 && cached != null) {
+                ConditionalGetCache.Entry validated = cache.notModified(key, cached);
+                return decode(
+                    methodKey,
+                    200,
+                    validated.contentType(),
+                    validated.body(),
+                    feignRequest(method, uri),
+                    type);
+              }
+              if (response.statusCode() == 200) {
+                cache.store(
+                    key,
+                    response.headers().firstValue(HttpHeaders.ETAG).orElse(null),
+                    response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null),
+                    response.body() == null ? new byte[0] : response.body());
+              }
+              return read(methodKey, response, type);
+            });
+  }
+
+  /**
+   * Sends a request once the in-flight limit allows, under the resilience policy if there is one.
+   * Every copy of a retried or hedged request waits for its own in-flight slot.
+   *
+   * @param operation Name of the {@link LivestockAsyncClient} operation
+   * @param request HTTP request
+   * @return Future of the response
+   */
+  private CompletableFuture<HttpResponse<byte[]>> exchange(String operation, HttpRequest request) {
+    Supplier<CompletableFuture<HttpResponse<byte[]>>> call =
+        () -> limiter.submit(() -> httpClient.sendAsync(request, BodyHandlers.ofByteArray()));
+    if (resilience == null) {
+      return call.get();
+    }
+    return resilience.execute(
+        operation,
+        ResiliencePolicy.isIdempotent(request.method()),
+        "GET".equals(request.method()),
+        call,
+        HttpResponse::statusCode,
+        response -> {});
+  }
+
+  /**
+   * Decodes a successful response, or the exception of an error response.
+   *
+   * @param methodKey Key of the called method
+   * @param response HTTP response
+   * @param type Type of the response body
+   * @param <T> Type of the response body
+   * @return Future of the body, failed with the decoded exception for an error response
+   */
+  private <T> CompletableFuture<T> read(
+      String methodKey, HttpResponse<byte[]> response, TypeReference<T> type) {
+    Response feignResponse = toFeignResponse(response);
+    if (response.statusCode() < 200 || response.statusCode() >= 300) {
+      return CompletableFuture.failedFuture(errorDecoder.decode(methodKey, feignResponse));
+    }
+    return decode(
+        methodKey,
+        response.statusCode(),
+        response.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null),
+        response.body(),
+        feignResponse.request(),
+        type);
+  }
+
+  /**
+   * Decodes a successful response body in the media type it arrived in.
+   *
+   * @param methodKey Key of the called method
+   * @param status Status of the response
+   * @param contentType Content type of the body, or null for JSON
+   * @param body Body bytes
+   * @param request Request the body answers, for decode errors
+   * @param type Type of the response body
+   * @param <T> Type of the response body
+   * @return Future of the body, null for an empty body
+   */
+  private <T> CompletableFuture<T> decode(
+      String methodKey,
+      int status,
+      String contentType,
+      byte[] body,
+      Request request,
+      TypeReference<T> type) {
+    if (body == null || body.length == 0) {
+      return CompletableFuture.completedFuture(null);
+    }
+    try {
+      MediaType mediaType =
+          contentType == null ? MediaType.APPLICATION_JSON : MediaType.parseMediaType(contentType);
+      return CompletableFuture.completedFuture(mapperFor(mediaType).readValue(body, type));
+    } catch (IOException | IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(
+          new DecodeException(status, "Could not decode response body of " + methodKey, request, e));
+    }
+  }
+
+  private ObjectMapper mapperFor(MediaType type) {
+    if (MediaType.APPLICATION_CBOR.includes(type)) {
+      return cborMapper;
+    }
+    if (APPLICATION_SMILE.includes(type)) {
+      return smileMapper;
+    }
+    return jsonMapper;
+  }
+
+  /**
+   * Wraps a JDK response for the Feign error decoder.
+   *
+   * @param response HTTP response
+   * @return Feign response with the same status, headers and body
+   */
+  private static Response toFeignResponse(HttpResponse<byte[]> response) {
+    Map<String, Collection<String>> headers = new LinkedHashMap<>(response.headers().map());
+    return Response.builder()
+        .status(response.statusCode())
+        .headers(headers)
+        .body(response.body())
+        .request(feignRequest(response.request().method(), response.request().uri()))
+        .build();
+  }
+
+  private static Request feignRequest(String method, URI uri) {
+    return Request.create(
+        Request.HttpMethod.valueOf(method), uri.toString(), Map.of(), null, null, null);
+  }
+}
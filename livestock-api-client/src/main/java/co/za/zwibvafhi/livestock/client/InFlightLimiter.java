@@ -0,0 +1,131 @@
+package co.za.zwibvafhi.livestock.client;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Bounds the number of asynchronous calls in flight without blocking callers.
+ *
+ * <p>A call beyond the limit is queued and started by whichever call completes next, so waiting
+ * calls hold no thread. At most {@code maxQueued} calls wait; further calls fail right away with a
+ * {@link RejectedExecutionException} instead of growing the queue without bound.
+ */
+final class InFlightLimiter {
+
+  private final int maxInFlight;
+  private final int maxQueued;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger queued = new AtomicInteger();
+  private final Queue<Runnable> waiting = new ConcurrentLinkedQueue<>();
+  private final ThreadLocal<Boolean> draining = ThreadLocal.withInitial(() -> false);
+
+  /**
+   * Creates the limiter.
+   *
+   * @param maxInFlight Maximum number of calls in flight
+   * @param maxQueued Maximum number of calls waiting for a slot
+   */
+  InFlightLimiter(int maxInFlight, int maxQueued) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+    }
+    if (maxQueued < 0) {
+      throw new IllegalArgumentException("maxQueued must not be negative: " + maxQueued);
+    }
+    this.maxInFlight = maxInFlight;
+    this.maxQueued = maxQueued;
+  }
+
+  /**
+   * Starts a call now if the limit allows, otherwise once an earlier call completes. A call is
+   * accepted while the calls not yet started fit in the free slots plus the queue bound.
+   *
+   * @param call Starts the call and returns its future
+   * @param <T> Result type of the call
+   * @return Future completed with the call's outcome, or failed with a
+   *     {@link RejectedExecutionException} if the queue is full
+   */
+  <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+    if (queued.incrementAndGet() > maxQueued + maxInFlight - inFlight.get()) {
+      queued.decrementAndGet();
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException(
+              "In-flight queue full: " + maxQueued + " calls waiting for " + maxInFlight
+                  + " in flight"));
+    }
+    CompletableFuture<T> result = new CompletableFuture<>();
+    waiting.add(
+        () -> {
+          CompletableFuture<T> started;
+          try {
+            started = call.get();
+          } catch (RuntimeException e) {
+            started = CompletableFuture.failedFuture(e);
+          }
+          started.whenComplete(
+              (value, error) -> {
+                release();
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(value);
+                }
+              });
+        });
+    drain();
+    return result;
+  }
+
+  /**
+   * Returns the number of calls in flight.
+   *
+   * @return Calls started and not yet completed
+   */
+  int inFlight() {
+    return inFlight.get();
+  }
+
+  private void release() {
+    inFlight.decrementAndGet();
+    drain();
+  }
+
+  /**
+   * Starts waiting calls while the limit allows. A call that completes while being started, on the
+   * draining thread, leaves the next one to the loop instead of recursing.
+   */
+  private void drain() {
+    if (draining.get()) {
+      return;
+    }
+    draining.set(true);
+    try {
+      drainWaiting();
+    } finally {
+      draining.set(false);
+    }
+  }
+
+  private void drainWaiting() {
+    while (!waiting.isEmpty()) {
+      int current = inFlight.get();
+      if (current >= maxInFlight) {
+        return;
+      }
+      if (!inFlight.compareAndSet(current, current + 1)) {
+        continue;
+      }
+      Runnable next = waiting.poll();
+      if (next == null) {
+        inFlight.decrementAndGet();
+        continue;
+      }
+      queued.decrementAndGet();
+      next.run();
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package co.za.zwibvafhi.livestock.client;
+
+import java.util.Arrays;
+
+/**
+ * Latencies of the last successful calls of one operation, and their 95th percentile.
+ *
+ * <p>The percentile is recomputed every {@value #RECOMPUTE_INTERVAL} samples rather than on every
+ * read, so asking for it costs no more than a lock.
+ */
+final class LatencyWindow {
+
+  private static final int RECOMPUTE_INTERVAL = 16;
+
+  private final long[] samples;
+  private int next;
+  private int recorded;
+  private int sinceRecompute;
+  private long p95 = -1;
+
+  /**
+   * Creates the window.
+   *
+   * @param size Number of last samples kept
+   */
+  LatencyWindow(int size) {
+    this.samples = new long[size];
+  }
+
+  /**
+   * Adds the latency of a successful call.
+   *
+   * @param nanos Latency
+   */
+  synchronized void add(long nanos) {
+    samples[next] = nanos;
+    next = (next + 1) % samples.length;
+    recorded = Math.min(recorded + 1, samples.length);
+    if (++sinceRecompute >= RECOMPUTE_INTERVAL) {
+      sinceRecompute = 0;
+      long[] sorted = Arrays.copyOf(samples, recorded);
+      Arrays.sort(sorted);
+      p95 = sorted[(int) Math.ceil(sorted.length * 0.95) - 1];
+    }
+  }
+
+  /**
+   * Returns the 95th percentile of the window.
+   *
+   * @return Percentile in nanoseconds, or -1 before the first {@value #RECOMPUTE_INTERVAL} samples
+   */
+  synchronized long p95() {
+    return p95;
+  }
+}
@@ -0,0 +1,157 @@
+package co.za.zwibvafhi.livestock.client;
+
+import co.za.zwibvafhi.livestock.api.contract.LivestockApi;
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.PaginatedExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.ProfitReportResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link LivestockClient}: every {@link LivestockApi} operation,
+ * returning a future instead of blocking the calling thread.
+ *
+ * <p>Futures complete exceptionally with the exception {@link LivestockFeignErrorDecoder} decodes
+ * from an error response, as the blocking client throws it. Parameters are those of the matching
+ * {@link LivestockApi} operation; optional ones may be null.
+ */
+public interface LivestockAsyncClient {
+
+  /**
+   * Initializes the livestock count for a user and category.
+   *
+   * @see LivestockApi#initializeCount
+   */
+  CompletableFuture<Optional<LivestockCountResponse>> initializeCount(
+      Long userId, InitializeCountRequest request);
+
+  /**
+   * Records a livestock event for a user and category.
+   *
+   * @see LivestockApi#recordEvent
+   */
+  CompletableFuture<Optional<LivestockEventResponse>> recordEvent(
+      Long userId, RecordEventRequest request);
+
+  /**
+   * Records an expense for a user and category.
+   *
+   * @see LivestockApi#recordExpense
+   */
+  CompletableFuture<Optional<ExpenseResponse>> recordExpense(
+      Long userId, RecordExpenseRequest request);
+
+  /**
+   * Records a batch of livestock events for a user in request order.
+   *
+   * @see LivestockApi#recordEvents
+   */
+  CompletableFuture<List<BulkItemResponse>> recordEvents(
+      Long userId, List<RecordEventRequest> requests);
+
+  /**
+   * Records a batch of expenses for a user in request order.
+   *
+   * @see LivestockApi#recordExpenses
+   */
+  CompletableFuture<List<BulkItemResponse>> recordExpenses(
+      Long userId, List<RecordExpenseRequest> requests);
+
+  /**
+   * Retrieves the current livestock count for a user and category.
+   *
+   * @see LivestockApi#getCurrentCount
+   */
+  CompletableFuture<Optional<LivestockCountResponse>> getCurrentCount(
+      Long userId, LivestockCategory category);
+
+  /**
+   * Retrieves the event history for a user and category.
+   *
+   * @see LivestockApi#getEventHistory
+   */
+  CompletableFuture<List<LivestockEventResponse>> getEventHistory(
+      Long userId, LivestockCategory category, String eventType);
+
+  /**
+   * Retrieves the profit report for a user and category.
+   *
+   * @see LivestockApi#getProfitReport
+   */
+  CompletableFuture<List<ProfitReportResponse>> getProfitReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Retrieves a page of expenses for a user and category.
+   *
+   * @see LivestockApi#getExpenses
+   */
+  CompletableFuture<PaginatedExpenseResponse> getExpenses(
+      Long userId,
+      LivestockCategory category,
+      ExpenseCategory expenseCategory,
+      LocalDate startDate,
+      LocalDate endDate,
+      int page,
+      int size);
+
+  /**
+   * Retrieves expense summaries by expense category for a user and category.
+   *
+   * @see LivestockApi#getExpenseSummaries
+   */
+  CompletableFuture<List<ExpenseSummaryResponse>> getExpenseSummaries(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Retrieves the cost per head-day report for a user and category.
+   *
+   * @see LivestockApi#getHeadDayCostReport
+   */
+  CompletableFuture<HeadDayCostReportResponse> getHeadDayCostReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Retrieves a page of the individual animals of a user's herd.
+   *
+   * @see LivestockApi#getAnimals
+   */
+  CompletableFuture<AnimalRosterResponse> getAnimals(
+      Long userId,
+      LivestockCategory category,
+      LivestockStatus status,
+      LivestockGender gender,
+      String after,
+      int size);
+
+  /**
+   * Retrieves the events an individual animal was involved in.
+   *
+   * @see LivestockApi#getAnimalTimeline
+   */
+  CompletableFuture<List<LivestockEventResponse>> getAnimalTimeline(
+      Long userId, String tagNumber);
+
+  /**
+   * Retrieves the changes of a user after a change sequence.
+   *
+   * @see LivestockApi#getChanges
+   */
+  CompletableFuture<ChangesResponse> getChanges(Long userId, long since, int size);
+}
@@ -0,0 +1,75 @@
+package co.za.zwibvafhi.livestock.client;
+
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/** Configuration of the {@link LivestockAsyncClient}. */
+@Configuration
+public class LivestockAsyncClientConfig {
+
+  /**
+   * Creates the asynchronous livestock client on an HTTP/2-capable JDK {@link HttpClient}.
+   *
+   * @param url Base URL of the livestock API
+   * @param mediaType Media type responses are preferred in
+   * @param maxInFlight Maximum number of calls sent at a time
+   * @param maxQueued Maximum number of calls waiting to be sent
+   * @param connectTimeout Time allowed to open a connection
+   * @param requestTimeout Time allowed for a sent call to be answered
+   * @param cache Conditional-GET cache, if enabled
+   * @param resilience Resilience policy, if enabled
+   * @return Asynchronous livestock client
+   */
+  @Bean
+  public LivestockAsyncClient livestockAsyncClient(
+      @Value("${livestock.api.url}") String url,
+      @Value("${livestock.api.media-type:" + LivestockConstants.APPLICATION_SMILE_VALUE + "}")
+          String mediaType,
+      @Value("${livestock.api.async.max-in-flight:256}") int maxInFlight,
+      @Value("${livestock.api.async.max-queued:10000}") int maxQueued,
+      @Value("${livestock.api.async.connect-timeout:PT2S}") Duration connectTimeout,
+      @Value("${livestock.api.async.request-timeout:PT10S}") Duration requestTimeout,
+      ObjectProvider<ConditionalGetCache> cache,
+      ObjectProvider<ResiliencePolicy> resilience) {
+    HttpClient httpClient =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(connectTimeout)
+            .build();
+    return new HttpLivestockAsyncClient(
+        httpClient,
+        url,
+        mediaType,
+        requestTimeout,
+        maxInFlight,
+        maxQueued,
+        cache.getIfAvailable(),
+        resilience.getIfAvailable());
+  }
+
+  /**
+   * Creates the client that coalesces single event and expense calls into bulk calls.
+   *
+   * @param asyncClient Client the batches are sent through
+   * @param maxBatchSize Number of calls sent in one batch at most
+   * @param linger Time a call waits for others to join its batch
+   * @param maxQueued Number of calls waiting or in flight at most
+   * @param enqueueTimeout Time a caller blocks for room in the queue
+   * @return Batching livestock client
+   */
+  @Bean(destroyMethod = "close")
+  public LivestockBatchingClient livestockBatchingClient(
+      LivestockAsyncClient asyncClient,
+      @Value("${livestock.api.batch.max-size:100}") int maxBatchSize,
+      @Value("${livestock.api.batch.linger:PT10MS}") Duration linger,
+      @Value("${livestock.api.batch.max-queued:10000}") int maxQueued,
+      @Value("${livestock.api.batch.enqueue-timeout:PT30S}") Duration enqueueTimeout) {
+    return new LivestockBatchingClient(
+        asyncClient, maxBatchSize, linger, maxQueued, enqueueTimeout);
+  }
+}
@@ -0,0 +1,295 @@
+package co.za.zwibvafhi.livestock.client;
+
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Coalesces single {@code recordEvent} and {@code recordExpense} calls into the bulk endpoints of
+ * a {@link LivestockAsyncClient}.
+ *
+ * <p>Calls of a user queue in a lane per kind. A lane sends a batch once {@code maxBatchSize}
+ * calls are waiting, or {@code linger} after the first call arrived, and has at most one batch in
+ * flight: calls arriving meanwhile go out as soon as it is answered. Calls of a user are therefore
+ * recorded in the order they were made, per kind, just as if they had been sent one by one. Each
+ * call's future completes with its own item of the batch, and fails with the
+ * {@link LivestockException} the single call would have failed with.
+ *
+ * <p>At most {@code maxQueued} calls wait or are in flight at a time. Further callers block for
+ * up to {@code enqueueTimeout}, after which their future fails with a
+ * {@link RejectedExecutionException}.
+ */
+public class LivestockBatchingClient implements AutoCloseable {
+
+  private final LivestockAsyncClient client;
+  private final int maxBatchSize;
+  private final long lingerNanos;
+  private final long enqueueTimeoutNanos;
+  private final int maxQueued;
+  private final Semaphore permits;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final ConcurrentMap<Long, Lane<RecordEventRequest, LivestockEventResponse>> eventLanes =
+      new ConcurrentHashMap<>();
+  private final ConcurrentMap<Long, Lane<RecordExpenseRequest, ExpenseResponse>> expenseLanes =
+      new ConcurrentHashMap<>();
+  private volatile boolean closed;
+
+  /**
+   * Creates the batching client.
+   *
+   * @param client Client whose bulk endpoints the batches are sent to
+   * @param maxBatchSize Number of calls sent in one batch at most (max 100)
+   * @param linger Time a call waits for others to join its batch
+   * @param maxQueued Number of calls waiting or in flight at most
+   * @param enqueueTimeout Time a caller blocks for room in the queue
+   */
+  public LivestockBatchingClient(
+      LivestockAsyncClient client,
+      int maxBatchSize,
+      Duration linger,
+      int maxQueued,
+      Duration enqueueTimeout) {
+    if (maxBatchSize < 1 || maxBatchSize > 100) {
+      throw new IllegalArgumentException("maxBatchSize must be between 1 and 100: " + maxBatchSize);
+    }
+    if (maxQueued < maxBatchSize) {
+      throw new IllegalArgumentException("maxQueued must be at least maxBatchSize: " + maxQueued);
+    }
+    this.client = client;
+    this.maxBatchSize = maxBatchSize;
+    this.lingerNanos = linger.toNanos();
+    this.enqueueTimeoutNanos = enqueueTimeout.toNanos();
+    this.maxQueued = maxQueued;
+    this.permits = new Semaphore(maxQueued);
+    this.scheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            task -> {
+              Thread thread = new Thread(task, "livestock-batch-linger");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.scheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  /**
+   * Records a livestock event in the next batch of the user's events.
+   *
+   * @param userId ID of the user
+   * @param request Event details
+   * @return Future completed with the recorded event
+   */
+  public CompletableFuture<Optional<LivestockEventResponse>> recordEvent(
+      Long userId, RecordEventRequest request) {
+    return enqueue(
+        eventLanes,
+        userId,
+        request,
+        id -> new Lane<>(id, eventLanes, client::recordEvents, BulkItemResponse::getEvent));
+  }
+
+  /**
+   * Records an expense in the next batch of the user's expenses.
+   *
+   * @param userId ID of the user
+   * @param request Expense details
+   * @return Future completed with the recorded expense
+   */
+  public CompletableFuture<Optional<ExpenseResponse>> recordExpense(
+      Long userId, RecordExpenseRequest request) {
+    return enqueue(
+        expenseLanes,
+        userId,
+        request,
+        id -> new Lane<>(id, expenseLanes, client::recordExpenses, BulkItemResponse::getExpense));
+  }
+
+  /**
+   * Returns the number of calls waiting or in flight.
+   *
+   * @return Calls not yet answered
+   */
+  public int queued() {
+    return maxQueued - permits.availablePermits();
+  }
+
+  /** Sends all waiting calls without lingering and stops the linger timer. */
+  @Override
+  public void close() {
+    closed = true;
+    eventLanes.values().forEach(Lane::flush);
+    expenseLanes.values().forEach(Lane::flush);
+    scheduler.shutdown();
+  }
+
+  private <Q, R> CompletableFuture<Optional<R>> enqueue(
+      ConcurrentMap<Long, Lane<Q, R>> lanes,
+      Long userId,
+      Q request,
+      Function<Long, Lane<Q, R>> newLane) {
+    if (closed) {
+      return CompletableFuture.failedFuture(
+          new RejectedExecutionException("Batching client is closed"));
+    }
+    try {
+      if (!permits.tryAcquire(enqueueTimeoutNanos, TimeUnit.NANOSECONDS)) {
+        return CompletableFuture.failedFuture(
+            new RejectedExecutionException(
+                "Batching queue full: " + maxQueued + " calls waiting or in flight"));
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return CompletableFuture.failedFuture(e);
+    }
+    Pending<Q, R> pending = new Pending<>(request, new CompletableFuture<>());
+    while (!lanes.computeIfAbsent(userId, newLane).add(pending)) {
+      // The lane retired between lookup and add; the next lookup creates a fresh one.
+    }
+    return pending.future;
+  }
+
+  private record Pending<Q, R>(Q request, CompletableFuture<Optional<R>> future) {}
+
+  /**
+   * Queue of one user's calls of one kind, with at most one batch in flight. A lane that runs
+   * empty retires from its map, so idle users hold no state.
+   */
+  private final class Lane<Q, R> {
+
+    private final Long userId;
+    private final ConcurrentMap<Long, Lane<Q, R>> lanes;
+    private final BiFunction<Long, List<Q>, CompletableFuture<List<BulkItemResponse>>> send;
+    private final Function<BulkItemResponse, R> result;
+    private final Queue<Pending<Q, R>> waiting = new ArrayDeque<>();
+    private ScheduledFuture<?> lingerTask;
+    private boolean sending;
+    private boolean retired;
+
+    Lane(
+        Long userId,
+        ConcurrentMap<Long, Lane<Q, R>> lanes,
+        BiFunction<Long, List<Q>, CompletableFuture<List<BulkItemResponse>>> send,
+        Function<BulkItemResponse, R> result) {
+      this.userId = userId;
+      this.lanes = lanes;
+      this.send = send;
+      this.result = result;
+    }
+
+    boolean add(Pending<Q, R> pending) {
+      List<Pending<Q, R>> batch;
+      synchronized (this) {
+        if (retired) {
+          return false;
+        }
+        waiting.add(pending);
+        if (sending) {
+          return true;
+        }
+        if (waiting.size() < maxBatchSize && !closed) {
+          if (lingerTask == null) {
+            lingerTask = scheduler.schedule(this::flush, lingerNanos, TimeUnit.NANOSECONDS);
+          }
+          return true;
+        }
+        batch = takeBatch();
+      }
+      send(batch);
+      return true;
+    }
+
+    void flush() {
+      List<Pending<Q, R>> batch;
+      synchronized (this) {
+        lingerTask = null;
+        if (sending || waiting.isEmpty()) {
+          return;
+        }
+        batch = takeBatch();
+      }
+      send(batch);
+    }
+
+    /** Takes the next batch off the queue; the caller holds the lane's lock. */
+    private List<Pending<Q, R>> takeBatch() {
+      if (lingerTask != null) {
+        lingerTask.cancel(false);
+        lingerTask = null;
+      }
+      List<Pending<Q, R>> batch = new ArrayList<>(Math.min(waiting.size(), maxBatchSize));
+      while (batch.size() < maxBatchSize && !waiting.isEmpty()) {
+        batch.add(waiting.poll());
+      }
+      sending = true;
+      return batch;
+    }
+
+    private void send(List<Pending<Q, R>> batch) {
+      CompletableFuture<List<BulkItemResponse>> response;
+      try {
+        response = send.apply(userId, batch.stream().map(Pending::request).toList());
+      } catch (RuntimeException e) {
+        response = CompletableFuture.failedFuture(e);
+      }
+      response.whenComplete((items, error) -> completed(batch, items, error));
+    }
+
+    private void completed(
+        List<Pending<Q, R>> batch, List<BulkItemResponse> items, Throwable error) {
+      permits.release(batch.size());
+      for (int i = 0; i < batch.size(); i++) {
+        CompletableFuture<Optional<R>> future = batch.get(i).future();
+        if (error != null) {
+          future.completeExceptionally(
+              error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error);
+        } else if (items == null || i >= items.size()) {
+          future.completeExceptionally(
+              new IllegalStateException("Bulk response has no item " + i + " of " + batch.size()));
+        } else {
+          complete(future, items.get(i));
+        }
+      }
+      List<Pending<Q, R>> next;
+      synchronized (this) {
+        sending = false;
+        if (waiting.isEmpty()) {
+          retired = true;
+          lanes.remove(userId, this);
+          return;
+        }
+        next = takeBatch();
+      }
+      send(next);
+    }
+
+    private void complete(CompletableFuture<Optional<R>> future, BulkItemResponse item) {
+      if (item.getStatus() >= 200 && item.getStatus() < 300) {
+        future.complete(Optional.ofNullable(result.apply(item)));
+      } else {
+        future.completeExceptionally(new LivestockException(item.getErrorCode(), item.getDetail()));
+      }
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package co.za.zwibvafhi.livestock.client;
 
 import co.za.zwibvafhi.livestock.common.LivestockException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import feign.Response;
 import feign.codec.ErrorDecoder;
@@ -35,6 +36,7 @@ public class LivestockFeignErrorDecoder implements ErrorDecoder {
   }
 
   /** DTO for parsing Problem Detail JSON. */
+  @JsonIgnoreProperties(ignoreUnknown = true)
   @Getter
   @Setter
   private static class ProblemDetailResponse {
@@ -0,0 +1,38 @@
+package co.za.zwibvafhi.livestock.client;
+
+import feign.Capability;
+import feign.Client;
+
+/**
+ * Wraps the Feign transport, whichever is configured, in the {@link ResiliencePolicy} and the
+ * {@link ConditionalGetCache}. The cache wraps the policy, so that fresh hits neither wait for nor
+ * count against the circuit. Public, as Feign enriches clients reflectively.
+ */
+public class LivestockTransportCapability implements Capability {
+
+  private final ResiliencePolicy resilience;
+  private final ConditionalGetCache cache;
+
+  /**
+   * Creates the capability.
+   *
+   * @param resilience Resilience policy, or null for none
+   * @param cache Conditional-GET cache, or null for none
+   */
+  public LivestockTransportCapability(ResiliencePolicy resilience, ConditionalGetCache cache) {
+    this.resilience = resilience;
+    this.cache = cache;
+  }
+
+  @Override
+  public Client enrich(Client client) {
+    Client enriched = client;
+    if (resilience != null) {
+      enriched = new ResilientFeignClient(enriched, resilience);
+    }
+    if (cache != null) {
+      enriched = new ConditionalGetFeignClient(enriched, cache);
+    }
+    return enriched;
+  }
+}
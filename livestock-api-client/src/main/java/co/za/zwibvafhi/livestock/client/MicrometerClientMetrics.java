@@ -0,0 +1,67 @@
+package co.za.zwibvafhi.livestock.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ClientMetrics} published to Micrometer: a {@code livestock.client.requests} timer with a
+ * percentile histogram per operation and outcome, and {@code livestock.client.retries},
+ * {@code livestock.client.hedges} and {@code livestock.client.rejections} counters per operation.
+ */
+final class MicrometerClientMetrics implements ClientMetrics {
+
+  private final MeterProvider<Timer> requests;
+  private final MeterProvider<Counter> retries;
+  private final MeterProvider<Counter> hedges;
+  private final MeterProvider<Counter> rejections;
+
+  /**
+   * Creates the metrics.
+   *
+   * @param registry Registry the meters are published to
+   */
+  MicrometerClientMetrics(MeterRegistry registry) {
+    this.requests =
+        Timer.builder("livestock.client.requests")
+            .description("Latency of livestock API calls sent, per copy of a hedged call")
+            .publishPercentileHistogram()
+            .withRegistry(registry);
+    this.retries =
+        Counter.builder("livestock.client.retries")
+            .description("Livestock API calls sent again after a transient failure")
+            .withRegistry(registry);
+    this.hedges =
+        Counter.builder("livestock.client.hedges")
+            .description("Second copies sent of slow livestock API calls")
+            .withRegistry(registry);
+    this.rejections =
+        Counter.builder("livestock.client.rejections")
+            .description("Livestock API calls rejected while the circuit was open")
+            .withRegistry(registry);
+  }
+
+  @Override
+  public void latency(String operation, String outcome, long nanos) {
+    requests
+        .withTags("operation", operation, "outcome", outcome)
+        .record(nanos, TimeUnit.NANOSECONDS);
+  }
+
+  @Override
+  public void retry(String operation) {
+    retries.withTag("operation", operation).increment();
+  }
+
+  @Override
+  public void hedge(String operation) {
+    hedges.withTag("operation", operation).increment();
+  }
+
+  @Override
+  public void rejection(String operation) {
+    rejections.withTag("operation", operation).increment();
+  }
+}
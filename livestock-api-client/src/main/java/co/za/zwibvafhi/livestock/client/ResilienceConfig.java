@@ -0,0 +1,99 @@
+package co.za.zwibvafhi.livestock.client;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link ResiliencePolicy} shared by {@link LivestockClient} and
+ * {@link LivestockAsyncClient}, on unless {@code livestock.api.resilience.enabled} is off.
+ */
+@Configuration
+public class ResilienceConfig {
+
+  /**
+   * Creates the policy retrying, hedging and circuit breaking livestock API calls.
+   *
+   * @param maxAttempts Number of times an idempotent call is sent at most
+   * @param backoff Backoff bound before the first retry, doubled for every further one
+   * @param maxBackoff Backoff bound at most
+   * @param hedging Whether slow GETs are sent a second time
+   * @param hedgeMinDelay Time a GET is waited for at least before it is hedged
+   * @param breakerWindow Number of last calls the failure rate is taken over
+   * @param breakerFailureRate Failure rate in percent at which the circuit opens
+   * @param breakerOpenDuration Time calls are rejected for once the circuit opened
+   * @param metrics Receiver of latencies, retries, hedges and rejections, if any
+   * @return Resilience policy
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "livestock.api.resilience.enabled", matchIfMissing = true)
+  public ResiliencePolicy livestockResiliencePolicy(
+      @Value("${livestock.api.resilience.max-attempts:3}") int maxAttempts,
+      @Value("${livestock.api.resilience.backoff:PT0.1S}") Duration backoff,
+      @Value("${livestock.api.resilience.max-backoff:PT2S}") Duration maxBackoff,
+      @Value("${livestock.api.resilience.hedging:true}") boolean hedging,
+      @Value("${livestock.api.resilience.hedge-min-delay:PT0.05S}") Duration hedgeMinDelay,
+      @Value("${livestock.api.resilience.breaker-window:20}") int breakerWindow,
+      @Value("${livestock.api.resilience.breaker-failure-rate:50}") int breakerFailureRate,
+      @Value("${livestock.api.resilience.breaker-open-duration:PT10S}")
+          Duration breakerOpenDuration,
+      ObjectProvider<ClientMetrics> metrics) {
+    return new ResiliencePolicy(
+        maxAttempts,
+        backoff,
+        maxBackoff,
+        hedging,
+        hedgeMinDelay,
+        breakerWindow,
+        breakerFailureRate,
+        breakerOpenDuration,
+        metrics.getIfAvailable(() -> ClientMetrics.NONE));
+  }
+
+  /** Publishes the policy's measurements when Micrometer is on the classpath. */
+  @Configuration
+  @ConditionalOnClass(MeterBinder.class)
+  static class ResilienceMetricsConfig {
+
+    /**
+     * Creates the metrics receiving per-operation latency histograms, retries, hedges and
+     * rejections.
+     *
+     * @param registry Meter registry, if any
+     * @return Micrometer metrics, or metrics discarding everything without a registry
+     */
+    @Bean
+    public ClientMetrics livestockClientMetrics(ObjectProvider<MeterRegistry> registry) {
+      MeterRegistry meters = registry.getIfAvailable();
+      return meters == null ? ClientMetrics.NONE : new MicrometerClientMetrics(meters);
+    }
+
+    /**
+     * Binds the {@code livestock.client.circuit.state} gauge: 0 closed, 1 open, 2 half-open.
+     *
+     * @param policy Resilience policy, if enabled
+     * @return Binder of the circuit gauge, binding nothing without a policy
+     */
+    @Bean
+    public MeterBinder livestockCircuitMetrics(ObjectProvider<ResiliencePolicy> policy) {
+      return registry -> {
+        ResiliencePolicy resilience = policy.getIfAvailable();
+        if (resilience != null) {
+          Gauge.builder(
+                  "livestock.client.circuit.state",
+                  resilience,
+                  p -> p.circuitState().ordinal())
+              .description("State of the livestock API circuit: 0 closed, 1 open, 2 half-open")
+              .register(registry);
+        }
+      };
+    }
+  }
+}
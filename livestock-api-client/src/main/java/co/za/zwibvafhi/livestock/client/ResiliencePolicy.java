@@ -0,0 +1,341 @@
+package co.za.zwibvafhi.livestock.client;
+
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Retries, hedging and circuit breaking of livestock API calls, shared by {@link LivestockClient}
+ * and {@link LivestockAsyncClient}.
+ *
+ * <ul>
+ *   <li>A call that fails in transport or is answered 429, 502, 503 or 504 is sent again, up to
+ *       {@code maxAttempts} times, after a backoff drawn uniformly between zero and
+ *       {@code backoff} doubled per attempt, at most {@code maxBackoff}. Only calls of idempotent
+ *       methods are retried; a POST is sent once, as the server does not deduplicate resent
+ *       events or expenses.
+ *   <li>A GET still unanswered after the 95th percentile latency of its operation's last
+ *       successful calls, and at least {@code hedgeMinDelay}, is sent a second time; whichever
+ *       copy answers first is used. This cuts the tail of a machine that is starting from idle.
+ *   <li>Transport failures and unavailable answers feed a {@link CircuitBreaker}. While it is open,
+ *       calls fail at once with {@link LivestockErrorCodes#SERVICE_UNAVAILABLE} instead of
+ *       queueing up behind a server that cannot answer.
+ * </ul>
+ */
+public final class ResiliencePolicy implements AutoCloseable {
+
+  private static final Set<String> IDEMPOTENT_METHODS =
+      Set.of("GET", "HEAD", "PUT", "DELETE", "OPTIONS");
+  private static final Set<Integer> UNAVAILABLE_STATUSES = Set.of(429, 502, 503, 504);
+  private static final int LATENCY_WINDOW_SIZE = 128;
+
+  private final int maxAttempts;
+  private final long backoffNanos;
+  private final long maxBackoffNanos;
+  private final boolean hedging;
+  private final long hedgeMinDelayNanos;
+  private final CircuitBreaker breaker;
+  private final ClientMetrics metrics;
+  private final ConcurrentMap<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+  private final ExecutorService executor;
+
+  /**
+   * Creates the policy.
+   *
+   * @param maxAttempts Number of times an idempotent call is sent at most
+   * @param backoff Backoff bound before the first retry, doubled for every further one
+   * @param maxBackoff Backoff bound at most
+   * @param hedging Whether slow GETs are sent a second time
+   * @param hedgeMinDelay Time a GET is waited for at least before it is hedged
+   * @param breakerWindow Number of last calls the circuit breaker's failure rate is taken over
+   * @param breakerFailureRate Failure rate in percent at which the circuit opens
+   * @param breakerOpenDuration Time calls are rejected for once the circuit opened
+   * @param metrics Receiver of latencies, retries, hedges and rejections
+   */
+  public ResiliencePolicy(
+      int maxAttempts,
+      Duration backoff,
+      Duration maxBackoff,
+      boolean hedging,
+      Duration hedgeMinDelay,
+      int breakerWindow,
+      int breakerFailureRate,
+      Duration breakerOpenDuration,
+      ClientMetrics metrics) {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+    }
+    this.maxAttempts = maxAttempts;
+    this.backoffNanos = backoff.toNanos();
+    this.maxBackoffNanos = maxBackoff.toNanos();
+    this.hedging = hedging;
+    this.hedgeMinDelayNanos = hedgeMinDelay.toNanos();
+    this.breaker = new CircuitBreaker(breakerWindow, breakerFailureRate, breakerOpenDuration);
+    this.metrics = metrics;
+    AtomicInteger threads = new AtomicInteger();
+    this.executor =
+        Executors.newCachedThreadPool(
+            task -> {
+              Thread thread =
+                  new Thread(task, "livestock-client-resilience-" + threads.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Tells whether a call may be sent again without risking a duplicate effect.
+   *
+   * @param method HTTP method
+   * @return Whether the call is idempotent
+   */
+  static boolean isIdempotent(String method) {
+    return IDEMPOTENT_METHODS.contains(method);
+  }
+
+  /**
+   * Sends a call under the policy.
+   *
+   * @param operation Name of the client operation, for latencies and metrics
+   * @param idempotent Whether the call may be retried
+   * @param hedgeable Whether the call may be hedged
+   * @param call Sends one copy of the call
+   * @param status Status of a response
+   * @param discard Releases a response that is not returned
+   * @param <R> Type of the response
+   * @return Future of the response of the last attempt
+   */
+  <R> CompletableFuture<R> execute(
+      String operation,
+      boolean idempotent,
+      boolean hedgeable,
+      Supplier<CompletableFuture<R>> call,
+      ToIntFunction<R> status,
+      Consumer<R> discard) {
+    CompletableFuture<R> result = new CompletableFuture<>();
+    new Call<>(operation, idempotent, hedgeable, call, status, discard, result).attempt(1);
+    return result;
+  }
+
+  /**
+   * Returns the executor retries and hedges are sent from, on which blocking calls may run.
+   *
+   * @return Executor of daemon threads
+   */
+  Executor executor() {
+    return executor;
+  }
+
+  /**
+   * Returns the state of the circuit breaker.
+   *
+   * @return Current state
+   */
+  CircuitBreaker.State circuitState() {
+    return breaker.state();
+  }
+
+  /** Stops the threads retries and hedges are sent from. */
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private static boolean isUnavailable(int status) {
+    return UNAVAILABLE_STATUSES.contains(status);
+  }
+
+  private static Throwable unwrap(Throwable error) {
+    while ((error instanceof CompletionException || error instanceof ExecutionException)
+        && error.getCause() != null) {
+      error = error.getCause();
+    }
+    return error;
+  }
+
+  private long backoffNanos(int attempt) {
+    long bound = Math.min(maxBackoffNanos, backoffNanos << Math.min(attempt - 1, 30));
+    return bound <= 0 ? 0 : ThreadLocalRandom.current().nextLong(bound + 1);
+  }
+
+  private long hedgeDelayNanos(String operation) {
+    if (!hedging) {
+      return -1;
+    }
+    long p95 = window(operation).p95();
+    return p95 < 0 ? -1 : Math.max(p95, hedgeMinDelayNanos);
+  }
+
+  private LatencyWindow window(String operation) {
+    return latencies.computeIfAbsent(operation, key -> new LatencyWindow(LATENCY_WINDOW_SIZE));
+  }
+
+  /** One call with its attempts. */
+  private final class Call<R> {
+
+    private final String operation;
+    private final boolean idempotent;
+    private final boolean hedgeable;
+    private final Supplier<CompletableFuture<R>> call;
+    private final ToIntFunction<R> status;
+    private final Consumer<R> discard;
+    private final CompletableFuture<R> result;
+
+    Call(
+        String operation,
+        boolean idempotent,
+        boolean hedgeable,
+        Supplier<CompletableFuture<R>> call,
+        ToIntFunction<R> status,
+        Consumer<R> discard,
+        CompletableFuture<R> result) {
+      this.operation = operation;
+      this.idempotent = idempotent;
+      this.hedgeable = hedgeable;
+      this.call = call;
+      this.status = status;
+      this.discard = discard;
+      this.result = result;
+    }
+
+    void attempt(int attempt) {
+      if (!breaker.tryAcquire()) {
+        metrics.rejection(operation);
+        result.completeExceptionally(
+            LivestockException.of(
+                LivestockErrorCodes.SERVICE_UNAVAILABLE,
+                LivestockConstants.MSG_CIRCUIT_OPEN,
+                operation));
+        return;
+      }
+      send().whenComplete(
+          (response, error) -> {
+            boolean transientFailure =
+                error != null
+                    ? unwrap(error) instanceof IOException
+                    : isUnavailable(status.applyAsInt(response));
+            if (!idempotent || !transientFailure || attempt >= maxAttempts) {
+              if (error != null) {
+                result.completeExceptionally(unwrap(error));
+              } else {
+                result.complete(response);
+              }
+              return;
+            }
+            if (response != null) {
+              discard.accept(response);
+            }
+            metrics.retry(operation);
+            CompletableFuture.delayedExecutor(backoffNanos(attempt), TimeUnit.NANOSECONDS, executor)
+                .execute(() -> attempt(attempt + 1));
+          });
+    }
+
+    /** Sends the call, and a second copy if it is hedgeable and slower than its operation's p95. */
+    private CompletableFuture<R> send() {
+      long delay = hedgeable ? hedgeDelayNanos(operation) : -1;
+      if (delay < 0) {
+        return launch();
+      }
+      Hedged hedged = new Hedged();
+      hedged.add(launch());
+      CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS, executor)
+          .execute(
+              () -> {
+                if (!hedged.isDone() && breaker.tryAcquire()) {
+                  metrics.hedge(operation);
+                  hedged.add(launch());
+                }
+              });
+      return hedged.first;
+    }
+
+    /** Sends one copy of the call and records its latency and outcome. */
+    private CompletableFuture<R> launch() {
+      long start = System.nanoTime();
+      CompletableFuture<R> sent;
+      try {
+        sent = call.get();
+      } catch (RuntimeException e) {
+        sent = CompletableFuture.failedFuture(e);
+      }
+      return sent.whenComplete(
+          (response, error) -> {
+            long nanos = System.nanoTime() - start;
+            boolean unreachable = error != null && unwrap(error) instanceof IOException;
+            boolean unavailable = error == null && isUnavailable(status.applyAsInt(response));
+            breaker.record(unreachable || unavailable);
+            String outcome = error != null ? "error" : unavailable ? "unavailable" : "success";
+            metrics.latency(operation, outcome, nanos);
+            if ("success".equals(outcome)) {
+              window(operation).add(nanos);
+            }
+          });
+    }
+
+    /** Copies of a hedged call, completing with the first success or the last failure. */
+    private final class Hedged {
+
+      private final CompletableFuture<R> first = new CompletableFuture<>();
+      private int running;
+      private boolean done;
+
+      synchronized boolean isDone() {
+        return done;
+      }
+
+      void add(CompletableFuture<R> copy) {
+        synchronized (this) {
+          if (!done) {
+            running++;
+            copy.whenComplete(this::settle);
+            return;
+          }
+        }
+        copy.thenAccept(this::discardIfPresent);
+      }
+
+      private void settle(R response, Throwable error) {
+        boolean succeeded = error == null && !isUnavailable(status.applyAsInt(response));
+        boolean settles;
+        synchronized (this) {
+          running--;
+          settles = !done && (succeeded || running == 0);
+          if (settles) {
+            done = true;
+          }
+        }
+        if (!settles) {
+          discardIfPresent(response);
+        } else if (error != null) {
+          first.completeExceptionally(error);
+        } else {
+          first.complete(response);
+        }
+      }
+
+      private void discardIfPresent(R response) {
+        if (response != null) {
+          discard.accept(response);
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package co.za.zwibvafhi.livestock.client;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Feign transport that sends calls under a {@link ResiliencePolicy}. A call that cannot be hedged
+ * is first sent on the calling thread; hedgeable GETs and all retries are sent from the policy's
+ * executor while the caller waits.
+ */
+final class ResilientFeignClient implements Client {
+
+  private final Client delegate;
+  private final ResiliencePolicy policy;
+
+  /**
+   * Creates the resilient transport.
+   *
+   * @param delegate Transport sending the calls
+   * @param policy Policy the calls are sent under
+   */
+  ResilientFeignClient(Client delegate, ResiliencePolicy policy) {
+    this.delegate = delegate;
+    this.policy = policy;
+  }
+
+  @Override
+  public Response execute(Request request, Request.Options options) throws IOException {
+    boolean idempotent = ResiliencePolicy.isIdempotent(request.httpMethod().name());
+    boolean hedgeable = request.httpMethod() == Request.HttpMethod.GET;
+    Supplier<CompletableFuture<Response>> call =
+        hedgeable
+            ? () -> CompletableFuture.supplyAsync(() -> send(request, options), policy.executor())
+            : () -> CompletableFuture.completedFuture(send(request, options));
+    try {
+      return policy
+          .execute(
+              operation(request), idempotent, hedgeable, call, Response::status, Response::close)
+          .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof IOException io) {
+        throw io;
+      }
+      if (e.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Sends one copy of a call, rethrowing a transport failure as a {@link CompletionException} so
+   * the policy sees its {@link IOException} cause.
+   */
+  private Response send(Request request, Request.Options options) {
+    try {
+      return delegate.execute(request, options);
+    } catch (IOException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  private static String operation(Request request) {
+    if (request.requestTemplate() != null && request.requestTemplate().methodMetadata() != null) {
+      return request.requestTemplate().methodMetadata().method().getName();
+    }
+    return request.httpMethod().name();
+  }
+}
@@ -1,7 +1,11 @@
 package co.za.zwibvafhi.livestock.api.contract;
 
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
 import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
 import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
 import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
@@ -11,8 +15,11 @@ import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
 import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
 import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -128,6 +135,68 @@ public interface LivestockApi {
           @Valid
       RecordExpenseRequest request);
 
+  /**
+   * Records a batch of livestock events in request order, each as its own recordEvent call.
+   *
+   * @param userId the ID of the user
+   * @param requests the event details, at most 100
+   * @return the outcome of every event, in request order
+   */
+  @Operation(
+      summary = "Record a batch of livestock events",
+      description =
+          "Records up to 100 events for a user in request order. Every event is validated and "
+              + "recorded on its own, so one rejected event does not affect the others; its "
+              + "item carries the status and error code of the single request.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed; see the status of each item",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = BulkItemResponse.class)))),
+        @ApiResponse(responseCode = "400", description = "Empty batch or more than 100 events")
+      })
+  List<BulkItemResponse> recordEvents(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Event details, in the order they are recorded",
+              required = true)
+          List<RecordEventRequest> requests);
+
+  /**
+   * Records a batch of expenses in request order, each as its own recordExpense call.
+   *
+   * @param userId the ID of the user
+   * @param requests the expense details, at most 100
+   * @return the outcome of every expense, in request order
+   */
+  @Operation(
+      summary = "Record a batch of livestock expenses",
+      description =
+          "Records up to 100 expenses for a user in request order. Every expense is validated "
+              + "and recorded on its own, so one rejected expense does not affect the others; "
+              + "its item carries the status and error code of the single request.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Batch processed; see the status of each item",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    array =
+                        @ArraySchema(schema = @Schema(implementation = BulkItemResponse.class)))),
+        @ApiResponse(responseCode = "400", description = "Empty batch or more than 100 expenses")
+      })
+  List<BulkItemResponse> recordExpenses(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @io.swagger.v3.oas.annotations.parameters.RequestBody(
+              description = "Expense details, in the order they are recorded",
+              required = true)
+          List<RecordExpenseRequest> requests);
+
   /**
    * Retrieves the current livestock count for a user and category.
    *
@@ -280,4 +349,131 @@ public interface LivestockApi {
       @Parameter(description = "Livestock category", required = true) LivestockCategory category,
       @Parameter(description = "Start date (inclusive), optional") LocalDate startDate,
       @Parameter(description = "End date (inclusive), optional") LocalDate endDate);
+
+  /**
+   * Retrieves expense costs per head-day for a user and livestock category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category
+   * @param startDate the start date (optional)
+   * @param endDate the end date (optional)
+   * @return the head-day cost report response
+   */
+  @Operation(
+      summary = "Retrieve cost per head-day",
+      description =
+          "Computes head-days for a user and livestock category from the herd's events and "
+              + "divides the expense totals of each expense category by them. Defaults to the "
+              + "period from the first recorded event until today.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Head-day cost report retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = HeadDayCostReportResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid date range"),
+        @ApiResponse(responseCode = "404", description = "User or count not found")
+      })
+  HeadDayCostReportResponse getHeadDayCostReport(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @Parameter(description = "Livestock category", required = true) LivestockCategory category,
+      @Parameter(description = "Start date (inclusive), optional") LocalDate startDate,
+      @Parameter(description = "End date (inclusive), optional") LocalDate endDate);
+
+  /**
+   * Retrieves a page of a herd's individual animals, ordered by tag number.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category
+   * @param status the livestock status
+   * @param gender the livestock gender (optional)
+   * @param after the tag number to continue after (optional)
+   * @param size the page size (max 100)
+   * @return the animal roster response
+   */
+  @Operation(
+      summary = "Retrieve herd roster",
+      description =
+          "Fetches the individual animals of a user's herd with their tag numbers, filtered by "
+              + "status (default ALIVE) and optionally gender. Pages are ordered by tag number; "
+              + "pass the returned nextCursor as 'after' to fetch the next page.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Roster retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = AnimalRosterResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid filter or page size"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+      })
+  AnimalRosterResponse getAnimals(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @Parameter(description = "Livestock category", required = true) LivestockCategory category,
+      @Parameter(description = "Livestock status, default ALIVE") LivestockStatus status,
+      @Parameter(description = "Livestock gender (MALE, FEMALE), optional") LivestockGender gender,
+      @Parameter(description = "Tag number to continue after (exclusive), optional") String after,
+      @Parameter(description = "Page size, default 100, max 100") int size);
+
+  /**
+   * Retrieves every event an animal was involved in.
+   *
+   * @param userId the ID of the user
+   * @param tagNumber the tag number of the animal
+   * @return the list of event responses, ordered by event date
+   */
+  @Operation(
+      summary = "Retrieve animal timeline",
+      description =
+          "Fetches the events (e.g., BIRTH, PURCHASE, SALE) an individual animal was involved "
+              + "in, ordered by event date.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Timeline retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = LivestockEventResponse.class))),
+        @ApiResponse(responseCode = "404", description = "Animal not found for user and tag")
+      })
+  List<LivestockEventResponse> getAnimalTimeline(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @Parameter(description = "Tag number (e.g., M1, F3)", required = true) String tagNumber);
+
+  /**
+   * Retrieves the changes of a user's records after a change sequence, for incremental sync.
+   *
+   * @param userId the ID of the user
+   * @param since the change sequence to continue after, 0 for a full sync
+   * @param size the maximum number of changes (max 100)
+   * @return the changes response
+   */
+  @Operation(
+      summary = "Retrieve changes since a cursor",
+      description =
+          "Fetches the events, expenses, animals, and counts of a user that changed after the "
+              + "given change sequence, in their current state. Pass the returned cursor as "
+              + "'since' on the next sync, right away while hasMore is true. Changes may be "
+              + "returned more than once and should be applied by ID. Changes are retained for "
+              + "a limited time; if fullResync is true, the client reloads its records and "
+              + "continues from the returned cursor.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ChangesResponse.class))),
+        @ApiResponse(responseCode = "400", description = "Invalid page size"),
+        @ApiResponse(responseCode = "404", description = "User not found")
+      })
+  ChangesResponse getChanges(
+      @Parameter(description = "User ID", required = true) Long userId,
+      @Parameter(description = "Change sequence to continue after, default 0") long since,
+      @Parameter(description = "Maximum number of changes, default 100, max 100") int size);
 }
@@ -0,0 +1,40 @@
+package co.za.zwibvafhi.livestock.api.contract;
+
+import co.za.zwibvafhi.livestock.api.dto.ProjectionRebuildResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/** Framework-agnostic API contract for maintaining the livestock count projections. */
+@Tag(
+    name = "Projection Administration",
+    description = "API for rebuilding livestock counts from the event log")
+public interface ProjectionAdminApi {
+
+  /**
+   * Rebuilds the livestock count of every herd from its latest snapshot and the events recorded
+   * after it. Only available in event-sourcing mode.
+   *
+   * @return the rebuild summary
+   */
+  @Operation(
+      summary = "Rebuild livestock count projections",
+      description =
+          "Replays the events recorded after each herd's latest snapshot, corrects counts that "
+              + "drifted from the event log, and records new snapshots.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Projections rebuilt successfully",
+            content =
+                @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = ProjectionRebuildResponse.class))),
+        @ApiResponse(
+            responseCode = "409",
+            description = "Event-sourcing mode is disabled, so events do not lock counts")
+      })
+  ProjectionRebuildResponse rebuildProjections();
+}
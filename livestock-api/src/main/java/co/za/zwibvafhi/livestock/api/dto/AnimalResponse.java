@@ -0,0 +1,23 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/** Response DTO for an individual animal of a herd. */
+@Data
+@Builder
+@Jacksonized
+public class AnimalResponse {
+
+  private String tagNumber;
+
+  private LivestockGender gender;
+
+  private LivestockStatus status;
+
+  private BigDecimal purchasePrice;
+}
@@ -0,0 +1,25 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/** Response DTO for a keyset-paginated page of a herd's animals, ordered by tag number. */
+@Data
+@Builder
+@Jacksonized
+public class AnimalRosterResponse {
+
+  private LivestockCategory category;
+
+  private LivestockStatus status;
+
+  private List<AnimalResponse> content;
+
+  private int size;
+
+  private String nextCursor;
+}
@@ -0,0 +1,26 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Response DTO for one item of a bulk request, at the item's position in the request. A recorded
+ * item carries status 200 and its event or expense; a rejected item carries the status, error
+ * code, and detail its single request would have been answered with.
+ */
+@Data
+@Builder
+@Jacksonized
+public class BulkItemResponse {
+
+  private int status;
+
+  private LivestockEventResponse event;
+
+  private ExpenseResponse expense;
+
+  private String errorCode;
+
+  private String detail;
+}
@@ -0,0 +1,32 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Response DTO for the changes of a user's records after a change sequence, with the current
+ * state of every changed event, expense, animal, and count. When {@code fullResync} is set, the
+ * changes after the requested cursor are no longer retained and the lists are empty: the client
+ * reloads its records and continues from the returned cursor.
+ */
+@Data
+@Builder
+@Jacksonized
+public class ChangesResponse {
+
+  private List<LivestockEventResponse> events;
+
+  private List<ExpenseResponse> expenses;
+
+  private List<AnimalResponse> animals;
+
+  private List<LivestockCountResponse> counts;
+
+  private long cursor;
+
+  private boolean hasMore;
+
+  private boolean fullResync;
+}
@@ -6,10 +6,12 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /** Response DTO for livestock expense details. */
 @Data
 @Builder
+@Jacksonized
 public class ExpenseResponse {
 
   private Long id;
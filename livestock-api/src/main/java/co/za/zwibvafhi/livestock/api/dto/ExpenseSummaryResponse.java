@@ -4,10 +4,12 @@ import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
 import java.math.BigDecimal;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /** Response DTO for expense summary by category. */
 @Data
 @Builder
+@Jacksonized
 public class ExpenseSummaryResponse {
 
   private ExpenseCategory expenseCategory;
@@ -0,0 +1,28 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/** Response DTO for head-day cost allocation over a period. */
+@Data
+@Builder
+@Jacksonized
+public class HeadDayCostReportResponse {
+
+  private LivestockCategory category;
+
+  private LocalDate startDate;
+
+  private LocalDate endDate;
+
+  private long headDays;
+
+  private BigDecimal averageHerdSize;
+
+  private List<HeadDayCostResponse> costs;
+}
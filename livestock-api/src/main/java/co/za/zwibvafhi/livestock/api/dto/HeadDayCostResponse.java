@@ -0,0 +1,20 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import java.math.BigDecimal;
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/** Response DTO for the cost of one expense category per head-day. */
+@Data
+@Builder
+@Jacksonized
+public class HeadDayCostResponse {
+
+  private ExpenseCategory expenseCategory;
+
+  private BigDecimal totalAmount;
+
+  private BigDecimal costPerHeadDay;
+}
@@ -0,0 +1,26 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
+
+/**
+ * Response DTO for a committed change to a herd, pushed to its user's stream. Event updates carry
+ * the count delta and the recorded event; expense updates carry the recorded expense.
+ */
+@Getter
+@Builder
+@Jacksonized
+public class HerdUpdateResponse {
+
+  private final LivestockCategory category;
+
+  private final int maleDelta;
+
+  private final int femaleDelta;
+
+  private final LivestockEventResponse event;
+
+  private final ExpenseResponse expense;
+}
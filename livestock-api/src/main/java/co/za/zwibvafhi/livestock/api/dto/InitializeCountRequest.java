@@ -5,10 +5,12 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /** Request DTO for initializing livestock count. */
 @Getter
 @Builder(toBuilder = true)
+@Jacksonized
 public class InitializeCountRequest {
 
   @NotNull(message = "Category is required")
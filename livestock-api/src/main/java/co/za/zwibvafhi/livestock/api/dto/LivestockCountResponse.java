@@ -3,10 +3,12 @@ package co.za.zwibvafhi.livestock.api.dto;
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /** Response DTO for livestock count. */
 @Getter
 @Builder(toBuilder = true)
+@Jacksonized
 public class LivestockCountResponse {
 
   private final Long userId;
@@ -3,10 +3,12 @@ package co.za.zwibvafhi.livestock.api.dto;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /** Response DTO for paginated livestock expenses. */
 @Data
 @Builder
+@Jacksonized
 public class PaginatedExpenseResponse {
 
   private List<ExpenseResponse> content;
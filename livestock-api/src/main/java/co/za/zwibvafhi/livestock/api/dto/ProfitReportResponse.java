@@ -4,10 +4,12 @@ import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
 import java.math.BigDecimal;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /** Response DTO for profit report. */
 @Data
 @Builder
+@Jacksonized
 public class ProfitReportResponse {
 
   private LivestockCategory category;
@@ -0,0 +1,20 @@
+package co.za.zwibvafhi.livestock.api.dto;
+
+import lombok.Builder;
+import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
+
+/** Response DTO for a rebuild of the livestock count projections from the event log. */
+@Data
+@Builder
+@Jacksonized
+public class ProjectionRebuildResponse {
+
+  private int herds;
+
+  private int correctedHerds;
+
+  private long replayedEvents;
+
+  private long durationMillis;
+}
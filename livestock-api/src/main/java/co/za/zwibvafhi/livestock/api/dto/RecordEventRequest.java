@@ -8,10 +8,12 @@ import java.math.BigDecimal;
 import java.util.List;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /** Request DTO for recording a livestock event. */
 @Data
 @Builder
+@Jacksonized
 public class RecordEventRequest {
 
   @NotNull(message = "Category is required")
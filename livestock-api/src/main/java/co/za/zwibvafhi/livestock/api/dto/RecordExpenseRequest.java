@@ -8,12 +8,14 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import lombok.Builder;
 import lombok.Data;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * Request DTO for recording a livestock expense.
  * */
 @Data
 @Builder
+@Jacksonized
 public class RecordExpenseRequest {
 
   @NotNull(message = "Category is required")
@@ -7,6 +7,7 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main application class for the Livestock Management System.
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 @SpringBootApplication
 @EnableFeignClients
 @EnableCaching
+@EnableScheduling
 @ComponentScan(basePackages = {"co.za.zwibvafhi.livestock.app", "co.za.zwibvafhi.livestock.core"})
 @EnableJpaRepositories(basePackages = "co.za.zwibvafhi.livestock.persistence.repository")
 @EntityScan(basePackages = "co.za.zwibvafhi.livestock.persistence.entity")
@@ -0,0 +1,35 @@
+package co.za.zwibvafhi.livestock.app.controller;
+
+import co.za.zwibvafhi.livestock.app.web.HerdStreamRegistry;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST controller streaming committed herd updates as server-sent events. The stream is tied to
+ * Spring MVC, so it is not part of the framework-agnostic API contracts.
+ * */
+@RestController
+@RequestMapping(LivestockConstants.BASE_PATH)
+@RequiredArgsConstructor
+public class HerdStreamController {
+
+  private final HerdStreamRegistry herdStreamRegistry;
+
+  /**
+   * Streams the count deltas and recorded events and expenses of a user's herds. Event updates
+   * are sent as {@code livestock-event} frames and expense updates as {@code expense} frames.
+   *
+   * @param userId ID of the user
+   * @return Emitter of the stream
+   */
+  @GetMapping(value = LivestockConstants.PATH_STREAM, produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public SseEmitter streamUpdates(@PathVariable("userId") Long userId) {
+    return herdStreamRegistry.subscribe(userId);
+  }
+}
@@ -1,8 +1,12 @@
 package co.za.zwibvafhi.livestock.app.controller;
 
 import co.za.zwibvafhi.livestock.api.contract.LivestockApi;
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
 import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
 import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
 import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
@@ -12,6 +16,12 @@ import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
 import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
 import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import co.za.zwibvafhi.livestock.app.web.CachedResponse;
+import co.za.zwibvafhi.livestock.app.web.HerdETag;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.core.service.BulkRecordService;
 import co.za.zwibvafhi.livestock.core.service.LivestockService;
 import jakarta.validation.Valid;
 import java.time.LocalDate;
@@ -28,45 +38,71 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * REST controller implementing the LivestockApi contract.
+ * REST controller implementing the LivestockApi contract. Responses are negotiated as JSON, CBOR,
+ * or Smile.
  * */
 @RestController
-@RequestMapping(value = "/api/v1/livestock", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(
+    value = LivestockConstants.BASE_PATH,
+    produces = {
+      MediaType.APPLICATION_JSON_VALUE,
+      MediaType.APPLICATION_CBOR_VALUE,
+      LivestockConstants.APPLICATION_SMILE_VALUE
+    })
 @RequiredArgsConstructor
 public class LivestockController implements LivestockApi {
 
   private final LivestockService livestockService;
+  private final BulkRecordService bulkRecordService;
 
   @Override
-  @PostMapping("/{userId}/counts")
+  @PostMapping(LivestockConstants.PATH_COUNTS)
   public Optional<LivestockCountResponse> initializeCount(
       @PathVariable("userId") Long userId, @Valid @RequestBody InitializeCountRequest request) {
     return livestockService.initializeCount(userId, request);
   }
 
   @Override
-  @PostMapping("/{userId}/events")
+  @PostMapping(LivestockConstants.PATH_EVENTS)
   public Optional<LivestockEventResponse> recordEvent(
       @PathVariable("userId") Long userId, @Valid @RequestBody RecordEventRequest request) {
     return livestockService.recordEvent(userId, request);
   }
 
   @Override
-  @PostMapping("/{userId}/expenses")
+  @PostMapping(LivestockConstants.PATH_EXPENSES)
   public Optional<ExpenseResponse> recordExpense(
       @PathVariable("userId") Long userId, @Valid @RequestBody RecordExpenseRequest request) {
     return livestockService.recordExpense(userId, request);
   }
 
   @Override
-  @GetMapping("/{userId}/counts")
+  @PostMapping(LivestockConstants.PATH_EVENTS_BATCH)
+  public List<BulkItemResponse> recordEvents(
+      @PathVariable("userId") Long userId, @RequestBody List<RecordEventRequest> requests) {
+    return bulkRecordService.recordEvents(userId, requests);
+  }
+
+  @Override
+  @PostMapping(LivestockConstants.PATH_EXPENSES_BATCH)
+  public List<BulkItemResponse> recordExpenses(
+      @PathVariable("userId") Long userId, @RequestBody List<RecordExpenseRequest> requests) {
+    return bulkRecordService.recordExpenses(userId, requests);
+  }
+
+  @Override
+  @CachedResponse
+  @HerdETag
+  @GetMapping(LivestockConstants.PATH_COUNTS)
   public Optional<LivestockCountResponse> getCurrentCount(
       @PathVariable("userId") Long userId, @RequestParam("category") LivestockCategory category) {
     return livestockService.getCurrentCount(userId, category);
   }
 
   @Override
-  @GetMapping("/{userId}/events")
+  @CachedResponse
+  @HerdETag
+  @GetMapping(LivestockConstants.PATH_EVENTS)
   public List<LivestockEventResponse> getEventHistory(
       @PathVariable("userId") Long userId,
       @RequestParam("category") LivestockCategory category,
@@ -75,7 +111,8 @@ public class LivestockController implements LivestockApi {
   }
 
   @Override
-  @GetMapping("/{userId}/profit")
+  @CachedResponse
+  @GetMapping(LivestockConstants.PATH_PROFIT)
   public List<ProfitReportResponse> getProfitReport(
       @PathVariable("userId") Long userId,
       @RequestParam("category") LivestockCategory category,
@@ -85,7 +122,8 @@ public class LivestockController implements LivestockApi {
   }
 
   @Override
-  @GetMapping("/{userId}/expenses")
+  @CachedResponse
+  @GetMapping(LivestockConstants.PATH_EXPENSES)
   public PaginatedExpenseResponse getExpenses(
       @PathVariable("userId") Long userId,
       @RequestParam("category") LivestockCategory category,
@@ -99,7 +137,8 @@ public class LivestockController implements LivestockApi {
   }
 
   @Override
-  @GetMapping("/{userId}/expense-summaries")
+  @CachedResponse
+  @GetMapping(LivestockConstants.PATH_EXPENSE_SUMMARIES)
   public List<ExpenseSummaryResponse> getExpenseSummaries(
       @PathVariable("userId") Long userId,
       @RequestParam("category") LivestockCategory category,
@@ -107,4 +146,42 @@ public class LivestockController implements LivestockApi {
       @RequestParam(value = "endDate", required = false) LocalDate endDate) {
     return livestockService.getExpenseSummaries(userId, category, startDate, endDate);
   }
+
+  @Override
+  @GetMapping(LivestockConstants.PATH_HEAD_DAY_COSTS)
+  public HeadDayCostReportResponse getHeadDayCostReport(
+      @PathVariable("userId") Long userId,
+      @RequestParam("category") LivestockCategory category,
+      @RequestParam(value = "startDate", required = false) LocalDate startDate,
+      @RequestParam(value = "endDate", required = false) LocalDate endDate) {
+    return livestockService.getHeadDayCostReport(userId, category, startDate, endDate);
+  }
+
+  @Override
+  @GetMapping(LivestockConstants.PATH_ANIMALS)
+  public AnimalRosterResponse getAnimals(
+      @PathVariable("userId") Long userId,
+      @RequestParam("category") LivestockCategory category,
+      @RequestParam(value = "status", defaultValue = "ALIVE") LivestockStatus status,
+      @RequestParam(value = "gender", required = false) LivestockGender gender,
+      @RequestParam(value = "after", required = false) String after,
+      @RequestParam(value = "size", defaultValue = "100") int size) {
+    return livestockService.getAnimals(userId, category, status, gender, after, size);
+  }
+
+  @Override
+  @GetMapping(LivestockConstants.PATH_ANIMAL_TIMELINE)
+  public List<LivestockEventResponse> getAnimalTimeline(
+      @PathVariable("userId") Long userId, @PathVariable("tagNumber") String tagNumber) {
+    return livestockService.getAnimalTimeline(userId, tagNumber);
+  }
+
+  @Override
+  @GetMapping(LivestockConstants.PATH_CHANGES)
+  public ChangesResponse getChanges(
+      @PathVariable("userId") Long userId,
+      @RequestParam(value = "since", defaultValue = "0") long since,
+      @RequestParam(value = "size", defaultValue = "100") int size) {
+    return livestockService.getChanges(userId, since, size);
+  }
 }
@@ -0,0 +1,27 @@
+package co.za.zwibvafhi.livestock.app.controller;
+
+import co.za.zwibvafhi.livestock.api.contract.ProjectionAdminApi;
+import co.za.zwibvafhi.livestock.api.dto.ProjectionRebuildResponse;
+import co.za.zwibvafhi.livestock.core.service.HerdProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST controller implementing the ProjectionAdminApi contract.
+ * */
+@RestController
+@RequestMapping(value = "/api/v1/admin/projections", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequiredArgsConstructor
+public class ProjectionAdminController implements ProjectionAdminApi {
+
+  private final HerdProjectionService herdProjectionService;
+
+  @Override
+  @PostMapping("/rebuild")
+  public ProjectionRebuildResponse rebuildProjections() {
+    return herdProjectionService.rebuildAll();
+  }
+}
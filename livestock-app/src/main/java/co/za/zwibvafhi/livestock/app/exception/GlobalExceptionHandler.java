@@ -1,13 +1,18 @@
 package co.za.zwibvafhi.livestock.app.exception;
 
 import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockErrorStatuses;
 import co.za.zwibvafhi.livestock.common.LivestockException;
 import co.za.zwibvafhi.livestock.common.ProblemDetailUtils;
+import co.za.zwibvafhi.livestock.core.util.LivestockErrors;
 import jakarta.validation.ConstraintViolationException;
 import java.util.stream.Collectors;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -36,24 +41,45 @@ public class GlobalExceptionHandler {
     return new ResponseEntity<>(problemDetail, HttpStatus.BAD_REQUEST);
   }
 
+  @ExceptionHandler(MethodArgumentNotValidException.class)
+  public ResponseEntity<ProblemDetail> handleMethodArgumentNotValidException(
+      MethodArgumentNotValidException ex) {
+    String detail =
+        ex.getBindingResult().getFieldErrors().stream()
+            .map(error -> error.getField() + ": " + error.getDefaultMessage())
+            .collect(Collectors.joining("; "));
+    ProblemDetail problemDetail =
+        ProblemDetailUtils.createProblemDetail(
+            HttpStatus.BAD_REQUEST, LivestockErrorCodes.INVALID_REQUEST, detail);
+    return new ResponseEntity<>(problemDetail, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(HttpMessageNotReadableException.class)
+  public ResponseEntity<ProblemDetail> handleHttpMessageNotReadableException(
+      HttpMessageNotReadableException ex) {
+    ProblemDetail problemDetail =
+        ProblemDetailUtils.createProblemDetail(
+            HttpStatus.BAD_REQUEST, LivestockErrorCodes.INVALID_REQUEST, ex.getMessage());
+    return new ResponseEntity<>(problemDetail, HttpStatus.BAD_REQUEST);
+  }
+
+  @ExceptionHandler(OptimisticLockingFailureException.class)
+  public ResponseEntity<ProblemDetail> handleOptimisticLockingFailureException(
+      OptimisticLockingFailureException ex) {
+    return handleLivestockException(LivestockErrors.translate(ex));
+  }
+
   @ExceptionHandler(Exception.class)
   public ResponseEntity<ProblemDetail> handleGenericException(Exception ex) {
     ProblemDetail problemDetail =
         ProblemDetailUtils.createProblemDetail(
-            HttpStatus.INTERNAL_SERVER_ERROR, "UNEXPECTED_ERROR", ex.getMessage());
+            HttpStatus.INTERNAL_SERVER_ERROR,
+            LivestockErrorCodes.UNEXPECTED_ERROR,
+            ex.getMessage());
     return new ResponseEntity<>(problemDetail, HttpStatus.INTERNAL_SERVER_ERROR);
   }
 
   private HttpStatus resolveStatus(String errorCode) {
-    return switch (errorCode) {
-      case LivestockErrorCodes.COUNT_EXISTS -> HttpStatus.CONFLICT;
-      case LivestockErrorCodes.COUNT_NOT_FOUND,
-          LivestockErrorCodes.USER_NOT_FOUND,
-          LivestockErrorCodes.EVENT_NOT_FOUND ->
-          HttpStatus.NOT_FOUND;
-      case LivestockErrorCodes.INVALID_REQUEST, LivestockErrorCodes.INVALID_EVENT_TYPE ->
-          HttpStatus.BAD_REQUEST;
-      default -> HttpStatus.INTERNAL_SERVER_ERROR;
-    };
+    return LivestockErrorStatuses.of(errorCode);
   }
 }
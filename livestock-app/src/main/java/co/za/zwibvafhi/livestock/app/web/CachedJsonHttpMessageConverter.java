@@ -0,0 +1,94 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * JSON converter that keeps the encoded bytes of {@link CachedResponse} bodies next to the cached
+ * value they were encoded from.
+ *
+ * <p>Cached service methods return the same instance on every hit, so encodings are keyed by the
+ * identity of the body and held with weak keys: an encoding lives exactly as long as the service
+ * cache keeps its value, and a hit is written straight to the response stream. Bodies of at least
+ * {@code gzipMinBytes} are sent gzip-compressed to clients that accept it; their compressed copy
+ * is made with the entry, so the size in bytes that bounds the encodings covers both of them.
+ */
+public class CachedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  private final Cache<Object, EncodedResponse> encodings;
+  private final int gzipMinBytes;
+
+  /**
+   * Creates the converter.
+   *
+   * @param objectMapper Object mapper used to encode bodies
+   * @param maxWeightBytes Maximum total size of kept encodings in bytes
+   * @param gzipMinBytes Minimum JSON size sent compressed, or a negative value to never compress
+   */
+  public CachedJsonHttpMessageConverter(
+      ObjectMapper objectMapper, long maxWeightBytes, int gzipMinBytes) {
+    super(objectMapper);
+    this.gzipMinBytes = gzipMinBytes;
+    this.encodings =
+        Caffeine.newBuilder()
+            .weakKeys()
+            .maximumWeight(maxWeightBytes)
+            .weigher((Object body, EncodedResponse encoded) -> encoded.weightBytes())
+            .build();
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException {
+    HttpServletRequest request = currentRequest();
+    if (request == null || !isCachedResponse(request)) {
+      super.writeInternal(object, type, outputMessage);
+      return;
+    }
+    EncodedResponse encoded = encodings.getIfPresent(object);
+    if (encoded == null) {
+      byte[] json = getObjectMapper().writeValueAsBytes(object);
+      encoded = new EncodedResponse(json, gzipMinBytes >= 0 && json.length >= gzipMinBytes);
+      encodings.put(object, encoded);
+    }
+    byte[] body = encoded.json();
+    HttpHeaders headers = outputMessage.getHeaders();
+    if (encoded.gzip() != null && acceptsGzip(request)) {
+      body = encoded.gzip();
+      headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+      headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+    headers.setContentLength(body.length);
+    outputMessage.getBody().write(body);
+  }
+
+  private static HttpServletRequest currentRequest() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    return attributes instanceof ServletRequestAttributes servletAttributes
+        ? servletAttributes.getRequest()
+        : null;
+  }
+
+  private static boolean isCachedResponse(HttpServletRequest request) {
+    return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE)
+            instanceof HandlerMethod handler
+        && handler.hasMethodAnnotation(CachedResponse.class);
+  }
+
+  private static boolean acceptsGzip(HttpServletRequest request) {
+    String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+    return acceptEncoding != null && acceptEncoding.contains("gzip");
+  }
+}
@@ -0,0 +1,16 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a controller method whose response body is served from a service cache, so its encoded
+ * JSON can be kept with the cached value by {@link CachedJsonHttpMessageConverter}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {}
@@ -0,0 +1,64 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encoded JSON of a cached response body, with its gzip encoding when the body is sent compressed.
+ * Both encodings are computed up front so the weight of the entry never changes once cached.
+ */
+final class EncodedResponse {
+
+  private final byte[] json;
+  private final byte[] gzip;
+
+  /**
+   * Creates the encodings of a body.
+   *
+   * @param json Encoded JSON
+   * @param compress Whether to also keep the gzip-compressed JSON
+   */
+  EncodedResponse(byte[] json, boolean compress) {
+    this.json = json;
+    this.gzip = compress ? compress(json) : null;
+  }
+
+  /**
+   * Returns the JSON bytes.
+   *
+   * @return Encoded JSON
+   */
+  byte[] json() {
+    return json;
+  }
+
+  /**
+   * Returns the gzip-compressed JSON bytes.
+   *
+   * @return Compressed JSON, or {@code null} if the body is not sent compressed
+   */
+  byte[] gzip() {
+    return gzip;
+  }
+
+  /**
+   * Returns the size of the encodings in bytes.
+   *
+   * @return Size in bytes
+   */
+  int weightBytes() {
+    return json.length + (gzip == null ? 0 : gzip.length);
+  }
+
+  private static byte[] compress(byte[] bytes) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, bytes.length / 4));
+    try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+      gzipOut.write(bytes);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return out.toByteArray();
+  }
+}
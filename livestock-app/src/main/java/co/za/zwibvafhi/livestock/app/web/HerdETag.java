@@ -0,0 +1,17 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET method of one herd, identified by its {@code userId} path variable and
+ * {@code category} request parameter, whose responses are validated by the herd's version through
+ * {@link HerdETagInterceptor}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface HerdETag {}
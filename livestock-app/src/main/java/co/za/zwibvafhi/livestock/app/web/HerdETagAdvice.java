@@ -0,0 +1,42 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Sets the weak ETag resolved by {@link HerdETagInterceptor} on the successful bodies of
+ * {@link HerdETag} methods, whatever media type and content coding they are written in.
+ */
+@ControllerAdvice
+public class HerdETagAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return returnType.hasMethodAnnotation(HerdETag.class);
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    if (request instanceof ServletServerHttpRequest servletRequest
+        && servletRequest.getServletRequest().getAttribute(HerdETagInterceptor.ETAG_ATTRIBUTE)
+            instanceof String etag) {
+      response.getHeaders().setETag(etag);
+      response.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
+    return body;
+  }
+}
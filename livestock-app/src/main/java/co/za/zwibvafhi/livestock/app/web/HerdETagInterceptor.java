@@ -0,0 +1,112 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.core.config.HerdVersions;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Enumeration;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Answers conditional requests to {@link HerdETag} methods from the herd's version alone.
+ *
+ * <p>The ETag of a herd is its {@link HerdVersions} version, read before the handler runs
+ * so it never describes a newer state than the body. A request whose {@code If-None-Match} holds
+ * the current ETag gets 304 without reaching the service cache or the database. Otherwise the
+ * ETag is kept as a request attribute and set by {@link HerdETagAdvice} on successful bodies only,
+ * so error responses are never validated.
+ *
+ * <p>The version does not depend on the negotiated media type or content coding, so the ETag is
+ * weak: JSON, CBOR and Smile bodies, gzip-compressed or not, are equivalent rather than
+ * byte-identical, and a client revalidates whichever representation it already holds. Responses
+ * vary on {@code Accept} so that shared caches keep the media types apart.
+ */
+@RequiredArgsConstructor
+public class HerdETagInterceptor implements HandlerInterceptor {
+
+  /** Request attribute holding the ETag of the requested herd. */
+  static final String ETAG_ATTRIBUTE = HerdETagInterceptor.class.getName() + ".etag";
+
+  private final HerdVersions herdVersions;
+
+  @Override
+  public boolean preHandle(
+      HttpServletRequest request, HttpServletResponse response, Object handler) {
+    if (!(handler instanceof HandlerMethod handlerMethod)
+        || !handlerMethod.hasMethodAnnotation(HerdETag.class)
+        || !HttpMethod.GET.matches(request.getMethod())) {
+      return true;
+    }
+    String etag = etagOf(request);
+    if (etag == null) {
+      return true;
+    }
+    if (matches(request.getHeaders(HttpHeaders.IF_NONE_MATCH), opaqueTag(etag))) {
+      response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+      response.setHeader(HttpHeaders.ETAG, etag);
+      response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+      return false;
+    }
+    request.setAttribute(ETAG_ATTRIBUTE, etag);
+    return true;
+  }
+
+  /**
+   * Builds the ETag of the herd addressed by a request.
+   *
+   * @param request HTTP request
+   * @return Weak ETag, or null if the user ID or category is missing or invalid
+   */
+  private String etagOf(HttpServletRequest request) {
+    @SuppressWarnings("unchecked")
+    Map<String, String> variables =
+        (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+    String category = request.getParameter("category");
+    if (variables == null || variables.get("userId") == null || category == null) {
+      return null;
+    }
+    try {
+      long version =
+          herdVersions.current(
+              Long.valueOf(variables.get("userId")), LivestockCategory.valueOf(category));
+      return "W/\"" + Long.toHexString(version) + "\"";
+    } catch (IllegalArgumentException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Checks whether any {@code If-None-Match} entity tag matches, using weak comparison.
+   *
+   * @param headers Values of the If-None-Match header
+   * @param etag Quoted opaque tag of the current ETag
+   * @return True if a listed tag or {@code *} matches
+   */
+  private static boolean matches(Enumeration<String> headers, String etag) {
+    while (headers.hasMoreElements()) {
+      for (String tag : headers.nextElement().split(",")) {
+        String trimmed = opaqueTag(tag.trim());
+        if (trimmed.equals(etag) || trimmed.equals("*")) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Strips the weakness indicator of an entity tag.
+   *
+   * @param tag Entity tag
+   * @return Quoted opaque tag
+   */
+  private static String opaqueTag(String tag) {
+    return tag.startsWith("W/") ? tag.substring(2) : tag;
+  }
+}
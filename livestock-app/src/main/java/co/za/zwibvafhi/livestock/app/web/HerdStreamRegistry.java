@@ -0,0 +1,352 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import co.za.zwibvafhi.livestock.core.event.HerdUpdatedEvent;
+import co.za.zwibvafhi.livestock.core.service.helper.ValidationHelper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * In-process fan-out of committed herd updates to the server-sent event streams of their users.
+ *
+ * <p>Subscribers are registered by user ID. An update is encoded once after its write commits and
+ * offered to every subscriber of the user; each subscriber buffers at most
+ * {@code livestock.stream.buffer-size} frames and drops the oldest when a slow client falls
+ * behind. Buffers are drained to the clients by {@code livestock.stream.dispatch-threads} shared
+ * threads, so an idle subscriber holds no thread. A heartbeat comment is sent every
+ * {@code livestock.stream.heartbeat-interval}, which keeps proxies from closing idle connections
+ * and detects clients that went away.
+ *
+ * <p>Writes block while a client does not read. A subscriber whose send has not returned within
+ * {@code livestock.stream.send-timeout} is evicted: it gets no more frames, its sending thread is
+ * interrupted, and the dispatcher runs one extra thread until that write returns, at the latest
+ * when the connector's write timeout fails it. The stream is then completed with an error, so
+ * stalled clients do not take dispatch threads away from the others. Interrupting a blocked
+ * servlet write rarely ends it, so extra threads are only added for at most
+ * {@code livestock.stream.max-stalled-sends} stalled writes at a time; writes stalled beyond that
+ * hold their dispatch thread until the connector fails them.
+ */
+@Component
+public class HerdStreamRegistry implements DisposableBean {
+
+  private static final Logger logger = LoggerFactory.getLogger(HerdStreamRegistry.class);
+  private static final String EVENT_FRAME = "livestock-event";
+  private static final String EXPENSE_FRAME = "expense";
+
+  /** Writes the pre-encoded JSON of a frame as is, instead of encoding it as a JSON string. */
+  private static final MediaType ENCODED_DATA =
+      new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+  private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+  private final ObjectMapper objectMapper;
+  private final ValidationHelper validationHelper;
+  private final ThreadPoolExecutor dispatcher;
+  private final int dispatchThreads;
+  private final int maxStalledSends;
+  private int extraThreads;
+  private final Duration timeout;
+  private final Duration sendTimeout;
+  private final int bufferSize;
+
+  /**
+   * Creates the herd stream registry.
+   *
+   * @param objectMapper Object mapper used to encode updates
+   * @param validationHelper Helper validating the subscribing user
+   * @param timeout Time after which a stream is closed, for the client to reconnect
+   * @param sendTimeout Time after which a subscriber whose send has not returned is evicted
+   * @param bufferSize Maximum number of frames buffered per subscriber
+   * @param dispatchThreads Number of threads writing buffered frames to clients
+   * @param maxStalledSends Number of stalled writes at most that an extra thread stands in for
+   */
+  public HerdStreamRegistry(
+      ObjectMapper objectMapper,
+      ValidationHelper validationHelper,
+      @Value("${livestock.stream.timeout:PT30M}") Duration timeout,
+      @Value("${livestock.stream.send-timeout:PT10S}") Duration sendTimeout,
+      @Value("${livestock.stream.buffer-size:64}") int bufferSize,
+      @Value("${livestock.stream.dispatch-threads:2}") int dispatchThreads,
+      @Value("${livestock.stream.max-stalled-sends:8}") int maxStalledSends) {
+    this.objectMapper = objectMapper;
+    this.validationHelper = validationHelper;
+    this.timeout = timeout;
+    this.sendTimeout = sendTimeout;
+    this.bufferSize = bufferSize;
+    this.dispatchThreads = dispatchThreads;
+    this.maxStalledSends = maxStalledSends;
+    AtomicInteger threadNumber = new AtomicInteger();
+    this.dispatcher =
+        new ThreadPoolExecutor(
+            dispatchThreads,
+            dispatchThreads,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "herd-stream-" + threadNumber.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  /**
+   * Opens a stream of a user's herd updates, starting with a heartbeat so the client sees the
+   * stream open.
+   *
+   * @param userId ID of the user
+   * @return Emitter of the stream
+   * @throws co.za.zwibvafhi.livestock.common.LivestockException if user not found
+   */
+  public SseEmitter subscribe(Long userId) {
+    validationHelper.validateUser(userId);
+    SseEmitter emitter = new SseEmitter(timeout.toMillis());
+    Subscriber subscriber = new Subscriber(userId, emitter);
+    subscribers.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+    emitter.onCompletion(() -> unsubscribe(subscriber));
+    emitter.onTimeout(() -> unsubscribe(subscriber));
+    emitter.onError(error -> unsubscribe(subscriber));
+    subscriber.offer(heartbeatFrame());
+    return emitter;
+  }
+
+  /**
+   * Pushes a herd update to the subscribers of its user once the write has committed.
+   *
+   * @param event Herd update event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHerdUpdated(HerdUpdatedEvent event) {
+    Set<Subscriber> userSubscribers = subscribers.get(event.userId());
+    if (userSubscribers == null || userSubscribers.isEmpty()) {
+      return;
+    }
+    String data;
+    try {
+      data = objectMapper.writeValueAsString(event.update());
+    } catch (JsonProcessingException e) {
+      logger.warn("Could not encode herd update of user {}", event.userId(), e);
+      return;
+    }
+    String name = event.update().getExpense() != null ? EXPENSE_FRAME : EVENT_FRAME;
+    for (Subscriber subscriber : userSubscribers) {
+      subscriber.offer(SseEmitter.event().name(name).data(data, ENCODED_DATA));
+    }
+  }
+
+  /** Sends a heartbeat comment to every subscriber. */
+  @Scheduled(fixedDelayString = "${livestock.stream.heartbeat-interval:PT15S}")
+  public void heartbeat() {
+    for (Set<Subscriber> userSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : userSubscribers) {
+        subscriber.offer(heartbeatFrame());
+      }
+    }
+  }
+
+  /** Evicts subscribers whose current send has not returned within the send timeout. */
+  @Scheduled(
+      initialDelayString = "${livestock.stream.send-timeout:PT10S}",
+      fixedDelayString = "${livestock.stream.send-timeout:PT10S}")
+  public void evictStalled() {
+    long now = System.nanoTime();
+    for (Set<Subscriber> userSubscribers : subscribers.values()) {
+      for (Subscriber subscriber : userSubscribers) {
+        subscriber.evictIfStalled(now);
+      }
+    }
+  }
+
+  @Override
+  public void destroy() {
+    dispatcher.shutdownNow();
+    subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+  }
+
+  private static SseEventBuilder heartbeatFrame() {
+    return SseEmitter.event().comment("heartbeat");
+  }
+
+  /**
+   * Removes a subscriber, and its user once the last subscriber is gone.
+   *
+   * @param subscriber Subscriber whose stream ended
+   */
+  private void unsubscribe(Subscriber subscriber) {
+    subscribers.computeIfPresent(
+        subscriber.userId,
+        (userId, userSubscribers) -> {
+          userSubscribers.remove(subscriber);
+          return userSubscribers.isEmpty() ? null : userSubscribers;
+        });
+  }
+
+  /**
+   * Adds a dispatcher thread standing in for one held by an evicted subscriber, unless the extra
+   * threads are at their bound.
+   *
+   * @return True if a thread was added and must be released once the stalled write returns
+   */
+  private synchronized boolean addExtraThread() {
+    if (extraThreads >= maxStalledSends) {
+      return false;
+    }
+    extraThreads++;
+    resizeDispatcher();
+    return true;
+  }
+
+  /** Removes a dispatcher thread added by {@link #addExtraThread()}. */
+  private synchronized void removeExtraThread() {
+    extraThreads--;
+    resizeDispatcher();
+  }
+
+  /** Sizes the dispatcher to the configured threads plus the extra ones, never below the former. */
+  private void resizeDispatcher() {
+    int size = dispatchThreads + Math.max(extraThreads, 0);
+    if (size > dispatcher.getMaximumPoolSize()) {
+      dispatcher.setMaximumPoolSize(size);
+      dispatcher.setCorePoolSize(size);
+    } else {
+      dispatcher.setCorePoolSize(size);
+      dispatcher.setMaximumPoolSize(size);
+    }
+  }
+
+  /** Stream of one client with its bounded frame buffer. */
+  private final class Subscriber {
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final ArrayDeque<SseEventBuilder> buffer = new ArrayDeque<>();
+    private boolean draining;
+    private boolean evicted;
+    private boolean extraThread;
+    private Thread sender;
+    private long sendStartedAt;
+
+    Subscriber(Long userId, SseEmitter emitter) {
+      this.userId = userId;
+      this.emitter = emitter;
+    }
+
+    /**
+     * Buffers a frame, dropping the oldest one if the buffer is full, and schedules a drain.
+     *
+     * @param frame Frame to send
+     */
+    void offer(SseEventBuilder frame) {
+      synchronized (this) {
+        if (evicted) {
+          return;
+        }
+        if (buffer.size() >= bufferSize) {
+          buffer.pollFirst();
+        }
+        buffer.addLast(frame);
+        if (draining) {
+          return;
+        }
+        draining = true;
+      }
+      dispatcher.execute(this::drain);
+    }
+
+    /** Sends buffered frames until the buffer is empty or the subscriber is evicted. */
+    private void drain() {
+      while (true) {
+        SseEventBuilder frame;
+        synchronized (this) {
+          frame = buffer.pollFirst();
+          if (frame == null) {
+            draining = false;
+            return;
+          }
+          sender = Thread.currentThread();
+          sendStartedAt = System.nanoTime();
+        }
+        Exception error = null;
+        try {
+          emitter.send(frame);
+        } catch (IOException | IllegalStateException e) {
+          error = e;
+        }
+        boolean stalled;
+        boolean releaseThread;
+        synchronized (this) {
+          sender = null;
+          stalled = evicted;
+          releaseThread = extraThread;
+        }
+        if (stalled) {
+          Thread.interrupted();
+          if (releaseThread) {
+            removeExtraThread();
+          }
+          emitter.completeWithError(
+              error != null ? error : new TimeoutException("Stream send timed out"));
+          return;
+        }
+        if (error != null) {
+          synchronized (this) {
+            buffer.clear();
+            draining = false;
+          }
+          unsubscribe(this);
+          emitter.completeWithError(error);
+          return;
+        }
+      }
+    }
+
+    /**
+     * Evicts the subscriber if its current send started before the send timeout. The emitter is
+     * completed by the sending thread once the write returns, as completing it takes the lock the
+     * write holds. The extra dispatcher thread is added before the eviction is visible to the
+     * sender, so the sender cannot release it first.
+     *
+     * @param now Current {@link System#nanoTime()}
+     */
+    void evictIfStalled(long now) {
+      Thread stalledSender;
+      boolean added;
+      synchronized (this) {
+        if (evicted || sender == null || now - sendStartedAt < sendTimeout.toNanos()) {
+          return;
+        }
+        added = addExtraThread();
+        extraThread = added;
+        evicted = true;
+        buffer.clear();
+        stalledSender = sender;
+      }
+      logger.warn("Evicting stream subscriber of user {} stalled for over {}", userId, sendTimeout);
+      if (!added) {
+        logger.warn("{} stalled stream sends already have extra threads", maxStalledSends);
+      }
+      unsubscribe(this);
+      stalledSender.interrupt();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package co.za.zwibvafhi.livestock.app.web;
+
+import co.za.zwibvafhi.livestock.core.config.HerdVersions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers the {@link CachedJsonHttpMessageConverter} ahead of the default JSON converter, and
+ * the {@link HerdETagInterceptor} that answers conditional requests.
+ */
+@Configuration
+public class ResponseCacheConfig implements WebMvcConfigurer {
+
+  private final ObjectMapper objectMapper;
+  private final HerdVersions herdVersions;
+  private final long maxWeightBytes;
+  private final int gzipMinBytes;
+
+  /**
+   * Creates the response cache configuration.
+   *
+   * @param objectMapper Application object mapper
+   * @param herdVersions Versions validating herd responses
+   * @param maxWeightBytes Maximum total size of kept encodings in bytes
+   * @param gzipMinBytes Minimum JSON size sent compressed, or a negative value to never compress
+   */
+  public ResponseCacheConfig(
+      ObjectMapper objectMapper,
+      HerdVersions herdVersions,
+      @Value("${livestock.response-cache.max-weight-bytes:33554432}") long maxWeightBytes,
+      @Value("${livestock.response-cache.gzip-min-bytes:2048}") int gzipMinBytes) {
+    this.objectMapper = objectMapper;
+    this.herdVersions = herdVersions;
+    this.maxWeightBytes = maxWeightBytes;
+    this.gzipMinBytes = gzipMinBytes;
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.add(
+        0, new CachedJsonHttpMessageConverter(objectMapper, maxWeightBytes, gzipMinBytes));
+  }
+
+  @Override
+  public void addInterceptors(InterceptorRegistry registry) {
+    registry.addInterceptor(new HerdETagInterceptor(herdVersions));
+  }
+}
@@ -0,0 +1,181 @@
+package co.za.zwibvafhi.livestock.benchmark;
+
+import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.client.FeignConfig;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.Headers;
+import feign.Param;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Records expenses through Feign over a local stub server from {@code threads} concurrent callers
+ * and counts the connections each transport opens: {@code urlConnection} is Feign's default
+ * {@code HttpURLConnection} client, whose keep-alive cache holds five connections per host;
+ * {@code pooled} is the Apache HttpClient 5 transport with a pool sized like
+ * {@code application-client.yaml}. Both use the JSON codec of {@link FeignConfig}.
+ *
+ * <p>On loopback a new connection costs next to nothing, so the throughput scores do not show
+ * what the pool saves. The number of connections the stub accepted per request is printed at the
+ * end of each trial; against a remote API each of them is a TCP and TLS handshake.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+public class ClientTransportBenchmark {
+
+  private static final byte[] EXPENSE_JSON =
+      ("{\"id\":7,\"userId\":1,\"category\":\"CATTLE\",\"expenseCategory\":\"FEED\","
+              + "\"amount\":100.00,\"description\":\"Lucerne\",\"date\":\"2024-06-01\"}")
+          .getBytes(StandardCharsets.UTF_8);
+
+  @org.openjdk.jmh.annotations.Param({"urlConnection", "pooled"})
+  private String transport;
+
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  private final AtomicLong connections = new AtomicLong();
+
+  private final AtomicLong requests = new AtomicLong();
+
+  private HttpServer server;
+
+  private ExecutorService serverExecutor;
+
+  private CloseableHttpClient httpClient;
+
+  private ExpenseApi api;
+
+  private RecordExpenseRequest request;
+
+  /**
+   * Starts the stub server and builds the client over the selected transport.
+   *
+   * @throws IOException If the stub server cannot be started
+   */
+  @Setup
+  public void setUp() throws IOException {
+    // Without TCP_NODELAY the stub's split header and body writes stall on delayed ACKs
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    serverExecutor = Executors.newFixedThreadPool(32);
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+    server.setExecutor(serverExecutor);
+    server.createContext(
+        "/",
+        exchange -> {
+          requests.incrementAndGet();
+          if (clientPorts.add(exchange.getRemoteAddress().getPort())) {
+            connections.incrementAndGet();
+          }
+          try (InputStream body = exchange.getRequestBody()) {
+            body.readAllBytes();
+          }
+          exchange.getResponseHeaders().set("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, EXPENSE_JSON.length);
+          try (OutputStream body = exchange.getResponseBody()) {
+            body.write(EXPENSE_JSON);
+          }
+        });
+    server.start();
+
+    Client client;
+    if ("pooled".equals(transport)) {
+      PoolingHttpClientConnectionManager connectionManager =
+          PoolingHttpClientConnectionManagerBuilder.create()
+              .setMaxConnTotal(200)
+              .setMaxConnPerRoute(50)
+              .build();
+      httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+      client = new ApacheHttp5Client(httpClient);
+    } else {
+      client = new Client.Default(null, null);
+    }
+    FeignConfig feignConfig = new FeignConfig("application/json");
+    api =
+        Feign.builder()
+            .client(client)
+            .encoder(feignConfig.feignEncoder())
+            .decoder(feignConfig.feignDecoder())
+            .target(ExpenseApi.class, "http://127.0.0.1:" + server.getAddress().getPort());
+    request =
+        RecordExpenseRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .expenseCategory(ExpenseCategory.FEED)
+            .amount(new BigDecimal("100.00"))
+            .description("Lucerne")
+            .expenseDate(LocalDate.of(2024, 6, 1))
+            .build();
+    if (api.recordExpense(1L, request).getId() != 7L) {
+      throw new IllegalStateException("Stub server answered an unexpected expense");
+    }
+  }
+
+  /**
+   * Stops the client and the stub server.
+   *
+   * @throws IOException If the HttpClient cannot be closed
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    System.out.printf(
+        "%n%s: %d connections for %d requests (%.2f per 1,000 requests)%n",
+        transport, connections.get(), requests.get(),
+        connections.get() * 1000.0 / requests.get());
+    if (httpClient != null) {
+      httpClient.close();
+    }
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public ExpenseResponse recordExpense() {
+    return api.recordExpense(1L, request);
+  }
+
+  /** Expense endpoint of the API, mapped with Feign's own contract. */
+  interface ExpenseApi {
+
+    @RequestLine("POST /api/v1/livestock/{userId}/expenses")
+    @Headers("Content-Type: application/json")
+    ExpenseResponse recordExpense(@Param("userId") Long userId, RecordExpenseRequest request);
+  }
+}
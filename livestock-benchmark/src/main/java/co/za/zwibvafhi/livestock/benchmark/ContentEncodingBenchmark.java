@@ -0,0 +1,109 @@
+package co.za.zwibvafhi.livestock.benchmark;
+
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Compares encoding and decoding an event history page in each media type the API negotiates:
+ * {@code json}, {@code cbor} and {@code smile}. The mappers are built like the API's message
+ * converters build theirs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContentEncodingBenchmark {
+
+  private static final int EVENTS = 500;
+
+  private static final TypeReference<List<LivestockEventResponse>> EVENT_LIST =
+      new TypeReference<>() {};
+
+  @Param({"json", "cbor", "smile"})
+  private String format;
+
+  private ObjectMapper objectMapper;
+
+  private List<LivestockEventResponse> events;
+
+  private byte[] encoded;
+
+  /**
+   * Builds a page of events with a fixed seed and checks that it survives a round trip.
+   *
+   * @throws IOException If the events cannot be encoded or decoded
+   */
+  @Setup
+  public void setUp() throws IOException {
+    objectMapper =
+        switch (format) {
+          case "json" -> Jackson2ObjectMapperBuilder.json().build();
+          case "cbor" -> Jackson2ObjectMapperBuilder.cbor().build();
+          case "smile" -> Jackson2ObjectMapperBuilder.smile().build();
+          default -> throw new IllegalArgumentException("Unknown format: " + format);
+        };
+    Random random = new Random(42);
+    LivestockEventType[] eventTypes = LivestockEventType.values();
+    LocalDate start = LocalDate.of(2015, 1, 1);
+    events = new ArrayList<>(EVENTS);
+    for (int i = 0; i < EVENTS; i++) {
+      LivestockEventType eventType = eventTypes[random.nextInt(eventTypes.length)];
+      events.add(
+          LivestockEventResponse.builder()
+              .id(100_000L + i)
+              .userId(42L)
+              .category(LivestockCategory.CATTLE)
+              .eventType(eventType)
+              .maleCount(random.nextInt(5))
+              .femaleCount(random.nextInt(5))
+              .eventDate(start.plusDays(random.nextInt(3_650)))
+              .salePrice(
+                  eventType == LivestockEventType.SALE
+                      ? BigDecimal.valueOf(random.nextInt(2_000_000), 2)
+                      : null)
+              .cost(
+                  eventType == LivestockEventType.PURCHASE
+                      ? BigDecimal.valueOf(random.nextInt(2_000_000), 2)
+                      : null)
+              .build());
+    }
+    encoded = encode();
+    if (!events.equals(decode())) {
+      throw new IllegalStateException("Round trip changed the events in " + format);
+    }
+  }
+
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return objectMapper.writeValueAsBytes(events);
+  }
+
+  @Benchmark
+  public List<LivestockEventResponse> decode() throws IOException {
+    return objectMapper.readValue(encoded, EVENT_LIST);
+  }
+}
@@ -0,0 +1,134 @@
+package co.za.zwibvafhi.livestock.benchmark;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockErrorStatuses;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.common.ProblemDetailUtils;
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+
+/**
+ * Compares the cost of turning a {@code COUNT_NOT_FOUND} failure into a 404 Problem Detail:
+ * {@code eager} throws an exception with a stack trace and a formatted message and resolves the
+ * status with a switch, as before; {@code stackless} throws {@link LivestockException}, which
+ * skips the stack trace and formats its message when rendered, and resolves the status with
+ * {@link LivestockErrorStatuses}. The exception is thrown {@code depth} frames below the handler,
+ * standing in for the controller, proxy, and service frames of a request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseBenchmark {
+
+  private static final String BASE_URI = "urn:livestock:error:";
+
+  @Param({"16", "128"})
+  private int depth;
+
+  private Long userId;
+
+  private LivestockCategory category;
+
+  /** Checks that both paths render the same response. */
+  @Setup
+  public void setUp() {
+    userId = 42L;
+    category = LivestockCategory.CATTLE;
+    if (!eager().equals(stackless())) {
+      throw new IllegalStateException("Responses differ: " + eager() + " != " + stackless());
+    }
+  }
+
+  @Benchmark
+  public ProblemDetail eager() {
+    try {
+      return descend(depth, this::eagerException);
+    } catch (EagerException ex) {
+      HttpStatus status = switchStatus(ex.errorCode);
+      ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, ex.getMessage());
+      problemDetail.setType(URI.create(BASE_URI + ex.errorCode));
+      problemDetail.setTitle(ex.errorCode);
+      return problemDetail;
+    }
+  }
+
+  @Benchmark
+  public ProblemDetail stackless() {
+    try {
+      return descend(depth, this::stacklessException);
+    } catch (LivestockException ex) {
+      return ProblemDetailUtils.createProblemDetail(
+          LivestockErrorStatuses.of(ex.getErrorCode()), ex.getErrorCode(), ex.getMessage());
+    }
+  }
+
+  private RuntimeException eagerException() {
+    return new EagerException(
+        LivestockErrorCodes.COUNT_NOT_FOUND,
+        String.format(LivestockConstants.MSG_COUNT_NOT_FOUND, userId, category));
+  }
+
+  private RuntimeException stacklessException() {
+    return LivestockException.of(
+        LivestockErrorCodes.COUNT_NOT_FOUND,
+        LivestockConstants.MSG_COUNT_NOT_FOUND, userId, category);
+  }
+
+  private static ProblemDetail descend(int depth, ExceptionFactory factory) {
+    if (depth == 0) {
+      throw factory.create();
+    }
+    return descend(depth - 1, factory);
+  }
+
+  private static HttpStatus switchStatus(String errorCode) {
+    return switch (errorCode) {
+      case LivestockErrorCodes.COUNT_EXISTS -> HttpStatus.CONFLICT;
+      case LivestockErrorCodes.COUNT_NOT_FOUND,
+          LivestockErrorCodes.USER_NOT_FOUND,
+          LivestockErrorCodes.EVENT_NOT_FOUND,
+          LivestockErrorCodes.ANIMAL_NOT_FOUND ->
+          HttpStatus.NOT_FOUND;
+      case LivestockErrorCodes.INVALID_REQUEST,
+          LivestockErrorCodes.INVALID_EVENT_TYPE,
+          LivestockErrorCodes.INVALID_PAGINATION ->
+          HttpStatus.BAD_REQUEST;
+      default -> HttpStatus.INTERNAL_SERVER_ERROR;
+    };
+  }
+
+  /** Creates the exception thrown at the bottom of the stack. */
+  @FunctionalInterface
+  private interface ExceptionFactory {
+    RuntimeException create();
+  }
+
+  /** The previous exception: full stack trace and an eagerly formatted message. */
+  private static final class EagerException extends RuntimeException {
+
+    private final String errorCode;
+
+    private EagerException(String errorCode, String message) {
+      super(message);
+      this.errorCode = errorCode;
+    }
+  }
+}
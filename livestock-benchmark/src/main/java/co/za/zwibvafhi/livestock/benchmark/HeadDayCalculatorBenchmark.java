@@ -0,0 +1,87 @@
+package co.za.zwibvafhi.livestock.benchmark;
+
+import co.za.zwibvafhi.livestock.core.service.helper.HeadDayCalculator;
+import co.za.zwibvafhi.livestock.core.service.helper.HeadDayCalculator.HerdDelta;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the sorted head-day sweep of {@link HeadDayCalculator} with evaluating the herd size
+ * day by day, on a synthetic herd with ten years of daily events.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadDayCalculatorBenchmark {
+
+  private static final LocalDate START = LocalDate.of(2015, 1, 1);
+
+  private static final LocalDate END = START.plusYears(10).minusDays(1);
+
+  private final HeadDayCalculator calculator = new HeadDayCalculator();
+
+  private List<HerdDelta> deltas;
+
+  private long currentHeads;
+
+  /** Builds a herd of roughly 500 head with births, purchases and exits on most days. */
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    deltas = new ArrayList<>();
+    long heads = 500;
+    for (long day = START.toEpochDay(); day <= END.toEpochDay(); day++) {
+      if (random.nextInt(10) < 7) {
+        long delta = random.nextInt(-6, 7);
+        if (heads + delta < 0) {
+          delta = -heads;
+        }
+        heads += delta;
+        deltas.add(new HerdDelta(day, delta));
+      }
+    }
+    currentHeads = heads;
+  }
+
+  @Benchmark
+  public long sweep() {
+    return calculator.integrate(currentHeads, deltas, START, END);
+  }
+
+  /** Evaluates the herd size of every day in the period from the deltas up to that day. */
+  @Benchmark
+  public long dayByDay() {
+    long baseline = currentHeads;
+    for (HerdDelta delta : deltas) {
+      baseline -= delta.delta();
+    }
+    long headDays = 0;
+    for (long day = START.toEpochDay(); day <= END.toEpochDay(); day++) {
+      long heads = baseline;
+      for (HerdDelta delta : deltas) {
+        if (delta.epochDay() > day) {
+          break;
+        }
+        heads += delta.delta();
+      }
+      headDays += heads;
+    }
+    return headDays;
+  }
+}
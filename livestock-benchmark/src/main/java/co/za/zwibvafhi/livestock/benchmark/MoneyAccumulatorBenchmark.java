@@ -0,0 +1,63 @@
+package co.za.zwibvafhi.livestock.benchmark;
+
+import co.za.zwibvafhi.livestock.core.util.MoneyAccumulator;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares summing 100,000 {@code DECIMAL(19,2)} amounts with {@link MoneyAccumulator} against the
+ * {@code reduce(BigDecimal.ZERO, BigDecimal::add)} stream it replaces.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyAccumulatorBenchmark {
+
+  private static final int ROWS = 100_000;
+
+  private List<BigDecimal> amounts;
+
+  /**
+   * Builds amounts between 0.01 and 100,000.00, one in ten null, and checks that both sums agree.
+   */
+  @Setup
+  public void setUp() {
+    SplittableRandom random = new SplittableRandom(42);
+    amounts = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      amounts.add(
+          random.nextInt(10) == 0 ? null : BigDecimal.valueOf(random.nextLong(1, 10_000_001), 2));
+    }
+    if (!reduce().equals(accumulator())) {
+      throw new IllegalStateException("Sums differ: " + reduce() + " != " + accumulator());
+    }
+  }
+
+  @Benchmark
+  public BigDecimal reduce() {
+    return amounts.stream().filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+
+  @Benchmark
+  public BigDecimal accumulator() {
+    return MoneyAccumulator.sum(amounts, Function.identity());
+  }
+}
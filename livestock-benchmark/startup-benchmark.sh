@@ -0,0 +1,60 @@
+#!/usr/bin/env bash
+#
+# Measures the time from launching livestock-app to its first answered request, the delay a
+# client sees when a stopped machine is started by its request.
+#
+# Usage: startup-benchmark.sh <app-dir> [runs]
+#
+# <app-dir> holds the extracted executable jar (app.jar and lib/) as built by the Dockerfile;
+# the cds mode is skipped unless it also holds the archive app.jsa. Each mode is started [runs]
+# times (default 5) with the default profile and its median is reported. Flyway is not on the
+# application's runtime classpath, so Hibernate creates the schema of the embedded database.
+
+set -euo pipefail
+
+APP_DIR=${1:?usage: startup-benchmark.sh <app-dir> [runs]}
+RUNS=${2:-5}
+PORT=${PORT:-18080}
+URL="http://localhost:${PORT}/actuator/health"
+
+now_ms() {
+  date +%s%3N
+}
+
+# Starts the application with the given JVM options and prints the milliseconds until it answers.
+first_response_ms() {
+  local start pid
+  start=$(now_ms)
+  (cd "$APP_DIR" && exec java -XX:MaxRAM=350m "$@" -jar app.jar --server.port="$PORT" \
+    --spring.jpa.hibernate.ddl-auto=create-drop) \
+    > /dev/null 2>&1 &
+  pid=$!
+  until curl -s -o /dev/null "$URL"; do
+    if ! kill -0 "$pid" 2> /dev/null; then
+      echo "application exited before answering" >&2
+      exit 1
+    fi
+    sleep 0.02
+  done
+  echo $(($(now_ms) - start))
+  kill "$pid"
+  wait "$pid" 2> /dev/null || true
+}
+
+measure() {
+  local mode=$1
+  shift
+  local samples=()
+  for _ in $(seq "$RUNS"); do
+    samples+=("$(first_response_ms "$@")")
+  done
+  local median
+  median=$(printf '%s\n' "${samples[@]}" | sort -n | awk '{ v[NR] = $1 } END { print v[int((NR + 1) / 2)] }')
+  printf '%-6s median %6d ms   runs: %s\n' "$mode" "$median" "${samples[*]}"
+}
+
+measure plain
+measure aot -Dspring.aot.enabled=true
+if [[ -f "$APP_DIR/app.jsa" ]]; then
+  measure cds -XX:SharedArchiveFile=app.jsa -Dspring.aot.enabled=true
+fi
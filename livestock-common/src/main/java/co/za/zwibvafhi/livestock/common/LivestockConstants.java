@@ -14,6 +14,36 @@ public final class LivestockConstants {
 
   public static final String CACHE_EXPENSE_SUMMARIES = "expense-summaries";
 
+  // Media types
+  public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+  // API paths, relative to BASE_PATH
+  public static final String BASE_PATH = "/api/v1/livestock";
+
+  public static final String PATH_COUNTS = "/{userId}/counts";
+
+  public static final String PATH_EVENTS = "/{userId}/events";
+
+  public static final String PATH_EXPENSES = "/{userId}/expenses";
+
+  public static final String PATH_EVENTS_BATCH = "/{userId}/events/batch";
+
+  public static final String PATH_EXPENSES_BATCH = "/{userId}/expenses/batch";
+
+  public static final String PATH_PROFIT = "/{userId}/profit";
+
+  public static final String PATH_EXPENSE_SUMMARIES = "/{userId}/expense-summaries";
+
+  public static final String PATH_HEAD_DAY_COSTS = "/{userId}/head-day-costs";
+
+  public static final String PATH_ANIMALS = "/{userId}/animals";
+
+  public static final String PATH_ANIMAL_TIMELINE = "/{userId}/animals/{tagNumber}/timeline";
+
+  public static final String PATH_CHANGES = "/{userId}/changes";
+
+  public static final String PATH_STREAM = "/{userId}/stream";
+
   // Error message templates
   public static final String MSG_COUNT_EXISTS = "Count already exists for user %d and category %s";
 
@@ -42,6 +72,25 @@ public final class LivestockConstants {
   public static final String MSG_INVALID_PAGINATION =
       "Invalid pagination parameters: page=%d, size=%d";
 
+  public static final String MSG_CIRCUIT_OPEN =
+      "Livestock API circuit is open after repeated failures; %s was not sent";
+
+  public static final String MSG_INVALID_BATCH_SIZE =
+      "Invalid batch size: %d, must be between 1 and %d";
+
+  public static final String MSG_INVALID_DATE_RANGE =
+      "Invalid date range: start date %s is after end date %s";
+
+  public static final String MSG_ANIMAL_NOT_FOUND = "Animal not found for user %d and tag %s";
+
+  public static final String MSG_DUPLICATE_LIVESTOCK_IDS = "Duplicate livestock IDs provided: %s";
+
+  public static final String MSG_CONCURRENT_MODIFICATION =
+      "%s was modified by a concurrent request, please retry";
+
+  public static final String MSG_PROJECTIONS_DISABLED =
+      "Count projections can only be rebuilt with livestock.event-sourcing.enabled";
+
   private LivestockConstants() {
     // Prevent instantiation
   }
@@ -29,6 +29,18 @@ public final class LivestockErrorCodes {
 
   public static final String INVALID_PAGINATION = "INVALID_PAGINATION";
 
+  public static final String ANIMAL_NOT_FOUND = "ANIMAL_NOT_FOUND";
+
+  public static final String DUPLICATE_LIVESTOCK_IDS = "DUPLICATE_LIVESTOCK_IDS";
+
+  public static final String CONCURRENT_MODIFICATION = "CONCURRENT_MODIFICATION";
+
+  public static final String SERVICE_UNAVAILABLE = "SERVICE_UNAVAILABLE";
+
+  public static final String PROJECTIONS_DISABLED = "PROJECTIONS_DISABLED";
+
+  public static final String UNEXPECTED_ERROR = "UNEXPECTED_ERROR";
+
   private LivestockErrorCodes() {
     // Prevent instantiation
   }
@@ -0,0 +1,44 @@
+package co.za.zwibvafhi.livestock.common;
+
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+
+/** HTTP statuses of {@link LivestockErrorCodes}, precomputed once per error code. */
+public final class LivestockErrorStatuses {
+
+  private static final Map<String, HttpStatus> STATUSES =
+      Map.ofEntries(
+          Map.entry(LivestockErrorCodes.COUNT_EXISTS, HttpStatus.CONFLICT),
+          Map.entry(LivestockErrorCodes.CONCURRENT_MODIFICATION, HttpStatus.CONFLICT),
+          Map.entry(LivestockErrorCodes.PROJECTIONS_DISABLED, HttpStatus.CONFLICT),
+          Map.entry(LivestockErrorCodes.SERVICE_UNAVAILABLE, HttpStatus.SERVICE_UNAVAILABLE),
+          Map.entry(LivestockErrorCodes.COUNT_NOT_FOUND, HttpStatus.NOT_FOUND),
+          Map.entry(LivestockErrorCodes.USER_NOT_FOUND, HttpStatus.NOT_FOUND),
+          Map.entry(LivestockErrorCodes.EVENT_NOT_FOUND, HttpStatus.NOT_FOUND),
+          Map.entry(LivestockErrorCodes.ANIMAL_NOT_FOUND, HttpStatus.NOT_FOUND),
+          Map.entry(LivestockErrorCodes.INVALID_REQUEST, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_EVENT_TYPE, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_SALE_PRICE, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.NEGATIVE_COUNT, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_EXPENSE_AMOUNT, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_EXPENSE_CATEGORY, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_PAGINATION, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.INVALID_LIVESTOCK_IDS, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.LIVESTOCK_ID_COUNT_MISMATCH, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.DUPLICATE_LIVESTOCK_IDS, HttpStatus.BAD_REQUEST),
+          Map.entry(LivestockErrorCodes.UNEXPECTED_ERROR, HttpStatus.INTERNAL_SERVER_ERROR));
+
+  private LivestockErrorStatuses() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Resolves the HTTP status of an error code.
+   *
+   * @param errorCode Error code
+   * @return Mapped status, or 500 for error codes without a mapping
+   */
+  public static HttpStatus of(String errorCode) {
+    return STATUSES.getOrDefault(errorCode, HttpStatus.INTERNAL_SERVER_ERROR);
+  }
+}
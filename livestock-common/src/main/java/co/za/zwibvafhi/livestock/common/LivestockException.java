@@ -2,19 +2,62 @@ package co.za.zwibvafhi.livestock.common;
 
 import lombok.Getter;
 
-/** Custom exception for livestock API errors. */
-@Getter
+/**
+ * Custom exception for livestock API errors.
+ *
+ * <p>Exceptions without a cause are expected business outcomes that are mapped to a response, so
+ * they do not capture a stack trace. Messages built from a {@link LivestockConstants} template with
+ * {@link #of} are only formatted when {@link #getMessage()} is first called.
+ */
 public class LivestockException extends RuntimeException {
 
-  private final String errorCode;
+  @Getter private final String errorCode;
+  private final String template;
+  private final Object[] args;
+  private String message;
 
   public LivestockException(String errorCode, String message) {
-    super(message);
+    super(message, null, false, false);
     this.errorCode = errorCode;
+    this.template = null;
+    this.args = null;
+    this.message = message;
+  }
+
+  private LivestockException(String errorCode, String template, Object[] args) {
+    super(null, null, false, false);
+    this.errorCode = errorCode;
+    this.template = template;
+    this.args = args;
   }
 
   public LivestockException(String errorCode, String message, Throwable cause) {
     super(message, cause);
     this.errorCode = errorCode;
+    this.template = null;
+    this.args = null;
+    this.message = message;
+  }
+
+  /**
+   * Creates an exception whose message is formatted from a template when first read. A factory
+   * rather than a constructor, so a {@link Throwable} argument can never bind to the cause
+   * constructor instead.
+   *
+   * @param errorCode Error code
+   * @param template Message template, e.g. one of the {@link LivestockConstants} messages
+   * @param args Template arguments
+   * @return Exception without a stack trace
+   */
+  public static LivestockException of(String errorCode, String template, Object... args) {
+    return new LivestockException(errorCode, template, args);
+  }
+
+  @Override
+  public String getMessage() {
+    if (message == null && template != null) {
+      message = String.format(template, args);
+    }
+    return message;
   }
 }
@@ -1,6 +1,8 @@
 package co.za.zwibvafhi.livestock.common;
 
 import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 
@@ -9,6 +11,8 @@ public final class ProblemDetailUtils {
 
   private static final String BASE_URI = "urn:livestock:error:";
 
+  private static final Map<String, URI> TYPES = new ConcurrentHashMap<>();
+
   private ProblemDetailUtils() {
     // Prevent instantiation
   }
@@ -16,7 +20,7 @@ public final class ProblemDetailUtils {
   public static ProblemDetail createProblemDetail(
       HttpStatus status, String errorCode, String detail) {
     ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, detail);
-    problemDetail.setType(URI.create(BASE_URI + errorCode));
+    problemDetail.setType(TYPES.computeIfAbsent(errorCode, code -> URI.create(BASE_URI + code)));
     problemDetail.setTitle(errorCode);
     return problemDetail;
   }
@@ -0,0 +1,179 @@
+package co.za.zwibvafhi.livestock.core.analytics;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Day-ordered column of amounts in cents with prefix sums, so that the total and count of any day
+ * range are a binary search and two array lookups.
+ */
+final class AmountColumn {
+
+  private final int[] days;
+
+  private final long[] prefixCents;
+
+  /**
+   * Builds a column from amounts ordered by day.
+   *
+   * @param days Epoch days, ascending
+   * @param cents Amounts in cents, aligned with days
+   * @param length Number of used entries in both arrays
+   * @throws ArithmeticException if the running total overflows
+   */
+  AmountColumn(int[] days, long[] cents, int length) {
+    this.days = Arrays.copyOf(days, length);
+    this.prefixCents = new long[length + 1];
+    for (int i = 0; i < length; i++) {
+      prefixCents[i + 1] = Math.addExact(prefixCents[i], cents[i]);
+    }
+  }
+
+  /**
+   * Returns the index of the first entry whose day is on or after the given day.
+   *
+   * @param from First index to search (inclusive)
+   * @param to Last index to search (exclusive)
+   * @param day Epoch day
+   * @return Insertion point of the day within the range
+   */
+  int lowerBound(int from, int to, long day) {
+    int low = from;
+    int high = to;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (days[mid] < day) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+    return low;
+  }
+
+  /**
+   * Sums the cents between two indexes.
+   *
+   * @param from First index (inclusive)
+   * @param to Last index (exclusive)
+   * @return Total in cents
+   */
+  long sumCents(int from, int to) {
+    return prefixCents[to] - prefixCents[from];
+  }
+
+  /**
+   * Returns the total amount of a day range, or zero without scale when the range is empty, the
+   * same as reducing the matching rows from {@link BigDecimal#ZERO}.
+   *
+   * @param startDay First epoch day (inclusive)
+   * @param endDay Last epoch day (inclusive)
+   * @return Total amount
+   */
+  BigDecimal total(long startDay, long endDay) {
+    int from = lowerBound(0, days.length, startDay);
+    int to = lowerBound(from, days.length, endDay + 1);
+    return toAmount(sumCents(from, to), to - from);
+  }
+
+  /**
+   * Returns the day of an entry.
+   *
+   * @param index Entry index
+   * @return Epoch day
+   */
+  int day(int index) {
+    return days[index];
+  }
+
+  /**
+   * Returns the amount of an entry.
+   *
+   * @param index Entry index
+   * @return Amount in cents
+   */
+  long cents(int index) {
+    return prefixCents[index + 1] - prefixCents[index];
+  }
+
+  /**
+   * Merges a range of this column with a range of another by day into target arrays, entries of
+   * this column first on equal days.
+   *
+   * @param from First index of this column (inclusive)
+   * @param to Last index of this column (exclusive)
+   * @param other Other column
+   * @param otherFrom First index of the other column (inclusive)
+   * @param otherTo Last index of the other column (exclusive)
+   * @param targetDays Target days
+   * @param targetCents Target amounts in cents
+   * @param at First target index
+   * @return Target index after the merged entries
+   */
+  int mergeInto(
+      int from,
+      int to,
+      AmountColumn other,
+      int otherFrom,
+      int otherTo,
+      int[] targetDays,
+      long[] targetCents,
+      int at) {
+    int i = from;
+    int j = otherFrom;
+    while (i < to || j < otherTo) {
+      if (j >= otherTo || (i < to && days[i] <= other.days[j])) {
+        targetDays[at] = days[i];
+        targetCents[at++] = cents(i++);
+      } else {
+        targetDays[at] = other.days[j];
+        targetCents[at++] = other.cents(j++);
+      }
+    }
+    return at;
+  }
+
+  /**
+   * Merges another column into a copy of this one by day.
+   *
+   * @param other Other column
+   * @return Merged column
+   * @throws ArithmeticException if the running total overflows
+   */
+  AmountColumn merge(AmountColumn other) {
+    int length = size() + other.size();
+    int[] mergedDays = new int[length];
+    long[] mergedCents = new long[length];
+    mergeInto(0, size(), other, 0, other.size(), mergedDays, mergedCents, 0);
+    return new AmountColumn(mergedDays, mergedCents, length);
+  }
+
+  /**
+   * Returns the number of entries in the column.
+   *
+   * @return Entry count
+   */
+  int size() {
+    return days.length;
+  }
+
+  /**
+   * Returns the approximate heap size of the column.
+   *
+   * @return Size in bytes
+   */
+  long weightBytes() {
+    return 32L + 4L * days.length + 8L * prefixCents.length;
+  }
+
+  /**
+   * Converts cents to an amount with two decimals, or zero without scale when no rows matched.
+   *
+   * @param cents Total in cents
+   * @param rows Number of rows summed
+   * @return Amount
+   */
+  static BigDecimal toAmount(long cents, int rows) {
+    return rows == 0 ? BigDecimal.ZERO : BigDecimal.valueOf(cents, 2);
+  }
+}
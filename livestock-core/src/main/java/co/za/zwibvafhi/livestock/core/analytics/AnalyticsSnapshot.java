@@ -0,0 +1,256 @@
+package co.za.zwibvafhi.livestock.core.analytics;
+
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable columnar copy of a herd's monetary history. Sales, event costs, and expenses are held
+ * as epoch-day and cent columns with prefix sums, expenses grouped by expense category ordinal, so
+ * any date range is answered without touching the database. Recorded events and expenses are merged
+ * into a copy with {@link #plus(AnalyticsSnapshot)} rather than reloading the herd.
+ */
+public final class AnalyticsSnapshot {
+
+  private static final ExpenseCategory[] EXPENSE_CATEGORIES = ExpenseCategory.values();
+
+  private final AmountColumn sales;
+
+  private final AmountColumn eventCosts;
+
+  private final AmountColumn expenses;
+
+  private final int[] expenseOffsets;
+
+  private final long purchaseCents;
+
+  private final int purchaseCount;
+
+  private AnalyticsSnapshot(
+      AmountColumn sales,
+      AmountColumn eventCosts,
+      AmountColumn expenses,
+      int[] expenseOffsets,
+      long purchaseCents,
+      int purchaseCount) {
+    this.sales = sales;
+    this.eventCosts = eventCosts;
+    this.expenses = expenses;
+    this.expenseOffsets = expenseOffsets;
+    this.purchaseCents = purchaseCents;
+    this.purchaseCount = purchaseCount;
+  }
+
+  /**
+   * Builds a snapshot from projected rows.
+   *
+   * @param eventRows Rows of event date, event type, sale price, and cost, ordered by event date
+   * @param expenseRows Rows of expense date, expense category, and amount, ordered by expense date
+   * @param purchasePrices Non-null purchase prices of the herd's livestock IDs
+   * @return Snapshot of the herd
+   * @throws ArithmeticException if an amount has fractional cents or a total overflows
+   */
+  public static AnalyticsSnapshot of(
+      List<Object[]> eventRows, List<Object[]> expenseRows, List<BigDecimal> purchasePrices) {
+    int[] saleDays = new int[eventRows.size()];
+    long[] saleCents = new long[eventRows.size()];
+    int[] costDays = new int[eventRows.size()];
+    long[] costCents = new long[eventRows.size()];
+    int saleCount = 0;
+    int costCount = 0;
+    for (Object[] row : eventRows) {
+      int day = toEpochDay(row[0]);
+      BigDecimal salePrice = (BigDecimal) row[2];
+      BigDecimal cost = (BigDecimal) row[3];
+      if (row[1] == LivestockEventType.SALE && salePrice != null) {
+        saleDays[saleCount] = day;
+        saleCents[saleCount++] = toCents(salePrice);
+      }
+      if (cost != null) {
+        costDays[costCount] = day;
+        costCents[costCount++] = toCents(cost);
+      }
+    }
+
+    int[] expenseDays = new int[expenseRows.size()];
+    long[] expenseCents = new long[expenseRows.size()];
+    byte[] expenseCategories = new byte[expenseRows.size()];
+    for (int i = 0; i < expenseRows.size(); i++) {
+      Object[] row = expenseRows.get(i);
+      expenseDays[i] = toEpochDay(row[0]);
+      expenseCategories[i] = (byte) ((ExpenseCategory) row[1]).ordinal();
+      expenseCents[i] = toCents((BigDecimal) row[2]);
+    }
+
+    long purchaseCents = 0;
+    for (BigDecimal price : purchasePrices) {
+      purchaseCents = Math.addExact(purchaseCents, toCents(price));
+    }
+
+    int[] offsets = new int[EXPENSE_CATEGORIES.length + 1];
+    for (byte ordinal : expenseCategories) {
+      offsets[ordinal + 1]++;
+    }
+    for (int i = 0; i < EXPENSE_CATEGORIES.length; i++) {
+      offsets[i + 1] += offsets[i];
+    }
+    int[] groupedDays = new int[expenseDays.length];
+    long[] groupedCents = new long[expenseCents.length];
+    int[] next = offsets.clone();
+    for (int i = 0; i < expenseCategories.length; i++) {
+      int target = next[expenseCategories[i]]++;
+      groupedDays[target] = expenseDays[i];
+      groupedCents[target] = expenseCents[i];
+    }
+
+    return new AnalyticsSnapshot(
+        new AmountColumn(saleDays, saleCents, saleCount),
+        new AmountColumn(costDays, costCents, costCount),
+        new AmountColumn(groupedDays, groupedCents, groupedDays.length),
+        offsets,
+        purchaseCents,
+        purchasePrices.size());
+  }
+
+  /**
+   * Returns a copy of this snapshot with the rows of another merged in, such as a snapshot built
+   * from the rows of one recorded event or expense. Only the merged columns are copied.
+   *
+   * @param delta Snapshot of the rows to add
+   * @return Merged snapshot
+   * @throws ArithmeticException if a total overflows
+   */
+  public AnalyticsSnapshot plus(AnalyticsSnapshot delta) {
+    int[] offsets = new int[expenseOffsets.length];
+    int length = expenses.size() + delta.expenses.size();
+    AmountColumn mergedExpenses = expenses;
+    if (delta.expenses.size() > 0) {
+      int[] days = new int[length];
+      long[] cents = new long[length];
+      for (int ordinal = 0; ordinal < EXPENSE_CATEGORIES.length; ordinal++) {
+        offsets[ordinal + 1] =
+            expenses.mergeInto(
+                expenseOffsets[ordinal],
+                expenseOffsets[ordinal + 1],
+                delta.expenses,
+                delta.expenseOffsets[ordinal],
+                delta.expenseOffsets[ordinal + 1],
+                days,
+                cents,
+                offsets[ordinal]);
+      }
+      mergedExpenses = new AmountColumn(days, cents, length);
+    } else {
+      offsets = expenseOffsets;
+    }
+    return new AnalyticsSnapshot(
+        delta.sales.size() > 0 ? sales.merge(delta.sales) : sales,
+        delta.eventCosts.size() > 0 ? eventCosts.merge(delta.eventCosts) : eventCosts,
+        mergedExpenses,
+        offsets,
+        Math.addExact(purchaseCents, delta.purchaseCents),
+        purchaseCount + delta.purchaseCount);
+  }
+
+  /**
+   * Returns the revenue from sale events in a date range.
+   *
+   * @param start Start date (inclusive)
+   * @param end End date (inclusive)
+   * @return Total revenue
+   */
+  public BigDecimal revenue(LocalDate start, LocalDate end) {
+    return sales.total(start.toEpochDay(), end.toEpochDay());
+  }
+
+  /**
+   * Returns the total expenses in a date range: event costs and expense records in the range, plus
+   * the purchase prices of the herd's livestock IDs.
+   *
+   * @param start Start date (inclusive)
+   * @param end End date (inclusive)
+   * @return Total expenses
+   */
+  public BigDecimal totalExpenses(LocalDate start, LocalDate end) {
+    long startDay = start.toEpochDay();
+    long endDay = end.toEpochDay();
+    long cents = 0;
+    int rows = 0;
+    for (int ordinal = 0; ordinal < EXPENSE_CATEGORIES.length; ordinal++) {
+      int categoryEnd = expenseOffsets[ordinal + 1];
+      int from = expenses.lowerBound(expenseOffsets[ordinal], categoryEnd, startDay);
+      int to = expenses.lowerBound(from, categoryEnd, endDay + 1);
+      cents += expenses.sumCents(from, to);
+      rows += to - from;
+    }
+    return eventCosts
+        .total(startDay, endDay)
+        .add(AmountColumn.toAmount(purchaseCents, purchaseCount))
+        .add(AmountColumn.toAmount(cents, rows));
+  }
+
+  /**
+   * Aggregates expenses by expense category in a date range, in the row shape of the expense
+   * summary query.
+   *
+   * @param start Start date (inclusive)
+   * @param end End date (inclusive)
+   * @return Arrays of expense category, total amount, and count, for categories with expenses
+   */
+  public List<Object[]> expenseSummaries(LocalDate start, LocalDate end) {
+    long startDay = start.toEpochDay();
+    long endDay = end.toEpochDay();
+    List<Object[]> summaries = new ArrayList<>();
+    for (int ordinal = 0; ordinal < EXPENSE_CATEGORIES.length; ordinal++) {
+      int categoryEnd = expenseOffsets[ordinal + 1];
+      int from = expenses.lowerBound(expenseOffsets[ordinal], categoryEnd, startDay);
+      int to = expenses.lowerBound(from, categoryEnd, endDay + 1);
+      if (to > from) {
+        summaries.add(
+            new Object[] {
+              EXPENSE_CATEGORIES[ordinal],
+              BigDecimal.valueOf(expenses.sumCents(from, to), 2),
+              (long) (to - from)
+            });
+      }
+    }
+    return summaries;
+  }
+
+  /**
+   * Returns the approximate heap size of the snapshot, used to bound the snapshot cache.
+   *
+   * @return Size in bytes
+   */
+  public long weightBytes() {
+    return 64L
+        + sales.weightBytes()
+        + eventCosts.weightBytes()
+        + expenses.weightBytes()
+        + 4L * expenseOffsets.length;
+  }
+
+  /**
+   * Converts a date column value to an epoch day.
+   *
+   * @param date Date value
+   * @return Epoch day
+   */
+  private static int toEpochDay(Object date) {
+    return Math.toIntExact(((LocalDate) date).toEpochDay());
+  }
+
+  /**
+   * Converts an amount to whole cents.
+   *
+   * @param amount Amount with at most two decimals
+   * @return Amount in cents
+   * @throws ArithmeticException if the amount has fractional cents or does not fit in a long
+   */
+  private static long toCents(BigDecimal amount) {
+    return amount.movePointRight(2).longValueExact();
+  }
+}
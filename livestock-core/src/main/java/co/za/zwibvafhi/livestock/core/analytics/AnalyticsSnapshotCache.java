@@ -0,0 +1,221 @@
+package co.za.zwibvafhi.livestock.core.analytics;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockExpense;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockId;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockEventRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockExpenseRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Holds one {@link AnalyticsSnapshot} per user and livestock category when analytics snapshots are
+ * enabled with {@code livestock.analytics.enabled}. Snapshots are loaded on first use and bounded
+ * by their size in bytes ({@code livestock.analytics.max-weight-bytes}).
+ *
+ * <p>Once a recorded event or expense commits, its rows are merged into the cached snapshot of its
+ * herd. A snapshot whose load had not finished before the write began to commit may already hold
+ * the rows, so it is dropped and loaded again instead.
+ */
+@Component
+public class AnalyticsSnapshotCache {
+
+  private final LivestockEventRepository eventRepository;
+  private final LivestockExpenseRepository expenseRepository;
+  private final LivestockIdRepository livestockIdRepository;
+  private final boolean enabled;
+  private final Cache<HerdKey, Loaded> snapshots;
+
+  /**
+   * Creates the snapshot cache.
+   *
+   * @param eventRepository Event repository
+   * @param expenseRepository Expense repository
+   * @param livestockIdRepository Livestock ID repository
+   * @param enabled Whether snapshots are used
+   * @param maxWeightBytes Maximum total size of cached snapshots in bytes
+   */
+  public AnalyticsSnapshotCache(
+      LivestockEventRepository eventRepository,
+      LivestockExpenseRepository expenseRepository,
+      LivestockIdRepository livestockIdRepository,
+      @Value("${livestock.analytics.enabled:false}") boolean enabled,
+      @Value("${livestock.analytics.max-weight-bytes:67108864}") long maxWeightBytes) {
+    this.eventRepository = eventRepository;
+    this.expenseRepository = expenseRepository;
+    this.livestockIdRepository = livestockIdRepository;
+    this.enabled = enabled;
+    this.snapshots =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(
+                (HerdKey key, Loaded loaded) ->
+                    (int) Math.min(Integer.MAX_VALUE, loaded.snapshot().weightBytes()))
+            .build();
+  }
+
+  /**
+   * Returns the snapshot of a herd, loading it if needed.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Snapshot, or empty if snapshots are disabled or the herd cannot be represented in cents
+   */
+  public Optional<AnalyticsSnapshot> find(Long userId, LivestockCategory category) {
+    if (!enabled) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(snapshots.get(new HerdKey(userId, category), this::load))
+        .map(Loaded::snapshot);
+  }
+
+  /**
+   * Merges a recorded event, and the purchase prices of the livestock IDs it created, into the
+   * snapshot of its herd once the current transaction commits.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param event Recorded event
+   * @param newIds Livestock IDs created by the event
+   */
+  public void addEventAfterCommit(
+      Long userId, LivestockCategory category, LivestockEvent event, List<LivestockId> newIds) {
+    if (!enabled) {
+      return;
+    }
+    List<BigDecimal> purchasePrices =
+        newIds.stream().map(LivestockId::getPurchasePrice).filter(Objects::nonNull).toList();
+    Object[] row = {
+      event.getEventDate(), event.getEventType(), event.getSalePrice(), event.getCost()
+    };
+    mergeAfterCommit(
+        new HerdKey(userId, category), List.<Object[]>of(row), List.of(), purchasePrices);
+  }
+
+  /**
+   * Merges a recorded expense into the snapshot of its herd once the current transaction commits.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param expense Recorded expense
+   */
+  public void addExpenseAfterCommit(
+      Long userId, LivestockCategory category, LivestockExpense expense) {
+    if (!enabled) {
+      return;
+    }
+    Object[] row = {expense.getExpenseDate(), expense.getExpenseCategory(), expense.getAmount()};
+    mergeAfterCommit(new HerdKey(userId, category), List.of(), List.<Object[]>of(row), List.of());
+  }
+
+  /**
+   * Merges rows into a cached snapshot once the current transaction commits. The time the commit
+   * began is taken before it, so a snapshot loaded after that time is known to be unsafe to merge
+   * into. Without a transaction the write has already committed, so the snapshot is dropped.
+   *
+   * @param key Herd key
+   * @param eventRows Event rows to merge
+   * @param expenseRows Expense rows to merge
+   * @param purchasePrices Purchase prices to merge
+   */
+  private void mergeAfterCommit(
+      HerdKey key,
+      List<Object[]> eventRows,
+      List<Object[]> expenseRows,
+      List<BigDecimal> purchasePrices) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      snapshots.invalidate(key);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          private long commitStartedNanos = Long.MIN_VALUE;
+
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            commitStartedNanos = System.nanoTime();
+          }
+
+          @Override
+          public void afterCommit() {
+            snapshots
+                .asMap()
+                .computeIfPresent(
+                    key,
+                    (herd, loaded) ->
+                        merge(loaded, commitStartedNanos, eventRows, expenseRows, purchasePrices));
+          }
+        });
+  }
+
+  /**
+   * Merges rows into a loaded snapshot.
+   *
+   * @param loaded Cached snapshot
+   * @param commitStartedNanos {@link System#nanoTime()} before the rows began to commit
+   * @param eventRows Event rows to merge
+   * @param expenseRows Expense rows to merge
+   * @param purchasePrices Purchase prices to merge
+   * @return Merged snapshot, or null to drop it when it may hold the rows or a total overflows
+   */
+  private static Loaded merge(
+      Loaded loaded,
+      long commitStartedNanos,
+      List<Object[]> eventRows,
+      List<Object[]> expenseRows,
+      List<BigDecimal> purchasePrices) {
+    if (commitStartedNanos == Long.MIN_VALUE
+        || loaded.loadedNanos() - commitStartedNanos >= 0) {
+      return null;
+    }
+    try {
+      return new Loaded(
+          loaded.snapshot().plus(AnalyticsSnapshot.of(eventRows, expenseRows, purchasePrices)),
+          loaded.loadedNanos());
+    } catch (ArithmeticException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Loads a herd's snapshot from the database.
+   *
+   * @param key Herd key
+   * @return Snapshot with the time its queries finished, or null if an amount cannot be represented
+   *     in cents
+   */
+  private Loaded load(HerdKey key) {
+    try {
+      AnalyticsSnapshot snapshot =
+          AnalyticsSnapshot.of(
+              eventRepository.findAmountsByUserUserIdAndCategory(key.userId(), key.category()),
+              expenseRepository.findAmountsByUserUserIdAndCategory(key.userId(), key.category()),
+              livestockIdRepository.findPurchasePricesByUserUserIdAndCategory(
+                  key.userId(), key.category()));
+      return new Loaded(snapshot, System.nanoTime());
+    } catch (ArithmeticException e) {
+      return null;
+    }
+  }
+
+  /** Cache key of a user's herd of one livestock category. */
+  private record HerdKey(Long userId, LivestockCategory category) {}
+
+  /**
+   * Cached snapshot of a herd.
+   *
+   * @param snapshot Snapshot, with the rows merged since it was loaded
+   * @param loadedNanos {@link System#nanoTime()} once the queries it was loaded from finished
+   */
+  private record Loaded(AnalyticsSnapshot snapshot, long loadedNanos) {}
+}
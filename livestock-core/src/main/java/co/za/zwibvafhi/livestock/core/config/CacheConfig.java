@@ -1,9 +1,11 @@
 package co.za.zwibvafhi.livestock.core.config;
 
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.concurrent.TimeUnit;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -14,6 +16,9 @@ import org.springframework.context.annotation.Configuration;
 @EnableCaching
 public class CacheConfig {
 
+  /** Bean name of the {@link HerdCacheKeyGenerator}. */
+  public static final String HERD_KEY_GENERATOR = "herdKeyGenerator";
+
   /**
    * Configures the cache manager with Caffeine.
    *
@@ -21,9 +26,25 @@ public class CacheConfig {
    */
   @Bean
   public CaffeineCacheManager cacheManager() {
-    CaffeineCacheManager cacheManager = new CaffeineCacheManager("counts", "events");
+    CaffeineCacheManager cacheManager =
+        new CaffeineCacheManager(
+            LivestockConstants.CACHE_COUNTS,
+            LivestockConstants.CACHE_EVENTS,
+            LivestockConstants.CACHE_PROFITS,
+            LivestockConstants.CACHE_EXPENSES,
+            LivestockConstants.CACHE_EXPENSE_SUMMARIES);
     cacheManager.setCaffeine(
         Caffeine.newBuilder().expireAfterWrite(1, TimeUnit.HOURS).maximumSize(1000));
     return cacheManager;
   }
+
+  /**
+   * Configures the key generator of herd queries.
+   *
+   * @return Key generator producing {@link HerdCacheKey}s
+   */
+  @Bean(HERD_KEY_GENERATOR)
+  public KeyGenerator herdKeyGenerator() {
+    return new HerdCacheKeyGenerator();
+  }
 }
@@ -0,0 +1,64 @@
+package co.za.zwibvafhi.livestock.core.config;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.core.event.HerdChangedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts every cached query of a herd once a write to that herd commits. Entries are matched by
+ * their {@link HerdCacheKey}, so queries with dates, filters, or paging are evicted as well. The
+ * herd's {@link HerdVersions} stamp is bumped after the eviction.
+ */
+@Component
+@RequiredArgsConstructor
+public class HerdCacheEvictor {
+
+  private static final List<String> HERD_CACHES =
+      List.of(
+          LivestockConstants.CACHE_COUNTS,
+          LivestockConstants.CACHE_EVENTS,
+          LivestockConstants.CACHE_PROFITS,
+          LivestockConstants.CACHE_EXPENSES,
+          LivestockConstants.CACHE_EXPENSE_SUMMARIES);
+
+  private final CacheManager cacheManager;
+  private final HerdVersions herdVersions;
+
+  /**
+   * Evicts a changed herd once the write has committed.
+   *
+   * @param event Herd change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHerdChanged(HerdChangedEvent event) {
+    evict(event.userId(), event.category());
+    herdVersions.bump(event.userId(), event.category());
+  }
+
+  /**
+   * Evicts all cached queries of a herd.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   */
+  public void evict(Long userId, LivestockCategory category) {
+    for (String name : HERD_CACHES) {
+      Cache cache = cacheManager.getCache(name);
+      if (cache != null
+          && cache.getNativeCache()
+              instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+        nativeCache
+            .asMap()
+            .keySet()
+            .removeIf(
+                key -> key instanceof HerdCacheKey herdKey && herdKey.belongsTo(userId, category));
+      }
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package co.za.zwibvafhi.livestock.core.config;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+
+/**
+ * Immutable cache key of a herd query: the user, the livestock category ordinal, an optional
+ * qualifier ordinal (event type or expense category), an optional date range in epoch days, and
+ * optional paging. Absent values are stored as {@link #NONE}. The hash is computed once.
+ */
+public final class HerdCacheKey {
+
+  /** Value of an absent key component. */
+  public static final long NONE = Long.MIN_VALUE;
+
+  private final long userId;
+  private final int category;
+  private final int qualifier;
+  private final long startDay;
+  private final long endDay;
+  private final int page;
+  private final int size;
+  private final int hash;
+
+  /**
+   * Creates a cache key.
+   *
+   * @param userId ID of the user, or {@link #NONE}
+   * @param category Livestock category ordinal, or -1
+   * @param qualifier Event type or expense category ordinal, or -1
+   * @param startDay Start date in epoch days, or {@link #NONE}
+   * @param endDay End date in epoch days, or {@link #NONE}
+   * @param page Page number, or -1
+   * @param size Page size, or -1
+   */
+  public HerdCacheKey(
+      long userId, int category, int qualifier, long startDay, long endDay, int page, int size) {
+    this.userId = userId;
+    this.category = category;
+    this.qualifier = qualifier;
+    this.startDay = startDay;
+    this.endDay = endDay;
+    this.page = page;
+    this.size = size;
+    int h = Long.hashCode(userId);
+    h = 31 * h + category;
+    h = 31 * h + qualifier;
+    h = 31 * h + Long.hashCode(startDay);
+    h = 31 * h + Long.hashCode(endDay);
+    h = 31 * h + page;
+    this.hash = 31 * h + size;
+  }
+
+  /**
+   * Checks whether this key caches data of a herd.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return True if the key belongs to the user's herd of the category
+   */
+  public boolean belongsTo(long userId, LivestockCategory category) {
+    return this.userId == userId && this.category == category.ordinal();
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    return o instanceof HerdCacheKey other
+        && hash == other.hash
+        && userId == other.userId
+        && category == other.category
+        && qualifier == other.qualifier
+        && startDay == other.startDay
+        && endDay == other.endDay
+        && page == other.page
+        && size == other.size;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  @Override
+  public String toString() {
+    return "HerdCacheKey[userId=" + userId + ", category=" + category + ", qualifier=" + qualifier
+        + ", startDay=" + startDay + ", endDay=" + endDay + ", page=" + page + ", size=" + size
+        + "]";
+  }
+}
@@ -0,0 +1,81 @@
+package co.za.zwibvafhi.livestock.core.config;
+
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+/**
+ * Builds {@link HerdCacheKey}s from the arguments of herd queries by parameter type: the
+ * {@code Long} user ID, the {@link LivestockCategory}, an event type {@code String} or
+ * {@link ExpenseCategory}, up to two {@link LocalDate}s (start, end), and up to two {@code int}s
+ * (page, size).
+ */
+public class HerdCacheKeyGenerator implements KeyGenerator {
+
+  /** Qualifier of an event type that does not parse; such queries fail and are never cached. */
+  private static final int INVALID_EVENT_TYPE = -2;
+
+  @Override
+  public Object generate(Object target, Method method, Object... params) {
+    Class<?>[] types = method.getParameterTypes();
+    long userId = HerdCacheKey.NONE;
+    int category = -1;
+    int qualifier = -1;
+    long startDay = HerdCacheKey.NONE;
+    long endDay = HerdCacheKey.NONE;
+    int page = -1;
+    int size = -1;
+    int dates = 0;
+    int ints = 0;
+    for (int i = 0; i < params.length; i++) {
+      Object param = params[i];
+      Class<?> type = types[i];
+      if (type == Long.class) {
+        userId = param == null ? HerdCacheKey.NONE : (Long) param;
+      } else if (type == LivestockCategory.class) {
+        category = param == null ? -1 : ((LivestockCategory) param).ordinal();
+      } else if (type == ExpenseCategory.class) {
+        qualifier = param == null ? -1 : ((ExpenseCategory) param).ordinal();
+      } else if (type == String.class) {
+        qualifier = eventTypeOrdinal((String) param);
+      } else if (type == LocalDate.class) {
+        long day = param == null ? HerdCacheKey.NONE : ((LocalDate) param).toEpochDay();
+        if (dates++ == 0) {
+          startDay = day;
+        } else {
+          endDay = day;
+        }
+      } else if (type == int.class) {
+        if (ints++ == 0) {
+          page = (Integer) param;
+        } else {
+          size = (Integer) param;
+        }
+      } else {
+        throw new IllegalArgumentException(
+            "Unsupported cache key parameter " + type.getName() + " of " + method);
+      }
+    }
+    return new HerdCacheKey(userId, category, qualifier, startDay, endDay, page, size);
+  }
+
+  /**
+   * Resolves the ordinal of an event type filter the way event history queries parse it.
+   *
+   * @param eventType Event type filter, may be null or empty
+   * @return Ordinal, -1 without a filter, or {@link #INVALID_EVENT_TYPE}
+   */
+  private static int eventTypeOrdinal(String eventType) {
+    if (eventType == null || eventType.isEmpty()) {
+      return -1;
+    }
+    try {
+      return LivestockEventType.valueOf(eventType.toUpperCase()).ordinal();
+    } catch (IllegalArgumentException e) {
+      return INVALID_EVENT_TYPE;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package co.za.zwibvafhi.livestock.core.config;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory versions of herds, used as validators of their cached responses.
+ *
+ * <p>Every committed write stamps its herd with the next value of a counter that starts from the
+ * boot time in microseconds, so versions keep increasing across restarts. Herds are bounded by
+ * {@code livestock.herd-versions.max-size}; a herd without a stamp, never written or evicted,
+ * reports the highest stamp evicted so far. A herd's version therefore never decreases, and it
+ * only returns a value seen before while the herd is unchanged.
+ */
+@Component
+public class HerdVersions {
+
+  private final AtomicLong sequence = new AtomicLong(System.currentTimeMillis() * 1000);
+  private final AtomicLong floor = new AtomicLong(sequence.get());
+  private final Cache<HerdKey, Long> versions;
+
+  /**
+   * Creates the herd versions.
+   *
+   * @param maxSize Maximum number of herds with their own stamp
+   */
+  public HerdVersions(@Value("${livestock.herd-versions.max-size:100000}") long maxSize) {
+    this.versions =
+        Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .evictionListener(
+                (HerdKey herd, Long version, RemovalCause cause) ->
+                    floor.accumulateAndGet(version, Math::max))
+            .build();
+  }
+
+  /**
+   * Returns the current version of a herd.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Version of the herd
+   */
+  public long current(Long userId, LivestockCategory category) {
+    Long version = versions.getIfPresent(new HerdKey(userId, category));
+    return version == null ? floor.get() : version;
+  }
+
+  /**
+   * Stamps a herd with a new version. Called once the write has committed and the herd's cached
+   * queries were evicted, so a reader that sees the new version also sees the new state.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   */
+  public void bump(Long userId, LivestockCategory category) {
+    versions.asMap().merge(new HerdKey(userId, category), sequence.incrementAndGet(), Math::max);
+  }
+
+  /** Key of a user's herd of one livestock category. */
+  private record HerdKey(Long userId, LivestockCategory category) {}
+}
@@ -0,0 +1,12 @@
+package co.za.zwibvafhi.livestock.core.event;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+
+/**
+ * Published when a user's herd of a livestock category changes through a count, event, or expense
+ * write, so that derived state can be refreshed for that herd only.
+ *
+ * @param userId ID of the user
+ * @param category Livestock category of the herd
+ */
+public record HerdChangedEvent(Long userId, LivestockCategory category) {}
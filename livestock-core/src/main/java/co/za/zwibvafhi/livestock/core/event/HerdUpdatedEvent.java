@@ -0,0 +1,12 @@
+package co.za.zwibvafhi.livestock.core.event;
+
+import co.za.zwibvafhi.livestock.api.dto.HerdUpdateResponse;
+
+/**
+ * Published with the content of an event or expense write, so that subscribers of the user's
+ * stream can be pushed the change once it commits.
+ *
+ * @param userId ID of the user
+ * @param update Count delta and recorded event or expense
+ */
+public record HerdUpdatedEvent(Long userId, HerdUpdateResponse update) {}
@@ -0,0 +1,31 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers in-memory index updates until the current transaction commits. */
+final class AfterCommit {
+
+  private AfterCommit() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Runs an index update after the current transaction commits, or immediately without one.
+   *
+   * @param update Index update
+   */
+  static void run(Runnable update) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      update.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            update.run();
+          }
+        });
+  }
+}
@@ -0,0 +1,125 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-memory index of alive tag numbers per user and livestock category, used to validate the tags
+ * of SALE, SLAUGHTER, and LOST events without querying them.
+ *
+ * <p>A herd is loaded on first use and kept up to date by BIRTH, PURCHASE, and exit events once
+ * they commit. The index is bounded by size in bytes
+ * ({@code livestock.alive-tags.max-weight-bytes}). A negative answer is confirmed against the
+ * database before it is returned, and positive answers are guarded by the status update of the
+ * exit event, so a stale index never changes the outcome.
+ */
+@Component
+public class AliveTagIndex {
+
+  private final LivestockIdRepository livestockIdRepository;
+  private final Cache<HerdKey, AliveTags> herds;
+
+  /**
+   * Creates the alive tag index.
+   *
+   * @param livestockIdRepository Livestock ID repository
+   * @param maxWeightBytes Maximum total size of indexed herds in bytes
+   */
+  public AliveTagIndex(
+      LivestockIdRepository livestockIdRepository,
+      @Value("${livestock.alive-tags.max-weight-bytes:33554432}") long maxWeightBytes) {
+    this.livestockIdRepository = livestockIdRepository;
+    this.herds =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(
+                (HerdKey key, AliveTags tags) ->
+                    (int) Math.min(Integer.MAX_VALUE, tags.weightBytes()))
+            .build();
+  }
+
+  /**
+   * Checks whether all tag numbers belong to alive animals of a herd.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param tagNumbers Distinct tag numbers
+   * @return True if every tag number is alive
+   */
+  public boolean areAlive(Long userId, LivestockCategory category, Collection<String> tagNumbers) {
+    HerdKey key = new HerdKey(userId, category);
+    if (herds.get(key, this::load).containsAll(tagNumbers)) {
+      return true;
+    }
+    long alive =
+        livestockIdRepository.countByTagNumbers(
+            userId, category, LivestockStatus.ALIVE, tagNumbers);
+    if (alive == tagNumbers.size()) {
+      herds.invalidate(key);
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Adds the tag numbers of new animals once the current transaction commits.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param tagNumbers Tag numbers of new animals
+   */
+  public void addAfterCommit(Long userId, LivestockCategory category, List<String> tagNumbers) {
+    AfterCommit.run(
+        () ->
+            herds
+                .asMap()
+                .computeIfPresent(
+                    new HerdKey(userId, category),
+                    (key, tags) -> {
+                      tags.add(tagNumbers);
+                      return tags;
+                    }));
+  }
+
+  /**
+   * Removes the tag numbers of animals that left the herd once the current transaction commits.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param tagNumbers Tag numbers of animals that left the herd
+   */
+  public void removeAfterCommit(Long userId, LivestockCategory category, List<String> tagNumbers) {
+    AfterCommit.run(
+        () ->
+            herds
+                .asMap()
+                .computeIfPresent(
+                    new HerdKey(userId, category),
+                    (key, tags) -> {
+                      tags.remove(tagNumbers);
+                      return tags;
+                    }));
+  }
+
+  /**
+   * Loads the alive tag numbers of a herd from the database.
+   *
+   * @param key Herd key
+   * @return Alive tag set
+   */
+  private AliveTags load(HerdKey key) {
+    return AliveTags.of(
+        livestockIdRepository.findTagNumbersByUserUserIdAndCategoryAndStatus(
+            key.userId(), key.category(), LivestockStatus.ALIVE));
+  }
+
+  /** Index key of a user's herd of one livestock category. */
+  private record HerdKey(Long userId, LivestockCategory category) {}
+}
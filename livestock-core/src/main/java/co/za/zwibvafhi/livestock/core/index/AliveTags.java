@@ -0,0 +1,137 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import org.roaringbitmap.RoaringBitmap;
+
+/**
+ * Set of the alive tag numbers of one herd. Generated tags ({@code M<n>} and {@code F<n>}) are
+ * stored as their numbers in one compressed bitmap per prefix; custom tags are kept in a hash set.
+ * All methods are synchronized, since the set is read and updated by concurrent requests.
+ */
+final class AliveTags {
+
+  private static final int MAX_GENERATED_TAG_LENGTH = 11;
+
+  private final RoaringBitmap maleTags = new RoaringBitmap();
+
+  private final RoaringBitmap femaleTags = new RoaringBitmap();
+
+  private final Set<String> customTags = new HashSet<>();
+
+  /**
+   * Builds the set from a herd's alive tag numbers.
+   *
+   * @param tagNumbers Alive tag numbers
+   * @return Alive tag set
+   */
+  static AliveTags of(Collection<String> tagNumbers) {
+    AliveTags aliveTags = new AliveTags();
+    aliveTags.add(tagNumbers);
+    aliveTags.maleTags.runOptimize();
+    aliveTags.femaleTags.runOptimize();
+    return aliveTags;
+  }
+
+  /**
+   * Checks whether all tag numbers are alive.
+   *
+   * @param tagNumbers Tag numbers to check
+   * @return True if every tag number is in the set
+   */
+  synchronized boolean containsAll(Collection<String> tagNumbers) {
+    for (String tagNumber : tagNumbers) {
+      int number = generatedNumber(tagNumber);
+      boolean alive =
+          number > 0
+              ? bitmapFor(tagNumber).contains(number)
+              : customTags.contains(tagNumber);
+      if (!alive) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Adds tag numbers to the set.
+   *
+   * @param tagNumbers Tag numbers of new animals
+   */
+  synchronized void add(Collection<String> tagNumbers) {
+    for (String tagNumber : tagNumbers) {
+      int number = generatedNumber(tagNumber);
+      if (number > 0) {
+        bitmapFor(tagNumber).add(number);
+      } else {
+        customTags.add(tagNumber);
+      }
+    }
+  }
+
+  /**
+   * Removes tag numbers from the set.
+   *
+   * @param tagNumbers Tag numbers of animals that left the herd
+   */
+  synchronized void remove(Collection<String> tagNumbers) {
+    for (String tagNumber : tagNumbers) {
+      int number = generatedNumber(tagNumber);
+      if (number > 0) {
+        bitmapFor(tagNumber).remove(number);
+      } else {
+        customTags.remove(tagNumber);
+      }
+    }
+  }
+
+  /**
+   * Returns the approximate heap size of the set, used to bound the index.
+   *
+   * @return Size in bytes
+   */
+  synchronized long weightBytes() {
+    return 128L
+        + maleTags.getLongSizeInBytes()
+        + femaleTags.getLongSizeInBytes()
+        + 96L * customTags.size();
+  }
+
+  /**
+   * Returns the bitmap of a generated tag's prefix.
+   *
+   * @param tagNumber Generated tag number
+   * @return Male bitmap for {@code M} tags, female bitmap for {@code F} tags
+   */
+  private RoaringBitmap bitmapFor(String tagNumber) {
+    return tagNumber.charAt(0) == 'M' ? maleTags : femaleTags;
+  }
+
+  /**
+   * Parses the number of a generated tag: {@code M} or {@code F} followed by a positive integer
+   * without leading zeros, so the number maps back to exactly one tag.
+   *
+   * @param tagNumber Tag number
+   * @return The tag's number, or -1 if it is a custom tag
+   */
+  static int generatedNumber(String tagNumber) {
+    int length = tagNumber.length();
+    if (length < 2 || length > MAX_GENERATED_TAG_LENGTH) {
+      return -1;
+    }
+    char prefix = tagNumber.charAt(0);
+    if ((prefix != 'M' && prefix != 'F') || tagNumber.charAt(1) == '0') {
+      return -1;
+    }
+    long number = 0;
+    for (int i = 1; i < length; i++) {
+      char digit = tagNumber.charAt(i);
+      if (digit < '0' || digit > '9') {
+        return -1;
+      }
+      number = number * 10 + (digit - '0');
+    }
+    return number <= Integer.MAX_VALUE ? (int) number : -1;
+  }
+}
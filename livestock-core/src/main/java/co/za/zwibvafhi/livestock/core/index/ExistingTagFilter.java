@@ -0,0 +1,152 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Per-user Bloom filters over the tag numbers already in use, used to reject caller-supplied tags
+ * of BIRTH and PURCHASE events before anything is written.
+ *
+ * <p>A tag the filter has never seen is new without a query; only possible matches are checked
+ * against the database. Filters are built for all users on startup from a streamed projection,
+ * loaded on first use after eviction, and updated once new tags commit. They are bounded by size
+ * in bytes ({@code livestock.tag-filter.max-weight-bytes}) and rebuilt with a larger capacity
+ * once a user outgrows theirs.
+ */
+@Component
+public class ExistingTagFilter {
+
+  private final LivestockIdRepository livestockIdRepository;
+  private final Cache<Long, TagBloomFilter> filters;
+
+  /**
+   * Creates the existing tag filter.
+   *
+   * @param livestockIdRepository Livestock ID repository
+   * @param maxWeightBytes Maximum total size of the filters in bytes
+   */
+  public ExistingTagFilter(
+      LivestockIdRepository livestockIdRepository,
+      @Value("${livestock.tag-filter.max-weight-bytes:16777216}") long maxWeightBytes) {
+    this.livestockIdRepository = livestockIdRepository;
+    this.filters =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeightBytes)
+            .weigher(
+                (Long userId, TagBloomFilter filter) ->
+                    (int) Math.min(Integer.MAX_VALUE, filter.weightBytes()))
+            .build();
+  }
+
+  /**
+   * Finds which of the given tag numbers a user already uses.
+   *
+   * @param userId ID of the user
+   * @param tagNumbers Distinct tag numbers
+   * @return Tag numbers already in use, empty if all are new
+   */
+  public List<String> findExisting(Long userId, Collection<String> tagNumbers) {
+    TagBloomFilter filter = filters.get(userId, this::load);
+    List<String> candidates = new ArrayList<>();
+    for (String tagNumber : tagNumbers) {
+      if (filter.mightContain(tagNumber)) {
+        candidates.add(tagNumber);
+      }
+    }
+    if (candidates.isEmpty()) {
+      return List.of();
+    }
+    return livestockIdRepository.findExistingTagNumbers(userId, candidates);
+  }
+
+  /**
+   * Adds the tag numbers of new animals once the current transaction commits.
+   *
+   * @param userId ID of the user
+   * @param tagNumbers Tag numbers of new animals
+   */
+  public void addAfterCommit(Long userId, List<String> tagNumbers) {
+    AfterCommit.run(
+        () -> {
+          TagBloomFilter filter =
+              filters
+                  .asMap()
+                  .computeIfPresent(
+                      userId,
+                      (key, existing) -> {
+                        tagNumbers.forEach(existing::add);
+                        return existing;
+                      });
+          if (filter != null && filter.isSaturated()) {
+            filters.invalidate(userId);
+          }
+        });
+  }
+
+  /**
+   * Builds the filters of all users from one streamed pass over the tag numbers, ordered by user.
+   * Users loaded by a request in the meantime keep their filter.
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  @Transactional(readOnly = true)
+  public void rebuild() {
+    try (Stream<Object[]> rows = livestockIdRepository.streamUserIdsAndTagNumbers()) {
+      Long currentUserId = null;
+      List<String> tagNumbers = new ArrayList<>();
+      for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+        Long userId = (Long) row[0];
+        if (!userId.equals(currentUserId)) {
+          publish(currentUserId, tagNumbers);
+          currentUserId = userId;
+          tagNumbers = new ArrayList<>();
+        }
+        tagNumbers.add((String) row[1]);
+      }
+      publish(currentUserId, tagNumbers);
+    }
+  }
+
+  /**
+   * Loads the filter of a user from the database.
+   *
+   * @param userId ID of the user
+   * @return Filter over the user's tag numbers
+   */
+  private TagBloomFilter load(Long userId) {
+    return build(livestockIdRepository.findTagNumbersByUserUserId(userId));
+  }
+
+  /**
+   * Stores a filter built during the startup rebuild, unless the user was loaded meanwhile.
+   *
+   * @param userId ID of the user, or null before the first row
+   * @param tagNumbers Tag numbers of the user
+   */
+  private void publish(Long userId, List<String> tagNumbers) {
+    if (userId != null) {
+      filters.asMap().putIfAbsent(userId, build(tagNumbers));
+    }
+  }
+
+  /**
+   * Builds a filter over tag numbers.
+   *
+   * @param tagNumbers Tag numbers
+   * @return Filter sized for the tag numbers
+   */
+  private static TagBloomFilter build(Collection<String> tagNumbers) {
+    TagBloomFilter filter = TagBloomFilter.forExpectedTags(tagNumbers.size());
+    tagNumbers.forEach(filter::add);
+    return filter;
+  }
+}
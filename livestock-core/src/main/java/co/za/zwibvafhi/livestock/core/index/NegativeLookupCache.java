@@ -0,0 +1,177 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.core.event.HerdChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Short-lived memory of user IDs and herds that were looked up and not found, so repeated requests
+ * for them are rejected without a query.
+ *
+ * <p>Entries expire after {@code livestock.negative-cache.ttl} and are bounded by
+ * {@code livestock.negative-cache.max-size} per kind. A herd is forgotten, together with its user,
+ * once a write to it commits, which covers count initialization. Users are created outside the
+ * application, so a new user is visible at the latest when its entry expires. Rejected lookups are
+ * counted in {@code livestock.negative.lookups.absorbed}, tagged by {@code lookup}.
+ *
+ * <p>A lookup that misses may finish after a write to the same herd has committed and been
+ * forgotten. Marks therefore carry the generation of the herd or user read before the lookup, and
+ * a mark whose generation was bumped by a change meanwhile is dropped. Generations are kept in a
+ * fixed number of stripes, so unrelated herds sharing a stripe only cost a skipped mark.
+ */
+@Component
+public class NegativeLookupCache {
+
+  private static final String METRIC = "livestock.negative.lookups.absorbed";
+
+  private static final int GENERATION_STRIPES = 1024;
+
+  private final Cache<Long, Boolean> unknownUsers;
+  private final Cache<HerdKey, Boolean> uninitializedHerds;
+  private final Counter absorbedUsers;
+  private final Counter absorbedHerds;
+  private final AtomicLongArray userGenerations = new AtomicLongArray(GENERATION_STRIPES);
+  private final AtomicLongArray herdGenerations = new AtomicLongArray(GENERATION_STRIPES);
+
+  /**
+   * Creates the negative lookup cache.
+   *
+   * @param meterRegistry Registry of the absorbed lookup counters
+   * @param ttl Time after which a missing user or herd is looked up again
+   * @param maxSize Maximum number of remembered users, and of remembered herds
+   */
+  public NegativeLookupCache(
+      MeterRegistry meterRegistry,
+      @Value("${livestock.negative-cache.ttl:PT5S}") Duration ttl,
+      @Value("${livestock.negative-cache.max-size:100000}") long maxSize) {
+    this.unknownUsers = Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.uninitializedHerds =
+        Caffeine.newBuilder().expireAfterWrite(ttl).maximumSize(maxSize).build();
+    this.absorbedUsers =
+        Counter.builder(METRIC)
+            .description("Lookups of missing users and herds rejected from memory")
+            .tag("lookup", "user")
+            .register(meterRegistry);
+    this.absorbedHerds =
+        Counter.builder(METRIC)
+            .description("Lookups of missing users and herds rejected from memory")
+            .tag("lookup", "count")
+            .register(meterRegistry);
+  }
+
+  /**
+   * Checks whether a user was recently found not to exist, counting the lookup as absorbed.
+   *
+   * @param userId ID of the user
+   * @return True if the user is known to be missing
+   */
+  public boolean isUnknownUser(Long userId) {
+    if (unknownUsers.getIfPresent(userId) == null) {
+      return false;
+    }
+    absorbedUsers.increment();
+    return true;
+  }
+
+  /**
+   * Returns the generation of a user, to be read before looking it up.
+   *
+   * @param userId ID of the user
+   * @return Generation to pass to {@link #markUnknownUser}
+   */
+  public long userGeneration(Long userId) {
+    return userGenerations.get(stripe(userId));
+  }
+
+  /**
+   * Remembers that a user does not exist, unless a herd of the user changed since the generation
+   * was read.
+   *
+   * @param userId ID of the user
+   * @param generation Generation read before the lookup
+   */
+  public void markUnknownUser(Long userId, long generation) {
+    unknownUsers.put(userId, Boolean.TRUE);
+    if (userGenerations.get(stripe(userId)) != generation) {
+      unknownUsers.invalidate(userId);
+    }
+  }
+
+  /**
+   * Checks whether a herd was recently found to have no count, counting the lookup as absorbed.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return True if the herd is known to be uninitialized
+   */
+  public boolean isUninitialized(Long userId, LivestockCategory category) {
+    if (uninitializedHerds.getIfPresent(new HerdKey(userId, category)) == null) {
+      return false;
+    }
+    absorbedHerds.increment();
+    return true;
+  }
+
+  /**
+   * Returns the generation of a herd, to be read before looking up its count.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Generation to pass to {@link #markUninitialized}
+   */
+  public long herdGeneration(Long userId, LivestockCategory category) {
+    return herdGenerations.get(stripe(new HerdKey(userId, category)));
+  }
+
+  /**
+   * Remembers that a herd has no count, unless the herd changed since the generation was read.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param generation Generation read before the lookup
+   */
+  public void markUninitialized(Long userId, LivestockCategory category, long generation) {
+    HerdKey key = new HerdKey(userId, category);
+    uninitializedHerds.put(key, Boolean.TRUE);
+    if (herdGenerations.get(stripe(key)) != generation) {
+      uninitializedHerds.invalidate(key);
+    }
+  }
+
+  /**
+   * Forgets a changed herd and its user once the write has committed. The generations are bumped
+   * first, so a lookup that missed before the write cannot mark them again.
+   *
+   * @param event Herd change event
+   */
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onHerdChanged(HerdChangedEvent event) {
+    HerdKey key = new HerdKey(event.userId(), event.category());
+    userGenerations.incrementAndGet(stripe(event.userId()));
+    herdGenerations.incrementAndGet(stripe(key));
+    unknownUsers.invalidate(event.userId());
+    uninitializedHerds.invalidate(key);
+  }
+
+  /**
+   * Maps a key to its generation stripe.
+   *
+   * @param key User ID or herd key
+   * @return Stripe index
+   */
+  private static int stripe(Object key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+  }
+
+  /** Cache key of a user's herd of one livestock category. */
+  private record HerdKey(Long userId, LivestockCategory category) {}
+}
@@ -0,0 +1,117 @@
+package co.za.zwibvafhi.livestock.core.index;
+
+/**
+ * Bloom filter over the tag numbers of one user. It answers "definitely absent" or "possibly
+ * present"; tags are never removed, since tag numbers stay unique after an animal leaves the
+ * herd. All methods are synchronized, since the filter is read and updated by concurrent requests.
+ */
+final class TagBloomFilter {
+
+  private static final double FALSE_POSITIVE_RATE = 0.01;
+
+  private static final int MIN_CAPACITY = 64;
+
+  private final long[] bits;
+
+  private final long bitCount;
+
+  private final int hashCount;
+
+  private final int capacity;
+
+  private int size;
+
+  private TagBloomFilter(int capacity) {
+    double ln2 = Math.log(2);
+    this.capacity = capacity;
+    this.bitCount =
+        Math.max(64, (long) Math.ceil(-capacity * Math.log(FALSE_POSITIVE_RATE) / (ln2 * ln2)));
+    this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * ln2));
+    this.bits = new long[(int) ((bitCount + 63) >>> 6)];
+  }
+
+  /**
+   * Creates an empty filter sized for twice the expected number of tags, so a growing herd can
+   * keep adding tags before the false positive rate rises.
+   *
+   * @param expectedTags Number of tags the filter is built with
+   * @return Empty filter
+   */
+  static TagBloomFilter forExpectedTags(int expectedTags) {
+    return new TagBloomFilter(Math.max(MIN_CAPACITY, expectedTags * 2));
+  }
+
+  /**
+   * Adds a tag number.
+   *
+   * @param tagNumber Tag number
+   */
+  synchronized void add(String tagNumber) {
+    long hash = hash(tagNumber);
+    int first = (int) hash;
+    int second = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+      bits[(int) (bit >>> 6)] |= 1L << bit;
+    }
+    size++;
+  }
+
+  /**
+   * Checks whether a tag number may have been added.
+   *
+   * @param tagNumber Tag number
+   * @return False if the tag number was definitely never added
+   */
+  synchronized boolean mightContain(String tagNumber) {
+    long hash = hash(tagNumber);
+    int first = (int) hash;
+    int second = (int) (hash >>> 32);
+    for (int i = 0; i < hashCount; i++) {
+      long bit = Integer.toUnsignedLong(first + i * second) % bitCount;
+      if ((bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks whether more tags were added than the filter was sized for.
+   *
+   * @return True if the filter should be rebuilt with a larger capacity
+   */
+  synchronized boolean isSaturated() {
+    return size > capacity;
+  }
+
+  /**
+   * Estimates the heap size of the filter.
+   *
+   * @return Size in bytes
+   */
+  long weightBytes() {
+    return 48L + bits.length * 8L;
+  }
+
+  /**
+   * Computes a 64-bit FNV-1a hash of a tag number, finished with the MurmurHash3 mixer so both
+   * halves are usable as independent hashes.
+   *
+   * @param tagNumber Tag number
+   * @return 64-bit hash
+   */
+  private static long hash(String tagNumber) {
+    long hash = 0xcbf29ce484222325L;
+    for (int i = 0; i < tagNumber.length(); i++) {
+      hash ^= tagNumber.charAt(i);
+      hash *= 0x100000001b3L;
+    }
+    hash ^= hash >>> 33;
+    hash *= 0xff51afd7ed558ccdL;
+    hash ^= hash >>> 33;
+    hash *= 0xc4ceb9fe1a85ec53L;
+    hash ^= hash >>> 33;
+    return hash;
+  }
+}
@@ -1,18 +1,23 @@
 package co.za.zwibvafhi.livestock.core.mapper;
 
+import co.za.zwibvafhi.livestock.api.dto.AnimalResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostResponse;
 import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
 import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
 import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
 import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
 import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
 import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockExpense;
 import co.za.zwibvafhi.livestock.persistence.entity.User;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import org.springframework.stereotype.Component;
 
@@ -98,4 +103,25 @@ public class LivestockMapper {
         .expenseCount(((Number) summary[2]).longValue())
         .build();
   }
+
+  public HeadDayCostResponse toHeadDayCostResponse(Object[] summary, long headDays) {
+    BigDecimal totalAmount = (BigDecimal) summary[1];
+    return HeadDayCostResponse.builder()
+        .expenseCategory((ExpenseCategory) summary[0])
+        .totalAmount(totalAmount)
+        .costPerHeadDay(
+            headDays > 0
+                ? totalAmount.divide(BigDecimal.valueOf(headDays), 4, RoundingMode.HALF_UP)
+                : null)
+        .build();
+  }
+
+  public AnimalResponse toAnimalResponse(Object[] row) {
+    return AnimalResponse.builder()
+        .tagNumber((String) row[0])
+        .gender((LivestockGender) row[1])
+        .status((LivestockStatus) row[2])
+        .purchasePrice((BigDecimal) row[3])
+        .build();
+  }
 }
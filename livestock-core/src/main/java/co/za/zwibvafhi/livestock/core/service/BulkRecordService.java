@@ -0,0 +1,131 @@
+package co.za.zwibvafhi.livestock.core.service;
+
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockErrorStatuses;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.core.service.helper.ValidationHelper;
+import co.za.zwibvafhi.livestock.core.util.LivestockErrors;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+/**
+ * Records batches of events and expenses sent in one request.
+ *
+ * <p>Items are recorded in request order, each through {@link LivestockService} in its own
+ * transaction, exactly as if it had been sent alone. An item that fails does not roll back the
+ * items before it nor stop the items after it; its outcome carries the status and error code the
+ * single request would have answered with.
+ */
+@Service
+public class BulkRecordService {
+
+  private static final Logger logger = LoggerFactory.getLogger(BulkRecordService.class);
+
+  private final LivestockService livestockService;
+  private final ValidationHelper validationHelper;
+  private final Validator validator;
+
+  /**
+   * Creates the bulk record service.
+   *
+   * @param livestockService Records every item in its own transaction
+   * @param validationHelper Validates the batch size
+   * @param validator Validates every item as the single endpoints do
+   */
+  public BulkRecordService(
+      LivestockService livestockService, ValidationHelper validationHelper, Validator validator) {
+    this.livestockService = livestockService;
+    this.validationHelper = validationHelper;
+    this.validator = validator;
+  }
+
+  /**
+   * Records a batch of livestock events in request order.
+   *
+   * @param userId ID of the user
+   * @param requests Event details
+   * @return Outcome of every event, in request order
+   * @throws LivestockException if the batch is empty or too large
+   */
+  public List<BulkItemResponse> recordEvents(Long userId, List<RecordEventRequest> requests) {
+    return recordAll(
+        requests,
+        request ->
+            BulkItemResponse.builder()
+                .status(HttpStatus.OK.value())
+                .event(livestockService.recordEvent(userId, request).orElse(null))
+                .build());
+  }
+
+  /**
+   * Records a batch of expenses in request order.
+   *
+   * @param userId ID of the user
+   * @param requests Expense details
+   * @return Outcome of every expense, in request order
+   * @throws LivestockException if the batch is empty or too large
+   */
+  public List<BulkItemResponse> recordExpenses(Long userId, List<RecordExpenseRequest> requests) {
+    return recordAll(
+        requests,
+        request ->
+            BulkItemResponse.builder()
+                .status(HttpStatus.OK.value())
+                .expense(livestockService.recordExpense(userId, request).orElse(null))
+                .build());
+  }
+
+  private <T> List<BulkItemResponse> recordAll(
+      List<T> requests, Function<T, BulkItemResponse> record) {
+    validationHelper.validateBatchSize(requests == null ? 0 : requests.size());
+    List<BulkItemResponse> responses = new ArrayList<>(requests.size());
+    for (T request : requests) {
+      responses.add(recordOne(request, record));
+    }
+    return responses;
+  }
+
+  private <T> BulkItemResponse recordOne(T request, Function<T, BulkItemResponse> record) {
+    if (request == null) {
+      return failure(HttpStatus.BAD_REQUEST, LivestockErrorCodes.INVALID_REQUEST, "item: null");
+    }
+    Set<ConstraintViolation<T>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      String detail =
+          violations.stream()
+              .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+              .collect(Collectors.joining("; "));
+      return failure(HttpStatus.BAD_REQUEST, LivestockErrorCodes.INVALID_REQUEST, detail);
+    }
+    try {
+      return record.apply(request);
+    } catch (RuntimeException e) {
+      LivestockException error = LivestockErrors.translate(e);
+      if (LivestockErrorCodes.UNEXPECTED_ERROR.equals(error.getErrorCode())) {
+        logger.warn("Bulk item failed unexpectedly", e);
+      }
+      return failure(
+          LivestockErrorStatuses.of(error.getErrorCode()), error.getErrorCode(), error.getMessage());
+    }
+  }
+
+  private static BulkItemResponse failure(HttpStatus status, String errorCode, String detail) {
+    return BulkItemResponse.builder()
+        .status(status.value())
+        .errorCode(errorCode)
+        .detail(detail)
+        .build();
+  }
+}
@@ -0,0 +1,321 @@
+package co.za.zwibvafhi.livestock.core.service;
+
+import co.za.zwibvafhi.livestock.api.dto.ProjectionRebuildResponse;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.core.event.HerdChangedEvent;
+import co.za.zwibvafhi.livestock.core.service.helper.ChangeLog;
+import co.za.zwibvafhi.livestock.core.service.helper.CountUpdater;
+import co.za.zwibvafhi.livestock.core.service.helper.ShardedCountStore;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry.Kind;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCountSnapshot;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockCountRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockCountSnapshotRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockEventRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Maintains livestock counts as projections of the event log.
+ *
+ * <p>Every herd has snapshots of its count as of a given event: a baseline when the count is
+ * initialized, and a new one whenever {@code livestock.event-sourcing.snapshot-interval} events
+ * were recorded after the latest. With {@code livestock.event-sourcing.enabled}, events lock the
+ * herd's count while they apply, so the count never loses an update and snapshots are taken on
+ * the write path. A rebuild replays the events after each herd's latest snapshot and corrects
+ * counts that drifted, working through the herds in fork-join chunks.
+ *
+ * <p>Rebuilds are refused unless the event-sourcing mode is enabled. Otherwise an event can hold
+ * an identity lower than one already committed while its transaction is still open, and the new
+ * snapshot would skip it for good.
+ */
+@Service
+public class HerdProjectionService {
+
+  private static final int REBUILD_CHUNK_SIZE = 32;
+
+  private final LivestockCountRepository countRepository;
+  private final LivestockCountSnapshotRepository snapshotRepository;
+  private final LivestockEventRepository eventRepository;
+  private final CountUpdater countUpdater;
+  private final ShardedCountStore shardedCounts;
+  private final ChangeLog changeLog;
+  private final TransactionTemplate transactionTemplate;
+  private final ApplicationEventPublisher eventPublisher;
+  private final boolean enabled;
+  private final int snapshotInterval;
+  private final int rebuildParallelism;
+
+  /**
+   * Creates the herd projection service.
+   *
+   * @param countRepository Livestock count repository
+   * @param snapshotRepository Livestock count snapshot repository
+   * @param eventRepository Livestock event repository
+   * @param countUpdater Applies events to counts
+   * @param shardedCounts Folds pending count deltas before a herd is replayed
+   * @param changeLog Records corrected counts for incremental sync
+   * @param transactionTemplate Runs each herd rebuild in its own transaction
+   * @param eventPublisher Publishes herd changes of corrected counts
+   * @param enabled Whether events lock counts and take snapshots on the write path
+   * @param snapshotInterval Number of events after which a new snapshot is taken
+   * @param rebuildParallelism Number of herds rebuilt concurrently
+   */
+  public HerdProjectionService(
+      LivestockCountRepository countRepository,
+      LivestockCountSnapshotRepository snapshotRepository,
+      LivestockEventRepository eventRepository,
+      CountUpdater countUpdater,
+      ShardedCountStore shardedCounts,
+      ChangeLog changeLog,
+      TransactionTemplate transactionTemplate,
+      ApplicationEventPublisher eventPublisher,
+      @Value("${livestock.event-sourcing.enabled:false}") boolean enabled,
+      @Value("${livestock.event-sourcing.snapshot-interval:100}") int snapshotInterval,
+      @Value("${livestock.event-sourcing.rebuild-parallelism:4}") int rebuildParallelism) {
+    this.countRepository = countRepository;
+    this.snapshotRepository = snapshotRepository;
+    this.eventRepository = eventRepository;
+    this.countUpdater = countUpdater;
+    this.shardedCounts = shardedCounts;
+    this.changeLog = changeLog;
+    this.transactionTemplate = transactionTemplate;
+    this.eventPublisher = eventPublisher;
+    this.enabled = enabled;
+    this.snapshotInterval = snapshotInterval;
+    this.rebuildParallelism = rebuildParallelism;
+  }
+
+  /**
+   * Checks whether the event-sourcing mode is enabled.
+   *
+   * @return True if events lock counts and take snapshots on the write path
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Records the baseline snapshot of a newly initialized count, before any of its events.
+   *
+   * @param count Initialized livestock count
+   */
+  public void recordBaseline(LivestockCount count) {
+    snapshotRepository.save(snapshotOf(count, 0));
+  }
+
+  /**
+   * Takes a snapshot of a count once enough events were recorded since the latest snapshot. Does
+   * nothing unless the event-sourcing mode is enabled.
+   *
+   * @param count Livestock count after the event was applied
+   * @param event Recorded event
+   */
+  public void afterEvent(LivestockCount count, LivestockEvent event) {
+    if (!enabled) {
+      return;
+    }
+    Long userId = count.getUser().getUserId();
+    long lastEventId =
+        snapshotRepository
+            .findFirstByUserIdAndCategoryOrderByLastEventIdDesc(userId, count.getCategory())
+            .map(LivestockCountSnapshot::getLastEventId)
+            .orElse(0L);
+    long eventsSinceSnapshot =
+        eventRepository.countByUserUserIdAndCategoryAndIdGreaterThan(
+            userId, count.getCategory(), lastEventId);
+    if (eventsSinceSnapshot >= snapshotInterval) {
+      snapshotRepository.save(snapshotOf(count, event.getId()));
+    }
+  }
+
+  /**
+   * Rebuilds the counts of all herds from their latest snapshot and the events after it.
+   *
+   * @return Rebuild summary
+   * @throws LivestockException if the event-sourcing mode is disabled
+   */
+  public ProjectionRebuildResponse rebuildAll() {
+    if (!enabled) {
+      throw new LivestockException(
+          LivestockErrorCodes.PROJECTIONS_DISABLED, LivestockConstants.MSG_PROJECTIONS_DISABLED);
+    }
+    long start = System.nanoTime();
+    List<Object[]> herds = countRepository.findAllHerds();
+    ForkJoinPool pool = new ForkJoinPool(rebuildParallelism);
+    RebuildTotals totals;
+    try {
+      totals = pool.invoke(new RebuildTask(herds, 0, herds.size()));
+    } finally {
+      pool.shutdown();
+    }
+    return ProjectionRebuildResponse.builder()
+        .herds(herds.size())
+        .correctedHerds(totals.correctedHerds())
+        .replayedEvents(totals.replayedEvents())
+        .durationMillis((System.nanoTime() - start) / 1_000_000)
+        .build();
+  }
+
+  /**
+   * Rebuilds the count of one herd in its own transaction. A corrected herd is evicted from the
+   * caches by its {@link HerdChangedEvent} once the transaction commits.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Replay totals of the herd
+   */
+  private RebuildTotals rebuildHerd(Long userId, LivestockCategory category) {
+    RebuildTotals totals = transactionTemplate.execute(status -> replay(userId, category));
+    return totals == null ? RebuildTotals.NONE : totals;
+  }
+
+  /**
+   * Replays the events of a herd recorded after its latest snapshot onto that snapshot, corrects
+   * the locked count if it differs, and records a new snapshot. A herd without snapshots gets its
+   * current count as baseline.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Replay totals of the herd
+   */
+  private RebuildTotals replay(Long userId, LivestockCategory category) {
+    Optional<LivestockCount> locked =
+        countRepository.findForUpdateByUserUserIdAndCategory(userId, category);
+    if (locked.isEmpty()) {
+      return RebuildTotals.NONE;
+    }
+    LivestockCount count = locked.get();
+    shardedCounts.fold(count);
+    Optional<LivestockCountSnapshot> snapshot =
+        snapshotRepository.findFirstByUserIdAndCategoryOrderByLastEventIdDesc(userId, category);
+    long lastEventId = snapshot.map(LivestockCountSnapshot::getLastEventId).orElse(0L);
+    List<Object[]> rows =
+        eventRepository.findReplayRowsByUserUserIdAndCategory(userId, category, lastEventId);
+    if (snapshot.isEmpty()) {
+      long baselineEventId = rows.isEmpty() ? 0 : (Long) rows.get(rows.size() - 1)[0];
+      snapshotRepository.save(snapshotOf(count, baselineEventId));
+      return RebuildTotals.NONE;
+    }
+    LivestockCount replayed = new LivestockCount();
+    replayed.setUser(count.getUser());
+    replayed.setCategory(category);
+    replayed.setMaleCount(snapshot.get().getMaleCount());
+    replayed.setFemaleCount(snapshot.get().getFemaleCount());
+    replayed.setMaxId(snapshot.get().getMaxId());
+    for (Object[] row : rows) {
+      countUpdater.applyEvent(
+          replayed, (LivestockEventType) row[1], (Integer) row[2], (Integer) row[3]);
+      lastEventId = (Long) row[0];
+    }
+    if (!rows.isEmpty()) {
+      snapshotRepository.save(snapshotOf(replayed, lastEventId));
+    }
+    RebuildTotals totals =
+        correct(count, replayed.getMaleCount(), replayed.getFemaleCount(), replayed.getMaxId());
+    return new RebuildTotals(totals.correctedHerds(), rows.size());
+  }
+
+  /**
+   * Sets a count to its replayed state if it drifted.
+   *
+   * @param count Locked livestock count
+   * @param maleCount Replayed male count
+   * @param femaleCount Replayed female count
+   * @param maxId Replayed maximum generated ID
+   * @return Totals with one corrected herd if the count changed, none otherwise
+   */
+  private RebuildTotals correct(LivestockCount count, int maleCount, int femaleCount, int maxId) {
+    if (count.getMaleCount() == maleCount
+        && count.getFemaleCount() == femaleCount
+        && count.getMaxId() == maxId) {
+      return RebuildTotals.NONE;
+    }
+    count.setMaleCount(maleCount);
+    count.setFemaleCount(femaleCount);
+    count.setMaxId(maxId);
+    countRepository.save(count);
+    changeLog.record(count.getUser().getUserId(), count.getCategory(), Kind.COUNT, count.getId());
+    eventPublisher.publishEvent(
+        new HerdChangedEvent(count.getUser().getUserId(), count.getCategory()));
+    return new RebuildTotals(1, 0);
+  }
+
+  /**
+   * Builds a snapshot of a count.
+   *
+   * @param count Livestock count
+   * @param lastEventId ID of the last event reflected in the count, 0 for none
+   * @return Snapshot entity
+   */
+  private LivestockCountSnapshot snapshotOf(LivestockCount count, long lastEventId) {
+    return LivestockCountSnapshot.builder()
+        .userId(count.getUser().getUserId())
+        .category(count.getCategory())
+        .lastEventId(lastEventId)
+        .maleCount(count.getMaleCount())
+        .femaleCount(count.getFemaleCount())
+        .maxId(count.getMaxId())
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+  /**
+   * Replay totals of one or more herds.
+   *
+   * @param correctedHerds Number of herds whose count was corrected
+   * @param replayedEvents Number of events replayed
+   */
+  private record RebuildTotals(int correctedHerds, long replayedEvents) {
+
+    static final RebuildTotals NONE = new RebuildTotals(0, 0);
+
+    RebuildTotals plus(RebuildTotals other) {
+      return new RebuildTotals(
+          correctedHerds + other.correctedHerds, replayedEvents + other.replayedEvents);
+    }
+  }
+
+  /** Rebuilds a range of herds, splitting it in halves down to chunks of a few herds. */
+  private final class RebuildTask extends RecursiveTask<RebuildTotals> {
+
+    private final transient List<Object[]> herds;
+    private final int from;
+    private final int to;
+
+    RebuildTask(List<Object[]> herds, int from, int to) {
+      this.herds = herds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected RebuildTotals compute() {
+      if (to - from <= REBUILD_CHUNK_SIZE) {
+        RebuildTotals totals = RebuildTotals.NONE;
+        for (int i = from; i < to; i++) {
+          Object[] herd = herds.get(i);
+          totals = totals.plus(rebuildHerd((Long) herd[0], (LivestockCategory) herd[1]));
+        }
+        return totals;
+      }
+      int middle = (from + to) >>> 1;
+      RebuildTask left = new RebuildTask(herds, from, middle);
+      left.fork();
+      RebuildTotals right = new RebuildTask(herds, middle, to).compute();
+      return left.join().plus(right);
+    }
+  }
+}
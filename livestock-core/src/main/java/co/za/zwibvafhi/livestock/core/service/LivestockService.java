@@ -1,7 +1,10 @@
 package co.za.zwibvafhi.livestock.core.service;
 
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
 import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
 import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
 import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
@@ -11,6 +14,8 @@ import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
 import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
 import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
@@ -69,4 +74,31 @@ public interface LivestockService {
    */
   List<ExpenseSummaryResponse> getExpenseSummaries(
       Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+  /**
+   * Computes expense costs per head-day for a user, category, and date range.
+   */
+  HeadDayCostReportResponse getHeadDayCostReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
+
+  /**
+   * Retrieves a keyset-paginated page of a herd's animals by status and optional gender.
+   */
+  AnimalRosterResponse getAnimals(
+      Long userId,
+      LivestockCategory category,
+      LivestockStatus status,
+      LivestockGender gender,
+      String after,
+      int size);
+
+  /**
+   * Retrieves every event an animal was involved in, ordered by event date.
+   */
+  List<LivestockEventResponse> getAnimalTimeline(Long userId, String tagNumber);
+
+  /**
+   * Retrieves the changes of a user's records after a change sequence.
+   */
+  ChangesResponse getChanges(Long userId, long since, int size);
+}
@@ -1,7 +1,12 @@
 package co.za.zwibvafhi.livestock.core.service;
 
+import co.za.zwibvafhi.livestock.api.dto.AnimalResponse;
+import co.za.zwibvafhi.livestock.api.dto.AnimalRosterResponse;
+import co.za.zwibvafhi.livestock.api.dto.ChangesResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
 import co.za.zwibvafhi.livestock.api.dto.ExpenseSummaryResponse;
+import co.za.zwibvafhi.livestock.api.dto.HerdUpdateResponse;
+import co.za.zwibvafhi.livestock.api.dto.HeadDayCostReportResponse;
 import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
 import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
 import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
@@ -12,13 +17,28 @@ import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
 import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
 import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import co.za.zwibvafhi.livestock.common.LivestockConstants;
 import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
 import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.core.analytics.AnalyticsSnapshot;
+import co.za.zwibvafhi.livestock.core.analytics.AnalyticsSnapshotCache;
+import co.za.zwibvafhi.livestock.core.config.CacheConfig;
+import co.za.zwibvafhi.livestock.core.event.HerdChangedEvent;
+import co.za.zwibvafhi.livestock.core.event.HerdUpdatedEvent;
 import co.za.zwibvafhi.livestock.core.mapper.LivestockMapper;
+import co.za.zwibvafhi.livestock.core.service.helper.ChangeLog;
+import co.za.zwibvafhi.livestock.core.service.helper.ChangeLog.ChangePage;
 import co.za.zwibvafhi.livestock.core.service.helper.CountUpdater;
+import co.za.zwibvafhi.livestock.core.service.helper.HeadDayCalculator;
+import co.za.zwibvafhi.livestock.core.service.helper.HeadDayCalculator.HerdDelta;
 import co.za.zwibvafhi.livestock.core.service.helper.LivestockIdManager;
+import co.za.zwibvafhi.livestock.core.service.helper.ShardedCountStore;
 import co.za.zwibvafhi.livestock.core.service.helper.ValidationHelper;
+import co.za.zwibvafhi.livestock.core.util.MoneyAccumulator;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry.Kind;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockExpense;
@@ -29,13 +49,18 @@ import co.za.zwibvafhi.livestock.persistence.repository.LivestockEventRepository
 import co.za.zwibvafhi.livestock.persistence.repository.LivestockExpenseRepository;
 import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -58,6 +83,12 @@ public class LivestockServiceImpl implements LivestockService {
   private final LivestockIdManager idManager;
   private final CountUpdater countUpdater;
   private final ValidationHelper validationHelper;
+  private final HeadDayCalculator headDayCalculator;
+  private final AnalyticsSnapshotCache analyticsSnapshots;
+  private final HerdProjectionService herdProjections;
+  private final ShardedCountStore shardedCounts;
+  private final ChangeLog changeLog;
+  private final ApplicationEventPublisher eventPublisher;
 
   /**
    * Initializes livestock count for a user and category.
@@ -68,13 +99,17 @@ public class LivestockServiceImpl implements LivestockService {
    * @throws LivestockException if user not found or count exists
    */
   @Override
-  @CacheEvict(value = LivestockConstants.CACHE_COUNTS, key = "#userId + ':' + #request.category")
+  @Transactional
   public Optional<LivestockCountResponse> initializeCount(
       Long userId, InitializeCountRequest request) {
     User user = validationHelper.validateUser(userId);
     validationHelper.validateCountNotExists(userId, request.getCategory());
     LivestockCount count = livestockMapper.toCount(user, request);
     count = countRepository.save(count);
+    shardedCounts.createSlots(count);
+    herdProjections.recordBaseline(count);
+    changeLog.record(userId, request.getCategory(), Kind.COUNT, count.getId());
+    eventPublisher.publishEvent(new HerdChangedEvent(userId, request.getCategory()));
     return Optional.of(livestockMapper.toCountResponse(count));
   }
 
@@ -88,23 +123,63 @@ public class LivestockServiceImpl implements LivestockService {
    */
   @Override
   @Transactional
-  @CacheEvict(
-      value = {
-          LivestockConstants.CACHE_COUNTS,
-          LivestockConstants.CACHE_EVENTS,
-          LivestockConstants.CACHE_PROFITS
-      },
-      key = "#userId + ':' + #request.category")
   public Optional<LivestockEventResponse> recordEvent(Long userId, RecordEventRequest request) {
     User user = validationHelper.validateUser(userId);
-    LivestockCount count = validationHelper.validateCount(userId, request.getCategory());
+    boolean deferred = shardedCounts.canDefer(request);
+    LivestockCount count = lockCount(userId, request.getCategory(), deferred);
     validateEventSalePrice(request);
-    List<LivestockId> livestockIds = idManager.validateLivestockIds(userId, request, count);
+    List<String> tagNumbers = idManager.validateLivestockIds(userId, request, count);
     countUpdater.validateCounts(count, request);
-    countUpdater.updateCountBasedOnEvent(count, request);
-    LivestockEvent event = saveEventAndIds(user, count, request, livestockIds);
-    countRepository.save(count);
-    return Optional.of(livestockMapper.toEventResponse(event));
+    int maleBefore = count.getMaleCount();
+    int femaleBefore = count.getFemaleCount();
+    if (!deferred) {
+      countUpdater.updateCountBasedOnEvent(count, request);
+    }
+    LivestockEvent event = saveEventAndIds(user, count, request, tagNumbers);
+    if (deferred) {
+      shardedCounts.addDelta(count, request);
+    } else {
+      countRepository.save(count);
+      herdProjections.afterEvent(count, event);
+    }
+    changeLog.record(userId, request.getCategory(), Kind.EVENT, event.getId());
+    LivestockEventResponse response = livestockMapper.toEventResponse(event);
+    eventPublisher.publishEvent(new HerdChangedEvent(userId, request.getCategory()));
+    eventPublisher.publishEvent(
+        new HerdUpdatedEvent(
+            userId,
+            HerdUpdateResponse.builder()
+                .category(request.getCategory())
+                .maleDelta(
+                    deferred ? request.getMaleCount() : count.getMaleCount() - maleBefore)
+                .femaleDelta(
+                    deferred ? request.getFemaleCount() : count.getFemaleCount() - femaleBefore)
+                .event(response)
+                .build()));
+    return Optional.of(response);
+  }
+
+  /**
+   * Loads the count an event applies to with the lock its mode needs. Events recorded as sharded
+   * deltas take a shared lock; other events take an exclusive lock when counts are event-sourced
+   * or sharded, and fold pending deltas into the count before they apply.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param deferred Whether the event is recorded as a sharded delta
+   * @return Livestock count
+   * @throws LivestockException if count not found
+   */
+  private LivestockCount lockCount(Long userId, LivestockCategory category, boolean deferred) {
+    if (deferred) {
+      return validationHelper.validateCountForShare(userId, category);
+    }
+    if (!herdProjections.isEnabled() && !shardedCounts.isEnabled()) {
+      return validationHelper.validateCount(userId, category);
+    }
+    LivestockCount count = validationHelper.validateCountForUpdate(userId, category);
+    shardedCounts.fold(count);
+    return count;
   }
 
   /**
@@ -116,19 +191,21 @@ public class LivestockServiceImpl implements LivestockService {
    * @throws LivestockException if user not found or amount invalid
    */
   @Override
-  @CacheEvict(
-      value = {
-          LivestockConstants.CACHE_EXPENSES,
-          LivestockConstants.CACHE_PROFITS,
-          LivestockConstants.CACHE_EXPENSE_SUMMARIES
-      },
-      key = "#userId + ':' + #request.category")
+  @Transactional
   public Optional<ExpenseResponse> recordExpense(Long userId, RecordExpenseRequest request) {
     User user = validationHelper.validateUser(userId);
     validationHelper.validateExpenseAmount(request);
     LivestockExpense expense = livestockMapper.toExpense(user, request);
     expense = expenseRepository.save(expense);
-    return Optional.of(livestockMapper.toExpenseResponse(expense));
+    analyticsSnapshots.addExpenseAfterCommit(userId, request.getCategory(), expense);
+    changeLog.record(userId, request.getCategory(), Kind.EXPENSE, expense.getId());
+    ExpenseResponse response = livestockMapper.toExpenseResponse(expense);
+    eventPublisher.publishEvent(new HerdChangedEvent(userId, request.getCategory()));
+    eventPublisher.publishEvent(
+        new HerdUpdatedEvent(
+            userId,
+            HerdUpdateResponse.builder().category(request.getCategory()).expense(response).build()));
+    return Optional.of(response);
   }
 
   /**
@@ -139,10 +216,13 @@ public class LivestockServiceImpl implements LivestockService {
    * @return Current count response, or empty if not found
    */
   @Override
-  @Cacheable(value = LivestockConstants.CACHE_COUNTS, key = "#userId + ':' + #category")
+  @Cacheable(
+      value = LivestockConstants.CACHE_COUNTS,
+      keyGenerator = CacheConfig.HERD_KEY_GENERATOR)
   public Optional<LivestockCountResponse> getCurrentCount(Long userId, LivestockCategory category) {
     return countRepository
         .findByUserUserIdAndCategory(userId, category)
+        .map(shardedCounts::effective)
         .map(livestockMapper::toCountResponse);
   }
 
@@ -158,7 +238,7 @@ public class LivestockServiceImpl implements LivestockService {
   @Override
   @Cacheable(
       value = LivestockConstants.CACHE_EVENTS,
-      key = "#userId + ':' + #category + ':' + #eventType")
+      keyGenerator = CacheConfig.HERD_KEY_GENERATOR)
   public List<LivestockEventResponse> getEventHistory(
       Long userId, LivestockCategory category, String eventType) {
     List<LivestockEvent> events = fetchEvents(userId, category, eventType);
@@ -178,14 +258,21 @@ public class LivestockServiceImpl implements LivestockService {
   @Override
   @Cacheable(
       value = LivestockConstants.CACHE_PROFITS,
-      key = "#userId + ':' + #category + ':' + #startDate + ':' + #endDate")
+      keyGenerator = CacheConfig.HERD_KEY_GENERATOR)
   public List<ProfitReportResponse> getProfitReport(
       Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
     validationHelper.validateUser(userId);
     LocalDate start = normalizeStartDate(startDate);
     LocalDate end = normalizeEndDate(endDate);
-    BigDecimal totalRevenue = calculateRevenue(userId, category, start, end);
-    BigDecimal totalExpenses = calculateTotalExpenses(userId, category, start, end);
+    Optional<AnalyticsSnapshot> snapshot = analyticsSnapshots.find(userId, category);
+    BigDecimal totalRevenue =
+        snapshot
+            .map(s -> s.revenue(start, end))
+            .orElseGet(() -> calculateRevenue(userId, category, start, end));
+    BigDecimal totalExpenses =
+        snapshot
+            .map(s -> s.totalExpenses(start, end))
+            .orElseGet(() -> calculateTotalExpenses(userId, category, start, end));
     BigDecimal netProfit = totalRevenue.subtract(totalExpenses);
     return List.of(
         ProfitReportResponse.builder()
@@ -212,8 +299,7 @@ public class LivestockServiceImpl implements LivestockService {
   @Override
   @Cacheable(
       value = LivestockConstants.CACHE_EXPENSES,
-      key =
-          "#userId + ':' + #category + ':' + #expenseCategory + ':' + #startDate + ':' + #endDate + ':' + #page + ':' + #size")
+      keyGenerator = CacheConfig.HERD_KEY_GENERATOR)
   public PaginatedExpenseResponse getExpenses(
       Long userId,
       LivestockCategory category,
@@ -244,18 +330,182 @@ public class LivestockServiceImpl implements LivestockService {
   @Override
   @Cacheable(
       value = LivestockConstants.CACHE_EXPENSE_SUMMARIES,
-      key = "#userId + ':' + #category + ':' + #startDate + ':' + #endDate")
+      keyGenerator = CacheConfig.HERD_KEY_GENERATOR)
   public List<ExpenseSummaryResponse> getExpenseSummaries(
       Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
     validationHelper.validateUser(userId);
     LocalDate start = normalizeStartDate(startDate);
     LocalDate end = normalizeEndDate(endDate);
-    List<Object[]> summaries =
-        expenseRepository.findExpenseSummariesByUserUserIdAndCategoryAndExpenseDateBetween(
-            userId, category, start, end);
+    List<Object[]> summaries = findExpenseSummaries(userId, category, start, end);
     return summaries.stream().map(livestockMapper::toExpenseSummaryResponse).toList();
   }
 
+  /**
+   * Computes expense costs per head-day for a user, category, and date range. The start date
+   * defaults to the herd's first event date, since the herd size before it is unknown.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param startDate Start date (optional)
+   * @param endDate End date (optional)
+   * @return Head-day cost report response
+   * @throws LivestockException if user or count not found, or the date range is invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public HeadDayCostReportResponse getHeadDayCostReport(
+      Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate) {
+    validationHelper.validateUser(userId);
+    LivestockCount count =
+        shardedCounts.effective(validationHelper.validateCount(userId, category));
+    List<HerdDelta> deltas =
+        headDayCalculator.toDailyDeltas(
+            eventRepository.findHeadCountsByUserUserIdAndCategoryGroupedByEventDate(
+                userId, category));
+    LocalDate end = normalizeEndDate(endDate);
+    LocalDate start = startDate != null ? startDate : firstDeltaDate(deltas, end);
+    validateDateRange(start, end);
+    long headDays =
+        headDayCalculator.integrate(
+            (long) count.getMaleCount() + count.getFemaleCount(), deltas, start, end);
+    long days = end.toEpochDay() - start.toEpochDay() + 1;
+    List<Object[]> summaries = findExpenseSummaries(userId, category, start, end);
+    return HeadDayCostReportResponse.builder()
+        .category(category)
+        .startDate(start)
+        .endDate(end)
+        .headDays(headDays)
+        .averageHerdSize(
+            BigDecimal.valueOf(headDays).divide(BigDecimal.valueOf(days), 2, RoundingMode.HALF_UP))
+        .costs(
+            summaries.stream()
+                .map(summary -> livestockMapper.toHeadDayCostResponse(summary, headDays))
+                .toList())
+        .build();
+  }
+
+  /**
+   * Retrieves a page of a herd's animals using keyset pagination on tag number, reading projected
+   * columns only so no livestock ID entities are loaded.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param status Livestock status
+   * @param gender Livestock gender filter (optional)
+   * @param after Tag number to continue after (optional)
+   * @param size Page size (max 100)
+   * @return Animal roster response with the cursor of the next page, or null on the last page
+   * @throws LivestockException if user not found or page size invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public AnimalRosterResponse getAnimals(
+      Long userId,
+      LivestockCategory category,
+      LivestockStatus status,
+      LivestockGender gender,
+      String after,
+      int size) {
+    validationHelper.validateUser(userId);
+    validationHelper.validatePagination(0, size);
+    String afterTagNumber = after != null ? after : "";
+    List<Object[]> rows =
+        livestockIdRepository.findRosterByUserUserIdAndCategoryAndStatus(
+            userId, category, status, gender, afterTagNumber, PageRequest.of(0, size + 1));
+    boolean hasMore = rows.size() > size;
+    List<AnimalResponse> content =
+        rows.stream().limit(size).map(livestockMapper::toAnimalResponse).toList();
+    return AnimalRosterResponse.builder()
+        .category(category)
+        .status(status)
+        .content(content)
+        .size(content.size())
+        .nextCursor(hasMore ? content.get(content.size() - 1).getTagNumber() : null)
+        .build();
+  }
+
+  /**
+   * Retrieves an animal's events through its event links, a single index range scan on user and
+   * tag number.
+   *
+   * @param userId ID of the user
+   * @param tagNumber Tag number of the animal
+   * @return List of event responses, ordered by event date
+   * @throws LivestockException if the user has no animal with the tag number
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public List<LivestockEventResponse> getAnimalTimeline(Long userId, String tagNumber) {
+    List<LivestockEvent> events =
+        eventRepository.findByUserUserIdAndTagNumberOrderByEventDate(userId, tagNumber);
+    if (events.isEmpty()) {
+      throw LivestockException.of(
+          LivestockErrorCodes.ANIMAL_NOT_FOUND,
+          LivestockConstants.MSG_ANIMAL_NOT_FOUND, userId, tagNumber);
+    }
+    return events.stream().map(livestockMapper::toEventResponse).toList();
+  }
+
+  /**
+   * Retrieves the changes of a user's records after a change sequence, as the current state of
+   * each changed event, expense, animal, and count. Animals are those involved in changed events,
+   * and counts those of herds with a changed event or count.
+   *
+   * @param userId ID of the user
+   * @param since Change sequence to continue after, 0 for a full sync
+   * @param size Maximum number of changes
+   * @return Changes response with the cursor of the next sync
+   * @throws LivestockException if user not found or size invalid
+   */
+  @Override
+  @Transactional(readOnly = true)
+  public ChangesResponse getChanges(Long userId, long since, int size) {
+    validationHelper.validateUser(userId);
+    validationHelper.validatePagination(0, size);
+    ChangePage page = changeLog.read(userId, Math.max(since, 0), size);
+    Set<Long> eventIds = new LinkedHashSet<>();
+    Set<Long> expenseIds = new LinkedHashSet<>();
+    Set<LivestockCategory> countCategories = EnumSet.noneOf(LivestockCategory.class);
+    for (ChangeLogEntry entry : page.entries()) {
+      switch (entry.getKind()) {
+        case EVENT -> {
+          eventIds.add(entry.getEntityId());
+          countCategories.add(entry.getCategory());
+        }
+        case EXPENSE -> expenseIds.add(entry.getEntityId());
+        case COUNT -> countCategories.add(entry.getCategory());
+      }
+    }
+    return ChangesResponse.builder()
+        .events(
+            eventRepository.findAllById(eventIds).stream()
+                .sorted(Comparator.comparing(LivestockEvent::getId))
+                .map(livestockMapper::toEventResponse)
+                .toList())
+        .expenses(
+            expenseRepository.findAllById(expenseIds).stream()
+                .sorted(Comparator.comparing(LivestockExpense::getId))
+                .map(livestockMapper::toExpenseResponse)
+                .toList())
+        .animals(
+            eventIds.isEmpty()
+                ? List.of()
+                : livestockIdRepository.findAnimalsByUserUserIdAndEventIds(userId, eventIds).stream()
+                    .map(livestockMapper::toAnimalResponse)
+                    .toList())
+        .counts(
+            countCategories.stream()
+                .map(category -> countRepository.findByUserUserIdAndCategory(userId, category))
+                .flatMap(Optional::stream)
+                .map(shardedCounts::effective)
+                .map(livestockMapper::toCountResponse)
+                .toList())
+        .cursor(page.cursor())
+        .hasMore(page.hasMore())
+        .fullResync(page.fullResync())
+        .build();
+  }
+
   /**
    * Validates sale price for SALE events, clears it for others.
    *
@@ -265,9 +515,9 @@ public class LivestockServiceImpl implements LivestockService {
   private void validateEventSalePrice(RecordEventRequest request) {
     if (request.getEventType() == LivestockEventType.SALE) {
       if (request.getSalePrice() == null || request.getSalePrice().compareTo(BigDecimal.ZERO) <= 0) {
-        throw new LivestockException(
+        throw LivestockException.of(
             LivestockErrorCodes.INVALID_SALE_PRICE,
-            String.format(LivestockConstants.MSG_INVALID_SALE_PRICE, request.getSalePrice()));
+            LivestockConstants.MSG_INVALID_SALE_PRICE, request.getSalePrice());
       }
     } else if (request.getSalePrice() != null) {
       request.setSalePrice(null);
@@ -275,19 +525,21 @@ public class LivestockServiceImpl implements LivestockService {
   }
 
   /**
-   * Saves event and updates or creates livestock tag numbers.
+   * Saves event and updates or creates livestock tag numbers, and merges the event into the
+   * herd's analytics snapshot once it commits.
    *
    * @param user User entity
    * @param count Livestock count
    * @param request Event request
-   * @param livestockIds List of livestock IDs
+   * @param tagNumbers Validated tag numbers of the animals leaving the herd
    * @return Saved event
    */
   private LivestockEvent saveEventAndIds(
-      User user, LivestockCount count, RecordEventRequest request, List<LivestockId> livestockIds) {
+      User user, LivestockCount count, RecordEventRequest request, List<String> tagNumbers) {
     LivestockEvent event = livestockMapper.toEvent(user, request);
     event = eventRepository.save(event);
-    idManager.handleLivestockIds(user, count, event, request, livestockIds);
+    List<LivestockId> newIds = idManager.handleLivestockIds(user, count, event, request, tagNumbers);
+    analyticsSnapshots.addEventAfterCommit(user.getUserId(), request.getCategory(), event, newIds);
     return event;
   }
 
@@ -307,14 +559,40 @@ public class LivestockServiceImpl implements LivestockService {
         return eventRepository.findByUserUserIdAndCategoryAndEventTypeOrderByEventDate(
             userId, category, type);
       } catch (IllegalArgumentException e) {
-        throw new LivestockException(
+        throw LivestockException.of(
             LivestockErrorCodes.INVALID_EVENT_TYPE,
-            String.format(LivestockConstants.MSG_INVALID_EVENT_TYPE, eventType));
+            LivestockConstants.MSG_INVALID_EVENT_TYPE, eventType);
       }
     }
     return eventRepository.findByUserUserIdAndCategoryOrderByEventDate(userId, category);
   }
 
+  /**
+   * Returns the date of the first herd delta, or the fallback when there are none.
+   *
+   * @param deltas Daily herd deltas ordered by day
+   * @param fallback Date to use when the herd has no events
+   * @return First event date or fallback
+   */
+  private LocalDate firstDeltaDate(List<HerdDelta> deltas, LocalDate fallback) {
+    return deltas.isEmpty() ? fallback : LocalDate.ofEpochDay(deltas.get(0).epochDay());
+  }
+
+  /**
+   * Validates that the start date is not after the end date.
+   *
+   * @param start Start date
+   * @param end End date
+   * @throws LivestockException if start is after end
+   */
+  private void validateDateRange(LocalDate start, LocalDate end) {
+    if (start.isAfter(end)) {
+      throw LivestockException.of(
+          LivestockErrorCodes.INVALID_REQUEST,
+          LivestockConstants.MSG_INVALID_DATE_RANGE, start, end);
+    }
+  }
+
   /**
    * Normalizes start date to default if null.
    *
@@ -335,6 +613,26 @@ public class LivestockServiceImpl implements LivestockService {
     return endDate != null ? endDate : LocalDate.now();
   }
 
+  /**
+   * Aggregates expenses by expense category, from the herd's analytics snapshot when available.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param start Start date
+   * @param end End date
+   * @return List of arrays containing expense category, total amount, and count
+   */
+  private List<Object[]> findExpenseSummaries(
+      Long userId, LivestockCategory category, LocalDate start, LocalDate end) {
+    return analyticsSnapshots
+        .find(userId, category)
+        .map(s -> s.expenseSummaries(start, end))
+        .orElseGet(
+            () ->
+                expenseRepository.findExpenseSummariesByUserUserIdAndCategoryAndExpenseDateBetween(
+                    userId, category, start, end));
+  }
+
   /**
    * Calculates revenue from sale events.
    *
@@ -348,10 +646,7 @@ public class LivestockServiceImpl implements LivestockService {
     List<LivestockEvent> saleEvents =
         eventRepository.findByUserUserIdAndCategoryAndEventTypeAndEventDateBetween(
             userId, category, LivestockEventType.SALE, start, end);
-    return saleEvents.stream()
-        .map(LivestockEvent::getSalePrice)
-        .filter(Objects::nonNull)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    return MoneyAccumulator.sum(saleEvents, LivestockEvent::getSalePrice);
   }
 
   /**
@@ -384,10 +679,7 @@ public class LivestockServiceImpl implements LivestockService {
       Long userId, LivestockCategory category, LocalDate start, LocalDate end) {
     List<LivestockEvent> costEvents =
         eventRepository.findByUserUserIdAndCategoryAndEventDateBetween(userId, category, start, end);
-    return costEvents.stream()
-        .map(LivestockEvent::getCost)
-        .filter(Objects::nonNull)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    return MoneyAccumulator.sum(costEvents, LivestockEvent::getCost);
   }
 
   /**
@@ -398,12 +690,9 @@ public class LivestockServiceImpl implements LivestockService {
    * @return Total purchase costs
    */
   private BigDecimal calculatePurchaseCosts(Long userId, LivestockCategory category) {
-    List<LivestockId> livestockIds =
-        livestockIdRepository.findByUserUserIdAndCategory(userId, category);
-    return livestockIds.stream()
-        .map(LivestockId::getPurchasePrice)
-        .filter(Objects::nonNull)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    List<BigDecimal> purchasePrices =
+        livestockIdRepository.findPurchasePricesByUserUserIdAndCategory(userId, category);
+    return MoneyAccumulator.sum(purchasePrices, Function.identity());
   }
 
   /**
@@ -422,9 +711,7 @@ public class LivestockServiceImpl implements LivestockService {
         expenseRepository
             .findByUserUserIdAndCategoryAndExpenseDateBetween(userId, category, start, end, pageable)
             .getContent();
-    return expenses.stream()
-        .map(LivestockExpense::getAmount)
-        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    return MoneyAccumulator.sum(expenses, LivestockExpense::getAmount);
   }
 
   /**
@@ -0,0 +1,152 @@
+package co.za.zwibvafhi.livestock.core.service.helper;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry.Kind;
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogHorizon;
+import co.za.zwibvafhi.livestock.persistence.repository.ChangeLogHorizonRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.ChangeLogRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Records every write in the change log and reads it back for incremental sync.
+ *
+ * <p>Change sequences are assigned on insert, so a write that commits late can become visible
+ * behind entries a client already synced past. The cursor returned to clients therefore never
+ * moves past an entry younger than {@code livestock.changes.settle-window}: such entries are
+ * returned again by the next sync, and clients apply changes by ID, so repeats are harmless.
+ *
+ * <p>Entries older than {@code livestock.changes.retention} are deleted every
+ * {@code livestock.changes.compact-interval}. The highest deleted sequence of each user is kept as
+ * the user's horizon; a cursor behind it is answered with a full-resync page instead of entries,
+ * whose cursor is the horizon to continue from once the client has reloaded its records.
+ */
+@Component
+public class ChangeLog {
+
+  private final ChangeLogRepository changeLogRepository;
+  private final ChangeLogHorizonRepository horizonRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final Duration settleWindow;
+  private final Duration retention;
+
+  /**
+   * Creates the change log.
+   *
+   * @param changeLogRepository Change log repository
+   * @param horizonRepository Change log horizon repository
+   * @param transactionManager Transaction manager of the retention deletes
+   * @param settleWindow Age after which an entry can no longer be overtaken by a later commit
+   * @param retention Age after which an entry is deleted
+   */
+  public ChangeLog(
+      ChangeLogRepository changeLogRepository,
+      ChangeLogHorizonRepository horizonRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${livestock.changes.settle-window:PT5S}") Duration settleWindow,
+      @Value("${livestock.changes.retention:P30D}") Duration retention) {
+    this.changeLogRepository = changeLogRepository;
+    this.horizonRepository = horizonRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.settleWindow = settleWindow;
+    this.retention = retention;
+  }
+
+  /**
+   * Records a change in the current transaction.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param kind Kind of the changed record
+   * @param entityId ID of the changed record
+   */
+  public void record(Long userId, LivestockCategory category, Kind kind, long entityId) {
+    changeLogRepository.save(
+        ChangeLogEntry.builder()
+            .userId(userId)
+            .category(category)
+            .kind(kind)
+            .entityId(entityId)
+            .changedAt(LocalDateTime.now())
+            .build());
+  }
+
+  /**
+   * Reads a page of a user's changes after a cursor.
+   *
+   * @param userId ID of the user
+   * @param since Change sequence to continue after (exclusive)
+   * @param size Maximum number of entries
+   * @return Entries of the page with the cursor to continue from
+   */
+  public ChangePage read(Long userId, long since, int size) {
+    long horizon = horizonRepository.findById(userId).map(ChangeLogHorizon::getSeq).orElse(0L);
+    if (since < horizon) {
+      return new ChangePage(List.of(), horizon, false, true);
+    }
+    List<ChangeLogEntry> entries =
+        changeLogRepository.findByUserIdAndSeqGreaterThanOrderBySeq(
+            userId, since, PageRequest.of(0, size + 1));
+    boolean truncated = entries.size() > size;
+    if (truncated) {
+      entries = entries.subList(0, size);
+    }
+    LocalDateTime settled = LocalDateTime.now().minus(settleWindow);
+    long cursor = since;
+    boolean allSettled = true;
+    for (ChangeLogEntry entry : entries) {
+      if (entry.getChangedAt().isAfter(settled)) {
+        allSettled = false;
+        break;
+      }
+      cursor = entry.getSeq();
+    }
+    return new ChangePage(entries, cursor, truncated && allSettled, false);
+  }
+
+  /**
+   * Deletes the entries older than the retention, moving the horizon of their users past them.
+   * Each user's entries are deleted in one transaction with its horizon.
+   */
+  @Scheduled(
+      initialDelayString = "${livestock.changes.compact-interval:PT1H}",
+      fixedDelayString = "${livestock.changes.compact-interval:PT1H}")
+  public void compact() {
+    LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+    for (Object[] row : changeLogRepository.findLastSeqsBefore(cutoff)) {
+      Long userId = (Long) row[0];
+      long seq = (Long) row[1];
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            ChangeLogHorizon horizon =
+                horizonRepository
+                    .findById(userId)
+                    .orElseGet(() -> new ChangeLogHorizon(userId, 0L));
+            horizon.setSeq(Math.max(horizon.getSeq(), seq));
+            horizonRepository.save(horizon);
+            changeLogRepository.deleteByUserIdUpTo(userId, seq);
+          });
+    }
+  }
+
+  /**
+   * Page of change log entries.
+   *
+   * @param entries Entries in sequence order
+   * @param cursor Change sequence to continue after on the next sync
+   * @param hasMore Whether more entries can be read right away from the cursor; false while the
+   *     cursor is held back by unsettled entries
+   * @param fullResync Whether entries after the requested cursor were deleted by retention, so
+   *     the client must reload its records before continuing from the cursor
+   */
+  public record ChangePage(
+      List<ChangeLogEntry> entries, long cursor, boolean hasMore, boolean fullResync) {}
+}
@@ -27,12 +27,11 @@ public class CountUpdater {
       int newMaleCount = count.getMaleCount() - request.getMaleCount();
       int newFemaleCount = count.getFemaleCount() - request.getFemaleCount();
       if (newMaleCount < 0 || newFemaleCount < 0) {
-        throw new LivestockException(
+        throw LivestockException.of(
             LivestockErrorCodes.NEGATIVE_COUNT,
-            String.format(
-                LivestockConstants.MSG_NEGATIVE_COUNT,
-                count.getUser().getUserId(),
-                request.getCategory()));
+            LivestockConstants.MSG_NEGATIVE_COUNT,
+            count.getUser().getUserId(),
+            request.getCategory());
       }
     }
   }
@@ -44,13 +43,27 @@ public class CountUpdater {
    * @param request Event request with male and female counts
    */
   public void updateCountBasedOnEvent(LivestockCount count, RecordEventRequest request) {
-    if (isIncreasingEvent(request.getEventType())) {
-      count.setMaleCount(count.getMaleCount() + request.getMaleCount());
-      count.setFemaleCount(count.getFemaleCount() + request.getFemaleCount());
-      count.setMaxId(count.getMaxId() + request.getMaleCount() + request.getFemaleCount());
-    } else if (isDecreasingEvent(request.getEventType())) {
-      count.setMaleCount(Math.max(0, count.getMaleCount() - request.getMaleCount()));
-      count.setFemaleCount(Math.max(0, count.getFemaleCount() - request.getFemaleCount()));
+    applyEvent(count, request.getEventType(), request.getMaleCount(), request.getFemaleCount());
+  }
+
+  /**
+   * Applies one recorded event to livestock counts. Used both for new events and when replaying
+   * the event log.
+   *
+   * @param count Livestock count to update
+   * @param eventType Event type
+   * @param maleCount Male count of the event
+   * @param femaleCount Female count of the event
+   */
+  public void applyEvent(
+      LivestockCount count, LivestockEventType eventType, int maleCount, int femaleCount) {
+    if (isIncreasingEvent(eventType)) {
+      count.setMaleCount(count.getMaleCount() + maleCount);
+      count.setFemaleCount(count.getFemaleCount() + femaleCount);
+      count.setMaxId(count.getMaxId() + maleCount + femaleCount);
+    } else if (isDecreasingEvent(eventType)) {
+      count.setMaleCount(Math.max(0, count.getMaleCount() - maleCount));
+      count.setFemaleCount(Math.max(0, count.getFemaleCount() - femaleCount));
     }
   }
 
@@ -0,0 +1,98 @@
+package co.za.zwibvafhi.livestock.core.service.helper;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/**
+ * Integrates herd size over time (head-days) with a single sorted sweep over the herd's daily
+ * head count changes, so the cost is proportional to the number of event dates rather than the
+ * number of days in the period.
+ */
+@Component
+public class HeadDayCalculator {
+
+  /**
+   * Net head count change of a herd on one day.
+   *
+   * @param epochDay Day of the change as {@link LocalDate#toEpochDay()}
+   * @param delta Signed head count change
+   */
+  public record HerdDelta(long epochDay, long delta) {}
+
+  /**
+   * Converts aggregated event rows into signed daily herd deltas.
+   *
+   * @param rows Rows of event date, event type, and head count, ordered by event date
+   * @return Daily deltas ordered by day, one per event date
+   */
+  public List<HerdDelta> toDailyDeltas(List<Object[]> rows) {
+    List<HerdDelta> deltas = new ArrayList<>(rows.size());
+    long currentDay = Long.MIN_VALUE;
+    long currentDelta = 0;
+    for (Object[] row : rows) {
+      long day = ((LocalDate) row[0]).toEpochDay();
+      long heads = ((Number) row[2]).longValue();
+      if (day != currentDay) {
+        if (currentDay != Long.MIN_VALUE) {
+          deltas.add(new HerdDelta(currentDay, currentDelta));
+        }
+        currentDay = day;
+        currentDelta = 0;
+      }
+      currentDelta += signedHeads((LivestockEventType) row[1], heads);
+    }
+    if (currentDay != Long.MIN_VALUE) {
+      deltas.add(new HerdDelta(currentDay, currentDelta));
+    }
+    return deltas;
+  }
+
+  /**
+   * Computes head-days between two dates (inclusive) given the current herd size. The herd size
+   * before the first event is derived by rolling the current size back over all deltas; changes
+   * recorded on a day count towards that day.
+   *
+   * @param currentHeads Current herd size
+   * @param deltas Daily deltas ordered by day
+   * @param start Start date (inclusive)
+   * @param end End date (inclusive)
+   * @return Total head-days in the period
+   */
+  public long integrate(long currentHeads, List<HerdDelta> deltas, LocalDate start, LocalDate end) {
+    long heads = currentHeads;
+    for (HerdDelta delta : deltas) {
+      heads -= delta.delta();
+    }
+    long cursor = start.toEpochDay();
+    long endDay = end.toEpochDay();
+    long headDays = 0;
+    for (HerdDelta delta : deltas) {
+      long day = delta.epochDay();
+      if (day > endDay) {
+        break;
+      }
+      if (day > cursor) {
+        headDays += heads * (day - cursor);
+        cursor = day;
+      }
+      heads += delta.delta();
+    }
+    return headDays + heads * (endDay + 1 - cursor);
+  }
+
+  /**
+   * Applies the sign of an event type to its head count.
+   *
+   * @param eventType Event type
+   * @param heads Head count of the event
+   * @return Positive heads for BIRTH and PURCHASE, negative heads otherwise
+   */
+  private long signedHeads(LivestockEventType eventType, long heads) {
+    return eventType == LivestockEventType.BIRTH || eventType == LivestockEventType.PURCHASE
+        ? heads
+        : -heads;
+  }
+}
@@ -8,16 +8,27 @@ import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import co.za.zwibvafhi.livestock.common.LivestockConstants;
 import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
 import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.core.index.AliveTagIndex;
+import co.za.zwibvafhi.livestock.core.index.ExistingTagFilter;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockEventAnimal;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockId;
 import co.za.zwibvafhi.livestock.persistence.entity.User;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockEventAnimalRepository;
 import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
 import java.math.BigDecimal;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Manages creation, validation, and updates of livestock tag numbers with
@@ -28,6 +39,10 @@ import org.springframework.stereotype.Component;
 public class LivestockIdManager {
 
   private final LivestockIdRepository livestockIdRepository;
+  private final LivestockEventAnimalRepository eventAnimalRepository;
+  private final AliveTagIndex aliveTagIndex;
+  private final ExistingTagFilter existingTagFilter;
+  private final PlatformTransactionManager transactionManager;
 
   /**
    * Validates livestock tag numbers for an event, ensuring correct count and status.
@@ -35,39 +50,50 @@ public class LivestockIdManager {
    * @param userId ID of the user
    * @param request Event request with tag numbers
    * @param count Livestock count for reference
-   * @return List of validated livestock IDs
+   * @return Validated tag numbers of the animals leaving the herd, empty for other events
    * @throws LivestockException if tags are missing, mismatched, or invalid
    */
-  public List<LivestockId> validateLivestockIds(
+  public List<String> validateLivestockIds(
       Long userId, RecordEventRequest request, LivestockCount count) {
     int totalCount = request.getMaleCount() + request.getFemaleCount();
     if (!requiresIdValidation(request.getEventType())) {
-      return validatePurchaseIds(request, totalCount);
+      return validatePurchaseIds(userId, request, totalCount);
     }
     return validateSaleOrSlaughterIds(userId, request, totalCount, count.getCategory());
   }
 
   /**
-   * Handles creation or update of livestock tag numbers based on event type.
+   * Handles creation or update of livestock tag numbers based on event type, and links the event
+   * to every animal involved.
    *
    * @param user User entity
    * @param count Livestock count
    * @param event Livestock event
    * @param request Event request
-   * @param livestockIds List of livestock IDs
+   * @param tagNumbers Validated tag numbers of the animals leaving the herd
+   * @return Livestock IDs created by a BIRTH or PURCHASE event, otherwise empty
    * @throws LivestockException if tag creation or update fails
    */
-  public void handleLivestockIds(
+  public List<LivestockId> handleLivestockIds(
       User user,
       LivestockCount count,
       LivestockEvent event,
       RecordEventRequest request,
-      List<LivestockId> livestockIds) {
+      List<String> tagNumbers) {
     if (isBirthOrPurchase(request.getEventType())) {
-      createLivestockIds(user, count, event, request);
-    } else if (isSaleOrSlaughterOrLost(request.getEventType())) {
-      updateLivestockIds(livestockIds, event, request.getEventType());
+      List<LivestockId> newIds = createLivestockIds(user, count, event, request);
+      List<String> newTagNumbers = newIds.stream().map(LivestockId::getTagNumber).toList();
+      linkEventToAnimals(user, event, newTagNumbers);
+      aliveTagIndex.addAfterCommit(user.getUserId(), request.getCategory(), newTagNumbers);
+      existingTagFilter.addAfterCommit(user.getUserId(), newTagNumbers);
+      return newIds;
     }
+    if (isSaleOrSlaughterOrLost(request.getEventType())) {
+      updateLivestockIds(user, request.getCategory(), tagNumbers, request.getEventType());
+      linkEventToAnimals(user, event, tagNumbers);
+      aliveTagIndex.removeAfterCommit(user.getUserId(), request.getCategory(), tagNumbers);
+    }
+    return List.of();
   }
 
   /**
@@ -83,42 +109,47 @@ public class LivestockIdManager {
   }
 
   /**
-   * Validates tags for PURCHASE events, ensuring count matches.
+   * Validates tags for PURCHASE events, ensuring count matches and that caller-supplied tags of
+   * BIRTH or PURCHASE events are not in use yet.
    *
+   * @param userId ID of the user
    * @param request Event request
    * @param totalCount Total male and female count
    * @return Empty list if valid
-   * @throws LivestockException if tag count mismatches
+   * @throws LivestockException if tag count mismatches or a tag is already in use
    */
-  private List<LivestockId> validatePurchaseIds(RecordEventRequest request, int totalCount) {
-    if (request.getLivestockIds() != null && request.getLivestockIds().size() != totalCount) {
-      throw new LivestockException(
+  private List<String> validatePurchaseIds(Long userId, RecordEventRequest request, int totalCount) {
+    List<String> tagNumbers = request.getLivestockIds();
+    if (tagNumbers != null && tagNumbers.size() != totalCount) {
+      throw LivestockException.of(
           LivestockErrorCodes.LIVESTOCK_ID_COUNT_MISMATCH,
-          String.format(
-              LivestockConstants.MSG_LIVESTOCK_ID_COUNT_MISMATCH,
-              request.getLivestockIds().size(),
-              totalCount));
+          LivestockConstants.MSG_LIVESTOCK_ID_COUNT_MISMATCH, tagNumbers.size(), totalCount);
+    }
+    if (tagNumbers != null && isBirthOrPurchase(request.getEventType())) {
+      checkNoDuplicateIds(tagNumbers);
+      checkIdsNotInUse(userId, tagNumbers);
     }
     return new ArrayList<>();
   }
 
   /**
-   * Validates tags for SALE, SLAUGHTER, or LOST events.
+   * Validates tags for SALE, SLAUGHTER, or LOST events against the alive tag index.
    *
    * @param userId ID of the user
    * @param request Event request
    * @param totalCount Total male and female count
    * @param category Livestock category
-   * @return List of validated IDs
+   * @return List of validated tag numbers
    * @throws LivestockException if tags are invalid
    */
-  private List<LivestockId> validateSaleOrSlaughterIds(
+  private List<String> validateSaleOrSlaughterIds(
       Long userId, RecordEventRequest request, int totalCount, LivestockCategory category) {
-    checkIdsProvided(request.getLivestockIds());
-    List<LivestockId> livestockIds = fetchAndValidateIds(userId, request.getLivestockIds(), category);
-    validateIdCount(livestockIds, totalCount);
-    validateIdStatus(livestockIds);
-    return livestockIds;
+    List<String> tagNumbers = request.getLivestockIds();
+    checkIdsProvided(tagNumbers);
+    checkNoDuplicateIds(tagNumbers);
+    validateIdCount(tagNumbers.size(), totalCount);
+    validateIdsAlive(userId, category, tagNumbers);
+    return tagNumbers;
   }
 
   /**
@@ -129,63 +160,81 @@ public class LivestockIdManager {
    */
   private void checkIdsProvided(List<String> tagNumbers) {
     if (tagNumbers == null || tagNumbers.isEmpty()) {
-      throw new LivestockException(
+      throw LivestockException.of(
           LivestockErrorCodes.INVALID_LIVESTOCK_IDS,
-          String.format(LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, "No IDs provided"));
+          LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, "No IDs provided");
     }
   }
 
   /**
-   * Fetches and validates livestock tag numbers from repository.
+   * Checks that no tag number is provided twice.
    *
-   * @param userId ID of the user
    * @param tagNumbers List of tag numbers
-   * @param category Livestock category
-   * @return List of fetched IDs
-   * @throws LivestockException if some tags are not found
+   * @throws LivestockException if a tag number is repeated
    */
-  private List<LivestockId> fetchAndValidateIds(
-      Long userId, List<String> tagNumbers, LivestockCategory category) {
-    List<LivestockId> livestockIds =
-        livestockIdRepository.findByUserUserIdAndCategoryAndTagNumberIn(
-            userId, category, tagNumbers);
-    if (livestockIds.size() != tagNumbers.size()) {
-      throw new LivestockException(
-          LivestockErrorCodes.INVALID_LIVESTOCK_IDS,
-          String.format(LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, "Some IDs not found"));
+  private void checkNoDuplicateIds(List<String> tagNumbers) {
+    Set<String> seen = new HashSet<>();
+    Set<String> duplicates = new LinkedHashSet<>();
+    for (String tagNumber : tagNumbers) {
+      if (!seen.add(tagNumber)) {
+        duplicates.add(tagNumber);
+      }
+    }
+    if (!duplicates.isEmpty()) {
+      throw LivestockException.of(
+          LivestockErrorCodes.DUPLICATE_LIVESTOCK_IDS,
+          LivestockConstants.MSG_DUPLICATE_LIVESTOCK_IDS, duplicates);
+    }
+  }
+
+  /**
+   * Checks that none of the tag numbers is already used by the user's livestock.
+   *
+   * @param userId ID of the user
+   * @param tagNumbers Distinct tag numbers
+   * @throws LivestockException if a tag number is already in use
+   */
+  private void checkIdsNotInUse(Long userId, List<String> tagNumbers) {
+    List<String> existing = existingTagFilter.findExisting(userId, tagNumbers);
+    if (!existing.isEmpty()) {
+      throw LivestockException.of(
+          LivestockErrorCodes.DUPLICATE_LIVESTOCK_IDS,
+          LivestockConstants.MSG_DUPLICATE_LIVESTOCK_IDS, existing);
     }
-    return livestockIds;
   }
 
   /**
-   * Validates livestock ID count matches total count.
+   * Validates tag number count matches total count.
    *
-   * @param livestockIds List of livestock IDs
+   * @param idCount Number of tag numbers
    * @param totalCount Expected count
    * @throws LivestockException if count mismatches
    */
-  private void validateIdCount(List<LivestockId> livestockIds, int totalCount) {
-    if (livestockIds.size() != totalCount) {
-      throw new LivestockException(
+  private void validateIdCount(int idCount, int totalCount) {
+    if (idCount != totalCount) {
+      throw LivestockException.of(
           LivestockErrorCodes.LIVESTOCK_ID_COUNT_MISMATCH,
-          String.format(
-              LivestockConstants.MSG_LIVESTOCK_ID_COUNT_MISMATCH, livestockIds.size(), totalCount));
+          LivestockConstants.MSG_LIVESTOCK_ID_COUNT_MISMATCH, idCount, totalCount);
     }
   }
 
   /**
-   * Validates all livestock IDs are in ALIVE status.
+   * Validates all tag numbers belong to alive animals of the herd.
    *
-   * @param livestockIds List of livestock IDs
-   * @throws LivestockException if any ID is not ALIVE
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @param tagNumbers Distinct tag numbers
+   * @throws LivestockException if any tag is unknown or not alive
    */
-  private void validateIdStatus(List<LivestockId> livestockIds) {
-    boolean allAlive = livestockIds.stream().allMatch(id -> id.getStatus() == LivestockStatus.ALIVE);
-    if (!allAlive) {
-      throw new LivestockException(
-          LivestockErrorCodes.INVALID_LIVESTOCK_IDS,
-          String.format(LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, "Some IDs are not alive"));
+  private void validateIdsAlive(Long userId, LivestockCategory category, List<String> tagNumbers) {
+    if (aliveTagIndex.areAlive(userId, category, tagNumbers)) {
+      return;
     }
+    long found = livestockIdRepository.countByTagNumbers(userId, category, null, tagNumbers);
+    String reason = found != tagNumbers.size() ? "Some IDs not found" : "Some IDs are not alive";
+    throw LivestockException.of(
+        LivestockErrorCodes.INVALID_LIVESTOCK_IDS,
+        LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, reason);
   }
 
   /**
@@ -195,8 +244,10 @@ public class LivestockIdManager {
    * @param count Livestock count
    * @param event Livestock event
    * @param request Event request
+   * @return Created livestock IDs
+   * @throws LivestockException if a tag number is already in use
    */
-  private void createLivestockIds(
+  private List<LivestockId> createLivestockIds(
       User user, LivestockCount count, LivestockEvent event, RecordEventRequest request) {
     List<LivestockId> newIds = new ArrayList<>();
     List<String> providedIds = request.getLivestockIds() != null ? request.getLivestockIds() : null;
@@ -231,7 +282,36 @@ public class LivestockIdManager {
             request.getCost(),
             femaleStartIndex));
 
-    livestockIdRepository.saveAll(newIds);
+    try {
+      return livestockIdRepository.saveAll(newIds);
+    } catch (DataIntegrityViolationException e) {
+      throw LivestockException.of(
+          LivestockErrorCodes.DUPLICATE_LIVESTOCK_IDS,
+          LivestockConstants.MSG_DUPLICATE_LIVESTOCK_IDS,
+          findTagNumbersInUse(user.getUserId(), newIds));
+    }
+  }
+
+  /**
+   * Finds which tag numbers of IDs that failed to insert are used by another animal, usually one
+   * inserted by a concurrent request after validation. The lookup runs in a new transaction, as
+   * the database may refuse further statements in the one whose insert failed.
+   *
+   * @param userId ID of the user
+   * @param newIds IDs that failed to insert
+   * @return Tag numbers in use, or all tag numbers if none is found
+   */
+  private List<String> findTagNumbersInUse(Long userId, List<LivestockId> newIds) {
+    List<String> tagNumbers = newIds.stream().map(LivestockId::getTagNumber).toList();
+    TransactionTemplate lookup = new TransactionTemplate(transactionManager);
+    lookup.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    lookup.setReadOnly(true);
+    Set<String> inUse =
+        new HashSet<>(
+            lookup.execute(
+                status -> livestockIdRepository.findExistingTagNumbers(userId, tagNumbers)));
+    List<String> duplicates = tagNumbers.stream().filter(inUse::contains).toList();
+    return duplicates.isEmpty() ? tagNumbers : duplicates;
   }
 
   /**
@@ -280,14 +360,18 @@ public class LivestockIdManager {
   }
 
   /**
-   * Updates livestock tag numbers for SALE, SLAUGHTER, or LOST events.
+   * Updates the status of livestock tag numbers for SALE, SLAUGHTER, or LOST events with one
+   * guarded bulk update. The ID keeps referencing the event that created it; exit events are
+   * recorded as event links.
    *
-   * @param livestockIds List of livestock IDs
-   * @param event Livestock event
+   * @param user User entity
+   * @param category Livestock category
+   * @param tagNumbers Validated tag numbers
    * @param eventType Event type
+   * @throws LivestockException if any tag stopped being alive since validation
    */
   private void updateLivestockIds(
-      List<LivestockId> livestockIds, LivestockEvent event, LivestockEventType eventType) {
+      User user, LivestockCategory category, List<String> tagNumbers, LivestockEventType eventType) {
     LivestockStatus newStatus;
     if (eventType == LivestockEventType.SLAUGHTER) {
       newStatus = LivestockStatus.SLAUGHTERED;
@@ -296,11 +380,29 @@ public class LivestockIdManager {
     } else {
       newStatus = LivestockStatus.LOST;
     }
-    for (LivestockId id : livestockIds) {
-      id.setStatus(newStatus);
-      id.setEvent(event);
+    int updated =
+        livestockIdRepository.updateStatusOfAliveByTagNumbers(
+            user.getUserId(), category, tagNumbers, newStatus);
+    if (updated != tagNumbers.size()) {
+      throw LivestockException.of(
+          LivestockErrorCodes.INVALID_LIVESTOCK_IDS,
+          LivestockConstants.MSG_INVALID_LIVESTOCK_IDS, "Some IDs are not alive");
+    }
+  }
+
+  /**
+   * Links an event to the animals it involved, inserted as one batch.
+   *
+   * @param user User entity
+   * @param event Livestock event
+   * @param tagNumbers Tag numbers of the animals involved in the event
+   */
+  private void linkEventToAnimals(User user, LivestockEvent event, List<String> tagNumbers) {
+    List<LivestockEventAnimal> links = new ArrayList<>(tagNumbers.size());
+    for (String tagNumber : tagNumbers) {
+      links.add(new LivestockEventAnimal(event.getId(), user.getUserId(), tagNumber));
     }
-    livestockIdRepository.saveAll(livestockIds);
+    eventAnimalRepository.saveAll(links);
   }
 
   /**
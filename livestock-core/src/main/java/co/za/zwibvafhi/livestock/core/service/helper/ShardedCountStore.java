@@ -0,0 +1,215 @@
+package co.za.zwibvafhi.livestock.core.service.helper;
+
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCountDelta;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockCountDeltaRepository;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockCountRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Spreads livestock count increments over delta slots, so that concurrent BIRTH and PURCHASE
+ * events of one herd do not serialize on its count row.
+ *
+ * <p>With {@code livestock.sharded-counts.enabled}, increasing events that carry their own tag
+ * numbers add to one of {@code livestock.sharded-counts.slots} slots, chosen by the recording
+ * at random, while holding a shared lock on the count. Events that decrease counts or generate tag
+ * numbers take an exclusive lock and fold all slots into the count first, so
+ * {@link CountUpdater#validateCounts} and the generated IDs always see the full herd. A background
+ * compactor folds pending slots every {@code livestock.sharded-counts.compact-interval}.
+ *
+ * <p>Slots are created with their count, or for counts that predate the mode while the count is
+ * exclusively locked by a fold. An increment whose slot does not exist yet inserts it first, so
+ * the count row is never written under the shared lock.
+ */
+@Component
+public class ShardedCountStore {
+
+  private final LivestockCountRepository countRepository;
+  private final LivestockCountDeltaRepository deltaRepository;
+  private final TransactionTemplate transactionTemplate;
+  private final boolean enabled;
+  private final int slots;
+
+  /**
+   * Creates the sharded count store.
+   *
+   * @param countRepository Livestock count repository
+   * @param deltaRepository Livestock count delta repository
+   * @param transactionManager Transaction manager for compaction
+   * @param enabled Whether increments are spread over delta slots
+   * @param slots Number of delta slots per count
+   */
+  public ShardedCountStore(
+      LivestockCountRepository countRepository,
+      LivestockCountDeltaRepository deltaRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${livestock.sharded-counts.enabled:false}") boolean enabled,
+      @Value("${livestock.sharded-counts.slots:8}") int slots) {
+    this.countRepository = countRepository;
+    this.deltaRepository = deltaRepository;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.enabled = enabled;
+    this.slots = slots;
+  }
+
+  /**
+   * Checks whether the sharded-counter mode is enabled.
+   *
+   * @return True if increments may be spread over delta slots
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Checks whether an event can add to a delta slot instead of updating the count row: it must
+   * increase counts and carry its own tag numbers.
+   *
+   * @param request Event request
+   * @return True if the event is recorded as a delta
+   */
+  public boolean canDefer(RecordEventRequest request) {
+    return enabled
+        && (request.getEventType() == LivestockEventType.BIRTH
+            || request.getEventType() == LivestockEventType.PURCHASE)
+        && request.getLivestockIds() != null;
+  }
+
+  /**
+   * Creates the slots of a newly initialized count. Does nothing unless the sharded-counter mode
+   * is enabled.
+   *
+   * @param count Livestock count created in the current transaction
+   */
+  public void createSlots(LivestockCount count) {
+    if (enabled) {
+      createMissingSlots(count.getId(), Set.of());
+    }
+  }
+
+  /**
+   * Adds an increasing event to a random slot, creating the slot if the count does not have it
+   * yet. Slots are picked at random rather than by thread, since the request threads of one pool
+   * have consecutive IDs.
+   *
+   * @param count Livestock count holding a shared lock
+   * @param request Event request
+   */
+  public void addDelta(LivestockCount count, RecordEventRequest request) {
+    int slot = ThreadLocalRandom.current().nextInt(slots);
+    int maleCount = request.getMaleCount();
+    int femaleCount = request.getFemaleCount();
+    int maxIdDelta = maleCount + femaleCount;
+    if (deltaRepository.addToSlot(count.getId(), slot, maleCount, femaleCount, maxIdDelta) == 0) {
+      deltaRepository.insertSlotIfAbsent(count.getId(), slot);
+      deltaRepository.addToSlot(count.getId(), slot, maleCount, femaleCount, maxIdDelta);
+    }
+  }
+
+  /**
+   * Returns the effective count: the count row plus the deltas of all its slots.
+   *
+   * @param count Livestock count row
+   * @return The count itself without sharding, otherwise a detached copy including the deltas
+   */
+  public LivestockCount effective(LivestockCount count) {
+    if (!enabled) {
+      return count;
+    }
+    Object[] sums = deltaRepository.sumByCountId(count.getId()).get(0);
+    LivestockCount effective = new LivestockCount();
+    effective.setId(count.getId());
+    effective.setUser(count.getUser());
+    effective.setCategory(count.getCategory());
+    effective.setMaleCount(count.getMaleCount() + ((Number) sums[0]).intValue());
+    effective.setFemaleCount(count.getFemaleCount() + ((Number) sums[1]).intValue());
+    effective.setMaxId(count.getMaxId() + ((Number) sums[2]).intValue());
+    return effective;
+  }
+
+  /**
+   * Moves the deltas of all slots into the count row, and creates the slots the count is missing.
+   * Each slot is reduced by the value that was read, so increments committed meanwhile stay in
+   * their slot.
+   *
+   * @param count Livestock count holding an exclusive lock
+   * @return True if any delta was folded
+   */
+  public boolean fold(LivestockCount count) {
+    if (!enabled) {
+      return false;
+    }
+    boolean folded = false;
+    Set<Integer> existing = new HashSet<>();
+    for (Object[] slot : deltaRepository.findSlotsByCountId(count.getId())) {
+      existing.add((Integer) slot[0]);
+      int maleDelta = (Integer) slot[1];
+      int femaleDelta = (Integer) slot[2];
+      int maxIdDelta = (Integer) slot[3];
+      if (maleDelta == 0 && femaleDelta == 0 && maxIdDelta == 0) {
+        continue;
+      }
+      deltaRepository.addToSlot(
+          count.getId(), (Integer) slot[0], -maleDelta, -femaleDelta, -maxIdDelta);
+      count.setMaleCount(count.getMaleCount() + maleDelta);
+      count.setFemaleCount(count.getFemaleCount() + femaleDelta);
+      count.setMaxId(count.getMaxId() + maxIdDelta);
+      folded = true;
+    }
+    if (existing.size() < slots) {
+      createMissingSlots(count.getId(), existing);
+    }
+    if (folded) {
+      countRepository.save(count);
+    }
+    return folded;
+  }
+
+  /**
+   * Folds the pending deltas of every count and creates the slots of counts missing some, one
+   * transaction per count.
+   */
+  @Scheduled(
+      initialDelayString = "${livestock.sharded-counts.compact-interval:PT10S}",
+      fixedDelayString = "${livestock.sharded-counts.compact-interval:PT10S}")
+  public void compact() {
+    if (!enabled) {
+      return;
+    }
+    Set<Long> countIds = new LinkedHashSet<>(deltaRepository.findCountIdsWithPendingDeltas());
+    countIds.addAll(deltaRepository.findCountIdsWithFewerSlotsThan(slots));
+    for (Long countId : countIds) {
+      transactionTemplate.executeWithoutResult(
+          status -> countRepository.findForUpdateById(countId).ifPresent(this::fold));
+    }
+  }
+
+  /**
+   * Creates the slots a count is missing in the current transaction, which must either have
+   * created the count or hold its exclusive lock.
+   *
+   * @param countId ID of the livestock count
+   * @param existing Slot numbers the count already has
+   */
+  private void createMissingSlots(Long countId, Set<Integer> existing) {
+    List<LivestockCountDelta> missing = new ArrayList<>();
+    for (int slot = 0; slot < slots; slot++) {
+      if (!existing.contains(slot)) {
+        missing.add(new LivestockCountDelta(countId, slot));
+      }
+    }
+    deltaRepository.saveAll(missing);
+  }
+}
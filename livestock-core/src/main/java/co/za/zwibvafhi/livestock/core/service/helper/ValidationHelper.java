@@ -5,6 +5,7 @@ import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
 import co.za.zwibvafhi.livestock.common.LivestockConstants;
 import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
 import co.za.zwibvafhi.livestock.common.LivestockException;
+import co.za.zwibvafhi.livestock.core.index.NegativeLookupCache;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
 import co.za.zwibvafhi.livestock.persistence.entity.User;
 import co.za.zwibvafhi.livestock.persistence.repository.LivestockCountRepository;
@@ -23,6 +24,7 @@ public class ValidationHelper {
 
   private final UserRepository userRepository;
   private final LivestockCountRepository countRepository;
+  private final NegativeLookupCache negativeLookups;
 
   /**
    * Validates user existence by ID.
@@ -32,13 +34,17 @@ public class ValidationHelper {
    * @throws LivestockException if user not found
    */
   public User validateUser(Long userId) {
+    if (negativeLookups.isUnknownUser(userId)) {
+      throw userNotFound(userId);
+    }
+    long generation = negativeLookups.userGeneration(userId);
     return userRepository
         .findById(userId)
         .orElseThrow(
-            () ->
-                new LivestockException(
-                    LivestockErrorCodes.USER_NOT_FOUND,
-                    String.format(LivestockConstants.MSG_USER_NOT_FOUND, userId)));
+            () -> {
+              negativeLookups.markUnknownUser(userId, generation);
+              return userNotFound(userId);
+            });
   }
 
   /**
@@ -53,9 +59,9 @@ public class ValidationHelper {
         .findByUserUserIdAndCategory(userId, category)
         .ifPresent(
             count -> {
-              throw new LivestockException(
+              throw LivestockException.of(
                   LivestockErrorCodes.COUNT_EXISTS,
-                  String.format(LivestockConstants.MSG_COUNT_EXISTS, userId, category));
+                  LivestockConstants.MSG_COUNT_EXISTS, userId, category);
             });
   }
 
@@ -68,13 +74,63 @@ public class ValidationHelper {
    * @throws LivestockException if count not found
    */
   public LivestockCount validateCount(Long userId, LivestockCategory category) {
+    if (negativeLookups.isUninitialized(userId, category)) {
+      throw countNotFound(userId, category);
+    }
+    long generation = negativeLookups.herdGeneration(userId, category);
     return countRepository
         .findByUserUserIdAndCategory(userId, category)
         .orElseThrow(
-            () ->
-                new LivestockException(
-                    LivestockErrorCodes.COUNT_NOT_FOUND,
-                    String.format(LivestockConstants.MSG_COUNT_NOT_FOUND, userId, category)));
+            () -> {
+              negativeLookups.markUninitialized(userId, category, generation);
+              return countNotFound(userId, category);
+            });
+  }
+
+  /**
+   * Validates and retrieves livestock count for user and category, locking it until the current
+   * transaction ends so concurrent events apply one after another.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Locked livestock count
+   * @throws LivestockException if count not found
+   */
+  public LivestockCount validateCountForUpdate(Long userId, LivestockCategory category) {
+    if (negativeLookups.isUninitialized(userId, category)) {
+      throw countNotFound(userId, category);
+    }
+    long generation = negativeLookups.herdGeneration(userId, category);
+    return countRepository
+        .findForUpdateByUserUserIdAndCategory(userId, category)
+        .orElseThrow(
+            () -> {
+              negativeLookups.markUninitialized(userId, category, generation);
+              return countNotFound(userId, category);
+            });
+  }
+
+  /**
+   * Validates and retrieves livestock count for user and category, holding a shared lock until
+   * the current transaction ends so it cannot be folded or rebuilt meanwhile.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Shared-locked livestock count
+   * @throws LivestockException if count not found
+   */
+  public LivestockCount validateCountForShare(Long userId, LivestockCategory category) {
+    if (negativeLookups.isUninitialized(userId, category)) {
+      throw countNotFound(userId, category);
+    }
+    long generation = negativeLookups.herdGeneration(userId, category);
+    return countRepository
+        .findForShareByUserUserIdAndCategory(userId, category)
+        .orElseThrow(
+            () -> {
+              negativeLookups.markUninitialized(userId, category, generation);
+              return countNotFound(userId, category);
+            });
   }
 
   /**
@@ -85,9 +141,9 @@ public class ValidationHelper {
    */
   public void validateExpenseAmount(RecordExpenseRequest request) {
     if (request.getAmount() == null || request.getAmount().compareTo(BigDecimal.ZERO) <= 0) {
-      throw new LivestockException(
+      throw LivestockException.of(
           LivestockErrorCodes.INVALID_EXPENSE_AMOUNT,
-          String.format(LivestockConstants.MSG_INVALID_EXPENSE_AMOUNT, request.getAmount()));
+          LivestockConstants.MSG_INVALID_EXPENSE_AMOUNT, request.getAmount());
     }
   }
 
@@ -100,9 +156,48 @@ public class ValidationHelper {
    */
   public void validatePagination(int page, int size) {
     if (page < 0 || size <= 0 || size > 100) {
-      throw new LivestockException(
+      throw LivestockException.of(
           LivestockErrorCodes.INVALID_PAGINATION,
-          String.format(LivestockConstants.MSG_INVALID_PAGINATION, page, size));
+          LivestockConstants.MSG_INVALID_PAGINATION, page, size);
+    }
+  }
+
+  /**
+   * Validates the number of items in a bulk request.
+   *
+   * @param size Number of items (max 100)
+   * @throws LivestockException if the batch is empty or too large
+   */
+  public void validateBatchSize(int size) {
+    if (size <= 0 || size > 100) {
+      throw LivestockException.of(
+          LivestockErrorCodes.INVALID_REQUEST,
+          LivestockConstants.MSG_INVALID_BATCH_SIZE, size, 100);
     }
   }
-}
\ No newline at end of file
+
+  /**
+   * Creates the exception for a missing user.
+   *
+   * @param userId ID of the user
+   * @return User not found exception
+   */
+  private static LivestockException userNotFound(Long userId) {
+    return LivestockException.of(
+        LivestockErrorCodes.USER_NOT_FOUND,
+        LivestockConstants.MSG_USER_NOT_FOUND, userId);
+  }
+
+  /**
+   * Creates the exception for a herd without a count.
+   *
+   * @param userId ID of the user
+   * @param category Livestock category
+   * @return Count not found exception
+   */
+  private static LivestockException countNotFound(Long userId, LivestockCategory category) {
+    return LivestockException.of(
+        LivestockErrorCodes.COUNT_NOT_FOUND,
+        LivestockConstants.MSG_COUNT_NOT_FOUND, userId, category);
+  }
+}
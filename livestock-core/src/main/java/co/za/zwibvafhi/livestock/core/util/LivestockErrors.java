@@ -0,0 +1,46 @@
+package co.za.zwibvafhi.livestock.core.util;
+
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockErrorStatuses;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Translates failures of a request into the {@link LivestockException} answered for them, so a
+ * single request and an item of a batch report the same error code, message and, through
+ * {@link LivestockErrorStatuses}, status.
+ */
+public final class LivestockErrors {
+
+  private LivestockErrors() {
+    // Prevent instantiation
+  }
+
+  /**
+   * Translates a failure into a livestock exception.
+   *
+   * @param ex Failure of a request
+   * @return The failure itself if it is a {@link LivestockException}, a
+   *     {@link LivestockErrorCodes#CONCURRENT_MODIFICATION} for an optimistic locking failure, and
+   *     an {@link LivestockErrorCodes#UNEXPECTED_ERROR} caused by the failure otherwise
+   */
+  public static LivestockException translate(Exception ex) {
+    if (ex instanceof LivestockException livestockEx) {
+      return livestockEx;
+    }
+    if (ex instanceof OptimisticLockingFailureException) {
+      String entity =
+          ex instanceof ObjectOptimisticLockingFailureException objectEx
+              ? ClassUtils.getShortName(objectEx.getPersistentClassName())
+              : "Resource";
+      return LivestockException.of(
+          LivestockErrorCodes.CONCURRENT_MODIFICATION,
+          LivestockConstants.MSG_CONCURRENT_MODIFICATION,
+          entity);
+    }
+    return new LivestockException(LivestockErrorCodes.UNEXPECTED_ERROR, ex.getMessage(), ex);
+  }
+}
@@ -0,0 +1,82 @@
+package co.za.zwibvafhi.livestock.core.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * Sums money amounts in a {@code long} of cents instead of a chain of {@link BigDecimal} running
+ * totals. Each amount is still converted to cents through a short-lived {@link BigDecimal}; the
+ * saving is the running total, not the conversion. Amounts with more than two decimals, and
+ * running totals that overflow a {@code long}, are carried in a {@link BigDecimal} remainder, so
+ * the result always equals {@code reduce(BigDecimal.ZERO, BigDecimal::add)} over the same amounts,
+ * scale included.
+ */
+public final class MoneyAccumulator {
+
+  private static final int CENTS_SCALE = 2;
+
+  private long cents;
+
+  private BigDecimal remainder = BigDecimal.ZERO;
+
+  private int scale;
+
+  /**
+   * Sums an amount of each row, skipping null amounts.
+   *
+   * @param rows Rows to sum
+   * @param amount Amount of a row
+   * @param <T> Row type
+   * @return Total, or {@link BigDecimal#ZERO} if there are no amounts
+   */
+  public static <T> BigDecimal sum(Collection<T> rows, Function<? super T, BigDecimal> amount) {
+    MoneyAccumulator accumulator = new MoneyAccumulator();
+    for (T row : rows) {
+      accumulator.add(amount.apply(row));
+    }
+    return accumulator.total();
+  }
+
+  /**
+   * Adds an amount, ignoring null.
+   *
+   * @param amount Amount to add
+   */
+  public void add(BigDecimal amount) {
+    if (amount == null) {
+      return;
+    }
+    int amountScale = amount.scale();
+    scale = Math.max(scale, amountScale);
+    if (amountScale < 0 || amountScale > CENTS_SCALE) {
+      remainder = remainder.add(amount);
+      return;
+    }
+    long amountCents;
+    try {
+      amountCents = amount.movePointRight(CENTS_SCALE).longValueExact();
+    } catch (ArithmeticException e) {
+      remainder = remainder.add(amount);
+      return;
+    }
+    long total = cents + amountCents;
+    if (((cents ^ total) & (amountCents ^ total)) < 0) {
+      remainder = remainder.add(BigDecimal.valueOf(cents, CENTS_SCALE));
+      total = amountCents;
+    }
+    cents = total;
+  }
+
+  /**
+   * Returns the sum of the added amounts, with the largest scale among them.
+   *
+   * @return Total, or {@link BigDecimal#ZERO} if nothing was added
+   */
+  public BigDecimal total() {
+    return BigDecimal.valueOf(cents, CENTS_SCALE)
+        .add(remainder)
+        .setScale(scale, RoundingMode.UNNECESSARY);
+  }
+}
@@ -0,0 +1,87 @@
+package co.za.zwibvafhi.livestock.core.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that {@link MoneyAccumulator} returns what {@code reduce(BigDecimal.ZERO, BigDecimal::add)}
+ * returns over the same amounts, in value and in scale.
+ */
+@DisplayName("Money Accumulator Tests")
+class MoneyAccumulatorTest {
+
+  @Test
+  @DisplayName("Sum positive and negative amounts with two decimals")
+  void shouldSumNegativeAmounts() {
+    assertSameAsReduce("100.00", "-250.50", "0.01", "-0.01", null, "-99.99");
+  }
+
+  @Test
+  @DisplayName("Sum amounts with no, one and more than two decimals")
+  void shouldSumOtherScales() {
+    assertSameAsReduce("12", "-3.5", "0.125", "-7.2500", "0.00");
+    assertSameAsReduce("1.5", "2");
+    assertSameAsReduce("-0.001", "0.001");
+  }
+
+  @Test
+  @DisplayName("Sum amounts with a negative scale")
+  void shouldSumNegativeScale() {
+    assertSameAsReduce("1E+3", "-2.5E+2", "0.10");
+    assertSameAsReduce("1E+3");
+  }
+
+  @Test
+  @DisplayName("Sum amounts whose cents overflow a long")
+  void shouldSumPastLongCents() {
+    String max = BigDecimal.valueOf(Long.MAX_VALUE, 2).toPlainString();
+    String min = BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString();
+    assertSameAsReduce(max, max, "0.01", min, min, min, "-0.01");
+    assertSameAsReduce("1E+20", "-0.05", "123456789012345678901234.56");
+  }
+
+  @Test
+  @DisplayName("Sum no amounts")
+  void shouldSumNothing() {
+    assertSameAsReduce();
+    assertSameAsReduce((String) null);
+  }
+
+  @Test
+  @DisplayName("Sum random amounts of mixed sign and scale")
+  void shouldSumRandomAmounts() {
+    SplittableRandom random = new SplittableRandom(28);
+    for (int run = 0; run < 200; run++) {
+      List<BigDecimal> amounts = new ArrayList<>();
+      for (int i = random.nextInt(50); i > 0; i--) {
+        amounts.add(random.nextInt(10) == 0
+            ? null
+            : BigDecimal.valueOf(random.nextLong(-10_000_000L, 10_000_000L), random.nextInt(-1, 5)));
+      }
+      assertSameAsReduce(amounts);
+    }
+  }
+
+  private static void assertSameAsReduce(String... amounts) {
+    assertSameAsReduce(Arrays.stream(amounts).map(a -> a == null ? null : new BigDecimal(a))
+        .toList());
+  }
+
+  private static void assertSameAsReduce(List<BigDecimal> amounts) {
+    BigDecimal expected = amounts.stream()
+        .filter(Objects::nonNull)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    BigDecimal actual = MoneyAccumulator.sum(amounts, Function.identity());
+    assertThat(actual).as("sum of %s", amounts).isEqualTo(expected);
+    assertThat(actual.scale()).as("scale of sum of %s", amounts).isEqualTo(expected.scale());
+  }
+}
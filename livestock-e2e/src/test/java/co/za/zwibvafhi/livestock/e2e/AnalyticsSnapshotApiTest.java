@@ -0,0 +1,188 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Reports answered from analytics snapshots. Snapshots outlive the database clean between tests,
+ * so each test uses its own livestock category.
+ */
+@SpringBootTest(
+    classes = LivestockApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "livestock.analytics.enabled=true")
+@DisplayName("Livestock Analytics Snapshot API Tests")
+class AnalyticsSnapshotApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Recorded events and expenses are merged into the loaded snapshot")
+  void shouldMergeWritesIntoSnapshot() throws Exception {
+    initializeCount(LivestockCategory.CATTLE);
+    getProfit(LivestockCategory.CATTLE)
+        .body("[0].totalExpenses", equalTo(0));
+    // Written past the service, so it only shows if the snapshot were loaded again.
+    jdbcTemplate.update(
+        "INSERT INTO livestock_expense (user_id, category, expense_category, amount, "
+            + "expense_date) VALUES (1, 'CATTLE', 'FEED', 999.00, ?)",
+        LocalDate.now());
+
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.PURCHASE)
+        .maleCount(2)
+        .femaleCount(0)
+        .cost(new BigDecimal("300.00"))
+        .build());
+    recordExpense(LivestockCategory.CATTLE, ExpenseCategory.FEED, "50.00");
+
+    getProfit(LivestockCategory.CATTLE)
+        .body("[0].totalRevenue", equalTo(0))
+        .body("[0].totalExpenses", equalTo(950.0f))
+        .body("[0].netProfit", equalTo(-950.0f));
+  }
+
+  @Test
+  @DisplayName("Sales and expenses recorded after loading show in profit and summaries")
+  void shouldReportMergedSalesAndExpenses() throws Exception {
+    initializeCount(LivestockCategory.GOAT);
+    given()
+        .queryParams("category", "GOAT")
+        .when()
+        .get("/api/v1/livestock/1/expense-summaries")
+        .then()
+        .statusCode(200)
+        .body("size()", equalTo(0));
+
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.GOAT)
+        .eventType(LivestockEventType.PURCHASE)
+        .maleCount(1)
+        .femaleCount(0)
+        .livestockIds(List.of("G1"))
+        .build());
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.GOAT)
+        .eventType(LivestockEventType.SALE)
+        .maleCount(1)
+        .femaleCount(0)
+        .salePrice(new BigDecimal("500.00"))
+        .livestockIds(List.of("G1"))
+        .build());
+    recordExpense(LivestockCategory.GOAT, ExpenseCategory.MEDICATION, "30.00");
+    recordExpense(LivestockCategory.GOAT, ExpenseCategory.FEED, "20.00");
+    recordExpense(LivestockCategory.GOAT, ExpenseCategory.FEED, "5.50");
+
+    getProfit(LivestockCategory.GOAT)
+        .body("[0].totalRevenue", equalTo(500.0f))
+        .body("[0].totalExpenses", equalTo(55.5f))
+        .body("[0].netProfit", equalTo(444.5f));
+    given()
+        .queryParams("category", "GOAT")
+        .when()
+        .get("/api/v1/livestock/1/expense-summaries")
+        .then()
+        .statusCode(200)
+        .body("size()", equalTo(2))
+        .body("find { it.expenseCategory == 'FEED' }.totalAmount", equalTo(25.5f))
+        .body("find { it.expenseCategory == 'MEDICATION' }.totalAmount", equalTo(30.0f));
+  }
+
+  private ValidatableResponse getProfit(LivestockCategory category) {
+    return given()
+        .queryParams("category", category.name())
+        .when()
+        .get("/api/v1/livestock/1/profit")
+        .then()
+        .statusCode(200);
+  }
+
+  private void initializeCount(LivestockCategory category) throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(category)
+        .maleCount(2)
+        .femaleCount(2)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordEvent(RecordEventRequest request) throws Exception {
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordExpense(LivestockCategory category, ExpenseCategory expenseCategory,
+      String amount) throws Exception {
+    RecordExpenseRequest request = RecordExpenseRequest.builder()
+        .category(category)
+        .expenseCategory(expenseCategory)
+        .amount(new BigDecimal(amount))
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/expenses")
+        .then()
+        .statusCode(200);
+  }
+}
@@ -0,0 +1,237 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.e2e.helper.DynamicTestFactory;
+import co.za.zwibvafhi.livestock.e2e.helper.TestCaseFactory;
+import co.za.zwibvafhi.livestock.e2e.helper.TestCaseRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Animal API Tests")
+class AnimalApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Browse roster after a cursor")
+  void shouldGetRosterAfterCursor() throws Exception {
+    setupData();
+    given()
+        .queryParams("category", "CATTLE", "after", "F4", "size", 2)
+        .when()
+        .get("/api/v1/livestock/1/animals")
+        .then()
+        .statusCode(200)
+        .body("content[0].tagNumber", equalTo("F5"))
+        .body("content[1].tagNumber", equalTo("M1"))
+        .body("nextCursor", nullValue());
+  }
+
+  @Test
+  @DisplayName("Filter roster by gender")
+  void shouldFilterRosterByGender() throws Exception {
+    setupData();
+    given()
+        .queryParams("category", "CATTLE", "gender", "MALE")
+        .when()
+        .get("/api/v1/livestock/1/animals")
+        .then()
+        .statusCode(200)
+        .body("size", equalTo(1))
+        .body("content[0].tagNumber", equalTo("M1"))
+        .body("content[0].purchasePrice", equalTo(300.0f));
+  }
+
+  @Test
+  @DisplayName("Get timeline of a sold animal")
+  void shouldGetTimelineOfSoldAnimal() throws Exception {
+    setupData();
+    RecordEventRequest saleRequest = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.SALE)
+        .maleCount(1)
+        .femaleCount(0)
+        .salePrice(new BigDecimal("900.00"))
+        .livestockIds(List.of("M1"))
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(saleRequest))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+
+    given()
+        .when()
+        .get("/api/v1/livestock/1/animals/M1/timeline")
+        .then()
+        .statusCode(200)
+        .body("size()", equalTo(2))
+        .body("[0].eventType", equalTo("PURCHASE"))
+        .body("[1].eventType", equalTo("SALE"));
+  }
+
+  @Test
+  @DisplayName("Reject sale of an animal that was already sold")
+  void shouldRejectSaleOfSoldAnimal() throws Exception {
+    setupData();
+    RecordEventRequest saleRequest = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.SALE)
+        .maleCount(0)
+        .femaleCount(1)
+        .salePrice(new BigDecimal("800.00"))
+        .livestockIds(List.of("F4"))
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(saleRequest))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(saleRequest))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(400);
+
+    given()
+        .queryParams("category", "CATTLE", "status", "SOLD")
+        .when()
+        .get("/api/v1/livestock/1/animals")
+        .then()
+        .statusCode(200)
+        .body("content[0].tagNumber", equalTo("F4"));
+  }
+
+  @Test
+  @DisplayName("Reject purchase of a tag taken after validation, naming only that tag")
+  void shouldNameOnlyTagTakenAfterValidation() throws Exception {
+    setupData();
+    // Written past the service, so only the insert's unique constraint catches it.
+    jdbcTemplate.update(
+        "INSERT INTO livestock_id (user_id, tag_number, category, gender, status, event_id) "
+            + "SELECT 1, 'X2', 'CATTLE', 'MALE', 'ALIVE', MAX(id) FROM livestock_event");
+    RecordEventRequest purchaseRequest = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.PURCHASE)
+        .maleCount(3)
+        .femaleCount(0)
+        .cost(new BigDecimal("300.00"))
+        .livestockIds(List.of("X1", "X2", "X3"))
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(purchaseRequest))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(400)
+        .body("title", equalTo("DUPLICATE_LIVESTOCK_IDS"))
+        .body("detail", equalTo("Duplicate livestock IDs provided: [X2]"));
+  }
+
+  @TestFactory
+  @DisplayName("Dynamic animal tests from JSON")
+  Collection<DynamicTest> dynamicAnimalTests() throws Exception {
+    TestCaseFactory testCaseFactory = new TestCaseFactory(objectMapper);
+    TestCaseRunner testCaseRunner = new TestCaseRunner(objectMapper, testCase -> {
+      try {
+        flyway.clean();
+        flyway.migrate();
+        setupData();
+      } catch (Exception e) {
+        throw new RuntimeException("Failed to setup data for test: " + testCase.getTestName(), e);
+      }
+    });
+    DynamicTestFactory dynamicTestFactory = new DynamicTestFactory(testCaseRunner);
+    String testDir = Path.of("src/test/resources", TestConstants.TESTS_BASE_DIR, TestConstants.ANIMALS_DIR).toString();
+    return testCaseFactory.loadTestCases(testDir).stream()
+        .map(dynamicTestFactory::createDynamicTest)
+        .toList();
+  }
+
+  private void setupData() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+
+    RecordEventRequest eventRequest = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.PURCHASE)
+        .maleCount(1)
+        .femaleCount(3)
+        .cost(new BigDecimal("300.00"))
+        .livestockIds(List.of("M1", "F3", "F4", "F5"))
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(eventRequest))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+}
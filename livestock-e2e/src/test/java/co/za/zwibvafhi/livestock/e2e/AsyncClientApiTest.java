@@ -0,0 +1,188 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.client.HttpLivestockAsyncClient;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Async Client Tests")
+class AsyncClientApiTest {
+
+  private static final int MAX_IN_FLIGHT = 4;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  private HttpLivestockAsyncClient client;
+
+  @BeforeEach
+  void setUp() {
+    flyway.clean();
+    flyway.migrate();
+    client = new HttpLivestockAsyncClient(
+        HttpClient.newHttpClient(),
+        "http://localhost:" + port + "/api/v1/livestock",
+        LivestockConstants.APPLICATION_SMILE_VALUE,
+        Duration.ofSeconds(10),
+        MAX_IN_FLIGHT,
+        1000,
+        null,
+        null);
+  }
+
+  @Test
+  @DisplayName("Fanned-out count reads stay within the in-flight limit")
+  void shouldBoundInFlightCalls() throws Exception {
+    client.initializeCount(1L, InitializeCountRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .maleCount(5)
+            .femaleCount(3)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+
+    AtomicInteger maxObserved = new AtomicInteger();
+    List<CompletableFuture<Optional<LivestockCountResponse>>> reads = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      maxObserved.accumulateAndGet(client.inFlight(), Math::max);
+      reads.add(client.getCurrentCount(1L, LivestockCategory.CATTLE));
+    }
+    CompletableFuture.allOf(reads.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+    assertThat(maxObserved.get()).isLessThanOrEqualTo(MAX_IN_FLIGHT);
+    assertThat(client.inFlight()).isZero();
+    for (CompletableFuture<Optional<LivestockCountResponse>> read : reads) {
+      LivestockCountResponse count = read.join().orElseThrow();
+      assertThat(count.getMaleCount()).isEqualTo(5);
+      assertThat(count.getFemaleCount()).isEqualTo(3);
+    }
+  }
+
+  @Test
+  @DisplayName("Recorded events are read back through the async client")
+  void shouldRecordAndReadEvents() throws Exception {
+    client.initializeCount(1L, InitializeCountRequest.builder()
+            .category(LivestockCategory.GOAT)
+            .maleCount(2)
+            .femaleCount(2)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+    client.recordEvent(1L, RecordEventRequest.builder()
+            .category(LivestockCategory.GOAT)
+            .eventType(LivestockEventType.BIRTH)
+            .maleCount(0)
+            .femaleCount(1)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+
+    List<LivestockEventResponse> events =
+        client.getEventHistory(1L, LivestockCategory.GOAT, null).get(10, TimeUnit.SECONDS);
+
+    assertThat(events).hasSize(1);
+    assertThat(events.get(0).getEventType()).isEqualTo(LivestockEventType.BIRTH);
+  }
+
+  @Test
+  @DisplayName("Error responses fail the future with the decoded LivestockException")
+  void shouldDecodeErrors() {
+    CompletableFuture<List<LivestockEventResponse>> events =
+        client.getEventHistory(1L, LivestockCategory.CATTLE, "UNKNOWN");
+
+    assertThat(events)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo(LivestockErrorCodes.INVALID_EVENT_TYPE));
+    assertThat(client.inFlight()).isZero();
+  }
+
+  @Test
+  @DisplayName("A duplicate count fails the future with a conflict")
+  void shouldDecodeConflicts() {
+    InitializeCountRequest request = InitializeCountRequest.builder()
+        .category(LivestockCategory.SHEEP)
+        .maleCount(1)
+        .femaleCount(1)
+        .build();
+    client.initializeCount(1L, request).join();
+
+    assertThat(client.initializeCount(1L, request))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo(LivestockErrorCodes.COUNT_EXISTS));
+  }
+
+  @Test
+  @DisplayName("Calls beyond the queue bound are rejected and the rest still succeed")
+  void shouldRejectBeyondQueueBound() throws Exception {
+    HttpLivestockAsyncClient bounded = new HttpLivestockAsyncClient(
+        HttpClient.newHttpClient(),
+        "http://localhost:" + port + LivestockConstants.BASE_PATH,
+        LivestockConstants.APPLICATION_SMILE_VALUE,
+        Duration.ofSeconds(10),
+        1,
+        2,
+        null,
+        null);
+    client.initializeCount(1L, InitializeCountRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .maleCount(1)
+            .femaleCount(1)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+
+    List<CompletableFuture<Optional<LivestockCountResponse>>> reads = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      reads.add(bounded.getCurrentCount(1L, LivestockCategory.CATTLE));
+    }
+    CompletableFuture.allOf(reads.stream()
+            .map(read -> read.exceptionally(error -> Optional.empty()))
+            .toArray(CompletableFuture[]::new))
+        .get(30, TimeUnit.SECONDS);
+
+    List<CompletableFuture<Optional<LivestockCountResponse>>> rejected = reads.stream()
+        .filter(CompletableFuture::isCompletedExceptionally)
+        .toList();
+    assertThat(rejected).isNotEmpty().allSatisfy(read -> assertThat(read)
+        .failsWithin(Duration.ZERO)
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOf(RejectedExecutionException.class));
+    assertThat(reads.size() - rejected.size()).isGreaterThanOrEqualTo(3);
+    reads.stream()
+        .filter(read -> !read.isCompletedExceptionally())
+        .forEach(read -> assertThat(read.join().orElseThrow().getMaleCount()).isEqualTo(1));
+    assertThat(bounded.inFlight()).isZero();
+  }
+}
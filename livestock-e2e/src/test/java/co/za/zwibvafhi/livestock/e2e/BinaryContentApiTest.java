@@ -0,0 +1,178 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.config.EncoderConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.http.ContentType;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Binary Content Tests")
+class BinaryContentApiTest {
+
+  private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+
+  private final ObjectMapper smileMapper = Jackson2ObjectMapperBuilder.smile().build();
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @AfterAll
+  static void resetRestAssured() {
+    RestAssured.config = RestAssuredConfig.config();
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    // Binary bodies carry no charset; a default one would make the server decode them as text
+    RestAssured.config = RestAssuredConfig.config().encoderConfig(
+        EncoderConfig.encoderConfig().appendDefaultContentCharsetToContentTypeIfUndefined(false));
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Count is initialized from Smile and read back as CBOR")
+  void shouldNegotiateBinaryBodies() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(7)
+        .build();
+    given()
+        .contentType(LivestockConstants.APPLICATION_SMILE_VALUE)
+        .accept(LivestockConstants.APPLICATION_SMILE_VALUE)
+        .body(smileMapper.writeValueAsBytes(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .header("Content-Type", startsWith(LivestockConstants.APPLICATION_SMILE_VALUE));
+
+    byte[] body =
+        given()
+            .accept(MediaType.APPLICATION_CBOR_VALUE)
+            .queryParam("category", "CATTLE")
+            .when()
+            .get("/api/v1/livestock/1/counts")
+            .then()
+            .statusCode(200)
+            .header("Content-Type", startsWith(MediaType.APPLICATION_CBOR_VALUE))
+            .extract()
+            .asByteArray();
+
+    JsonNode count = cborMapper.readTree(body);
+    assertThat(count.get("maleCount").asInt()).isEqualTo(5);
+    assertThat(count.get("femaleCount").asInt()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("Event history decodes the same from JSON, CBOR and Smile")
+  void shouldEncodeEventsInEveryMediaType() throws Exception {
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(InitializeCountRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .maleCount(5)
+            .femaleCount(5)
+            .build()))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+    RecordEventRequest birth = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(1)
+        .femaleCount(2)
+        .build();
+    given()
+        .contentType(MediaType.APPLICATION_CBOR_VALUE)
+        .body(cborMapper.writeValueAsBytes(birth))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+
+    List<LivestockEventResponse> json = getEvents(MediaType.APPLICATION_JSON_VALUE, objectMapper);
+    List<LivestockEventResponse> cbor = getEvents(MediaType.APPLICATION_CBOR_VALUE, cborMapper);
+    List<LivestockEventResponse> smile =
+        getEvents(LivestockConstants.APPLICATION_SMILE_VALUE, smileMapper);
+
+    assertThat(json).hasSize(1);
+    assertThat(json.get(0).getFemaleCount()).isEqualTo(2);
+    assertThat(cbor).isEqualTo(json);
+    assertThat(smile).isEqualTo(json);
+  }
+
+  @Test
+  @DisplayName("Errors stay Problem Detail JSON when a binary body is accepted")
+  void shouldRenderErrorsAsProblemJson() {
+    given()
+        .accept(LivestockConstants.APPLICATION_SMILE_VALUE)
+        .queryParam("category", "CATTLE")
+        .queryParam("eventType", "UNKNOWN")
+        .when()
+        .get("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(400)
+        .header("Content-Type", startsWith("application/problem+json"))
+        .body("status", equalTo(400));
+  }
+
+  private List<LivestockEventResponse> getEvents(String mediaType, ObjectMapper mapper)
+      throws Exception {
+    byte[] body =
+        given()
+            .accept(mediaType)
+            .queryParam("category", "CATTLE")
+            .when()
+            .get("/api/v1/livestock/1/events")
+            .then()
+            .statusCode(200)
+            .header("Vary", containsString("Accept"))
+            .extract()
+            .asByteArray();
+    return mapper.readValue(body, new TypeReference<>() {});
+  }
+}
@@ -0,0 +1,208 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.za.zwibvafhi.livestock.api.dto.BulkItemResponse;
+import co.za.zwibvafhi.livestock.api.dto.ExpenseResponse;
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.client.HttpLivestockAsyncClient;
+import co.za.zwibvafhi.livestock.client.LivestockBatchingClient;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import java.math.BigDecimal;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Bulk Record Tests")
+class BulkRecordApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  private CountingAsyncClient client;
+
+  private LivestockBatchingClient batchingClient;
+
+  @BeforeEach
+  void setUp() {
+    flyway.clean();
+    flyway.migrate();
+    client = new CountingAsyncClient("http://localhost:" + port + "/api/v1/livestock");
+    batchingClient =
+        new LivestockBatchingClient(client, 10, Duration.ofMillis(50), 100, Duration.ofSeconds(5));
+  }
+
+  @AfterEach
+  void tearDown() {
+    batchingClient.close();
+  }
+
+  @Test
+  @DisplayName("Every item of a bulk call reports its own outcome")
+  void shouldReportEveryItem() throws Exception {
+    initializeCount(LivestockCategory.CATTLE, 5, 3);
+
+    List<BulkItemResponse> items = client.recordEvents(1L, List.of(
+            birth(LivestockCategory.CATTLE, 0, 1),
+            birth(LivestockCategory.SHEEP, 1, 0),
+            RecordEventRequest.builder()
+                .eventType(LivestockEventType.BIRTH)
+                .maleCount(1)
+                .femaleCount(0)
+                .build(),
+            birth(LivestockCategory.CATTLE, 1, 0)))
+        .get(10, TimeUnit.SECONDS);
+
+    assertThat(items).extracting(BulkItemResponse::getStatus).containsExactly(200, 404, 400, 200);
+    assertThat(items.get(0).getEvent().getEventType()).isEqualTo(LivestockEventType.BIRTH);
+    assertThat(items.get(1).getErrorCode()).isEqualTo(LivestockErrorCodes.COUNT_NOT_FOUND);
+    assertThat(items.get(2).getErrorCode()).isEqualTo(LivestockErrorCodes.INVALID_REQUEST);
+    LivestockCountResponse count =
+        client.getCurrentCount(1L, LivestockCategory.CATTLE).get(10, TimeUnit.SECONDS).orElseThrow();
+    assertThat(count.getMaleCount()).isEqualTo(6);
+    assertThat(count.getFemaleCount()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("A bulk call of more than 100 items is rejected")
+  void shouldRejectOversizedBatch() {
+    List<RecordExpenseRequest> requests =
+        Collections.nCopies(101, expense(new BigDecimal("10.00")));
+
+    assertThat(client.recordExpenses(1L, requests))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo(LivestockErrorCodes.INVALID_REQUEST));
+  }
+
+  @Test
+  @DisplayName("Single calls are sent in batches and recorded in call order")
+  void shouldBatchSingleCallsInOrder() throws Exception {
+    initializeCount(LivestockCategory.GOAT, 1, 1);
+
+    List<CompletableFuture<Optional<LivestockEventResponse>>> events = new ArrayList<>();
+    for (int i = 0; i < 15; i++) {
+      events.add(batchingClient.recordEvent(1L, RecordEventRequest.builder()
+          .category(LivestockCategory.GOAT)
+          .eventType(LivestockEventType.DEATH)
+          .maleCount(1)
+          .femaleCount(0)
+          .build()));
+      events.add(batchingClient.recordEvent(1L, birth(LivestockCategory.GOAT, 1, 0)));
+    }
+    CompletableFuture.allOf(events.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+
+    assertThat(events).allSatisfy(event -> assertThat(event.join()).isPresent());
+    assertThat(client.bulkCalls).hasSizeLessThan(events.size());
+    assertThat(client.bulkCalls).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(10));
+    assertThat(batchingClient.queued()).isZero();
+    LivestockCountResponse count =
+        client.getCurrentCount(1L, LivestockCategory.GOAT).get(10, TimeUnit.SECONDS).orElseThrow();
+    assertThat(count.getMaleCount()).isEqualTo(1);
+    assertThat(count.getFemaleCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("A rejected single call fails alone within its batch")
+  void shouldFailRejectedCallAlone() throws Exception {
+    CompletableFuture<Optional<ExpenseResponse>> valid =
+        batchingClient.recordExpense(1L, expense(new BigDecimal("150.00")));
+    CompletableFuture<Optional<ExpenseResponse>> invalid =
+        batchingClient.recordExpense(1L, expense(new BigDecimal("-1.00")));
+
+    assertThat(valid.get(10, TimeUnit.SECONDS).orElseThrow().getAmount())
+        .isEqualByComparingTo("150.00");
+    assertThat(invalid)
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo(LivestockErrorCodes.INVALID_REQUEST));
+    assertThat(client.bulkCalls).containsExactly(2);
+  }
+
+  private void initializeCount(LivestockCategory category, int maleCount, int femaleCount)
+      throws Exception {
+    client.initializeCount(1L, InitializeCountRequest.builder()
+            .category(category)
+            .maleCount(maleCount)
+            .femaleCount(femaleCount)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+  }
+
+  private static RecordEventRequest birth(
+      LivestockCategory category, int maleCount, int femaleCount) {
+    return RecordEventRequest.builder()
+        .category(category)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(maleCount)
+        .femaleCount(femaleCount)
+        .build();
+  }
+
+  private static RecordExpenseRequest expense(BigDecimal amount) {
+    return RecordExpenseRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .expenseCategory(ExpenseCategory.FEED)
+        .amount(amount)
+        .description("Hay")
+        .expenseDate(LocalDate.now())
+        .build();
+  }
+
+  /** Async client recording the size of every bulk call it sends. */
+  private static class CountingAsyncClient extends HttpLivestockAsyncClient {
+
+    private final List<Integer> bulkCalls = Collections.synchronizedList(new ArrayList<>());
+
+    CountingAsyncClient(String baseUrl) {
+      super(HttpClient.newHttpClient(), baseUrl, LivestockConstants.APPLICATION_SMILE_VALUE,
+          Duration.ofSeconds(10), 16, 1000, null, null);
+    }
+
+    @Override
+    public CompletableFuture<List<BulkItemResponse>> recordEvents(
+        Long userId, List<RecordEventRequest> requests) {
+      bulkCalls.add(requests.size());
+      return super.recordEvents(userId, requests);
+    }
+
+    @Override
+    public CompletableFuture<List<BulkItemResponse>> recordExpenses(
+        Long userId, List<RecordExpenseRequest> requests) {
+      bulkCalls.add(requests.size());
+      return super.recordExpenses(userId, requests);
+    }
+  }
+}
@@ -0,0 +1,223 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.core.service.helper.ChangeLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Changes Tests")
+class ChangesApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ChangeLog changeLog;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Full sync returns every changed record with the cursor of the last change")
+  void shouldReturnAllChanges() throws Exception {
+    initializeCount();
+    recordBirth();
+    recordExpense();
+
+    getChanges(0, 100)
+        .body("events", hasSize(1))
+        .body("events[0].eventType", equalTo("BIRTH"))
+        .body("expenses", hasSize(1))
+        .body("animals", hasSize(2))
+        .body("counts", hasSize(1))
+        .body("counts[0].maleCount", equalTo(6))
+        .body("cursor", equalTo(3))
+        .body("hasMore", equalTo(false));
+  }
+
+  @Test
+  @DisplayName("Incremental sync returns only the changes after the cursor")
+  void shouldReturnChangesAfterCursor() throws Exception {
+    initializeCount();
+    recordBirth();
+    int cursor = getChanges(0, 1).body("hasMore", equalTo(true)).extract().path("cursor");
+
+    getChanges(cursor, 100)
+        .body("events", hasSize(1))
+        .body("expenses", hasSize(0))
+        .body("cursor", equalTo(2))
+        .body("hasMore", equalTo(false));
+
+    getChanges(2, 100)
+        .body("events", hasSize(0))
+        .body("counts", hasSize(0))
+        .body("cursor", equalTo(2));
+  }
+
+  @Test
+  @DisplayName("Expired changes are deleted and older cursors are told to resync fully")
+  void shouldRequireResyncBehindRetention() throws Exception {
+    initializeCount();
+    recordBirth();
+    recordExpense();
+    jdbcTemplate.update(
+        "UPDATE change_log SET changed_at = ? WHERE seq <= 2",
+        LocalDateTime.now().minusDays(31));
+
+    changeLog.compact();
+
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM change_log", Integer.class))
+        .isEqualTo(1);
+    getChanges(0, 100)
+        .body("fullResync", equalTo(true))
+        .body("events", hasSize(0))
+        .body("counts", hasSize(0))
+        .body("cursor", equalTo(2))
+        .body("hasMore", equalTo(false));
+    getChanges(2, 100)
+        .body("fullResync", equalTo(false))
+        .body("expenses", hasSize(1))
+        .body("cursor", equalTo(3));
+  }
+
+  @Nested
+  @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+  @SpringBootTest(
+      classes = LivestockApplication.class,
+      webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+      properties = "livestock.changes.settle-window=PT2S")
+  @DisplayName("With a settle window")
+  class WithSettleWindow {
+
+    @LocalServerPort
+    private int nestedPort;
+
+    @Test
+    @DisplayName("The cursor stays behind changes until they have settled")
+    void shouldHoldCursorUntilSettled() throws Exception {
+      RestAssured.port = nestedPort;
+      initializeCount();
+
+      getChanges(0, 100)
+          .body("counts", hasSize(1))
+          .body("cursor", equalTo(0))
+          .body("hasMore", equalTo(false));
+
+      Thread.sleep(2100);
+      recordBirth();
+
+      getChanges(0, 1)
+          .body("cursor", equalTo(1))
+          .body("hasMore", equalTo(true));
+      getChanges(1, 100)
+          .body("events", hasSize(1))
+          .body("cursor", equalTo(1))
+          .body("hasMore", equalTo(false));
+    }
+  }
+
+  private ValidatableResponse getChanges(int since, int size) {
+    return given()
+        .queryParam("since", since)
+        .queryParam("size", size)
+        .when()
+        .get("/api/v1/livestock/1/changes")
+        .then()
+        .statusCode(200);
+  }
+
+  private void initializeCount() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordBirth() throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(1)
+        .femaleCount(1)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordExpense() throws Exception {
+    RecordExpenseRequest request = RecordExpenseRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .expenseCategory(ExpenseCategory.FEED)
+        .amount(new BigDecimal("100.00"))
+        .expenseDate(LocalDate.now())
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/expenses")
+        .then()
+        .statusCode(200);
+  }
+}
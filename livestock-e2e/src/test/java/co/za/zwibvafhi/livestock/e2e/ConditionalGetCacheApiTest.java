@@ -0,0 +1,180 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.LivestockCountResponse;
+import co.za.zwibvafhi.livestock.api.dto.LivestockEventResponse;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.client.ConditionalGetCache;
+import co.za.zwibvafhi.livestock.client.FeignConfig;
+import co.za.zwibvafhi.livestock.client.HttpLivestockAsyncClient;
+import co.za.zwibvafhi.livestock.client.ResiliencePolicy;
+import co.za.zwibvafhi.livestock.common.LivestockConstants;
+import feign.Feign;
+import feign.Headers;
+import feign.RequestLine;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.MediaType;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Client Conditional-GET Cache Tests")
+class ConditionalGetCacheApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @BeforeEach
+  void setUp() {
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("An unchanged count is revalidated instead of downloaded again")
+  void shouldRevalidateUnchangedCount() throws Exception {
+    ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024, Duration.ZERO);
+    HttpLivestockAsyncClient client = client(cache);
+    initializeCount(client);
+
+    LivestockCountResponse first = currentCount(client);
+    LivestockCountResponse second = currentCount(client);
+
+    assertThat(second).usingRecursiveComparison().isEqualTo(first);
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.revalidatedHits()).isEqualTo(1);
+    assertThat(cache.freshHits()).isZero();
+    assertThat(cache.bytesSaved()).isPositive();
+    assertThat(cache.hitRatio()).isEqualTo(0.5);
+  }
+
+  @Test
+  @DisplayName("A recorded event invalidates the cached count and history")
+  void shouldDownloadChangedResponses() throws Exception {
+    ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024, Duration.ZERO);
+    HttpLivestockAsyncClient client = client(cache);
+    initializeCount(client);
+    currentCount(client);
+    client.getEventHistory(1L, LivestockCategory.CATTLE, null).get(10, TimeUnit.SECONDS);
+
+    client.recordEvent(1L, RecordEventRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .eventType(LivestockEventType.BIRTH)
+            .maleCount(1)
+            .femaleCount(0)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+    LivestockCountResponse count = currentCount(client);
+    List<LivestockEventResponse> events =
+        client.getEventHistory(1L, LivestockCategory.CATTLE, null).get(10, TimeUnit.SECONDS);
+
+    assertThat(count.getMaleCount()).isEqualTo(6);
+    assertThat(events).hasSize(1);
+    assertThat(cache.misses()).isEqualTo(4);
+    assertThat(cache.revalidatedHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("Within max-stale a cached count is served without a request")
+  void shouldServeFreshCountWithoutRequest() throws Exception {
+    ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024, Duration.ofMinutes(1));
+    HttpLivestockAsyncClient client = client(cache);
+    initializeCount(client);
+
+    currentCount(client);
+    LivestockCountResponse cached = currentCount(client);
+
+    assertThat(cached.getMaleCount()).isEqualTo(5);
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.freshHits()).isEqualTo(1);
+    assertThat(cache.revalidatedHits()).isZero();
+  }
+
+  @Test
+  @DisplayName("Least recently used responses are evicted beyond the size bound")
+  void shouldBoundCachedBytes() throws Exception {
+    ConditionalGetCache cache = new ConditionalGetCache(64, Duration.ZERO);
+    HttpLivestockAsyncClient client = client(cache);
+    initializeCount(client);
+
+    currentCount(client);
+    client.getEventHistory(1L, LivestockCategory.CATTLE, null).get(10, TimeUnit.SECONDS);
+    currentCount(client);
+
+    assertThat(cache.size()).isLessThanOrEqualTo(64);
+  }
+
+  @Test
+  @DisplayName("The Feign transport revalidates an unchanged count through the cache")
+  void shouldRevalidateThroughFeign() throws Exception {
+    ConditionalGetCache cache = new ConditionalGetCache(1024 * 1024, Duration.ZERO);
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    beans.addBean("cache", cache);
+    CountApi api = Feign.builder()
+        .addCapability(new FeignConfig(MediaType.APPLICATION_JSON_VALUE)
+            .transportCapability(
+                beans.getBeanProvider(ResiliencePolicy.class),
+                beans.getBeanProvider(ConditionalGetCache.class)))
+        .target(CountApi.class, "http://localhost:" + port + "/api/v1/livestock");
+    initializeCount(client(null));
+
+    String first = api.count();
+    String second = api.count();
+
+    assertThat(second).isEqualTo(first).contains("\"maleCount\":5");
+    assertThat(cache.misses()).isEqualTo(1);
+    assertThat(cache.revalidatedHits()).isEqualTo(1);
+  }
+
+  private HttpLivestockAsyncClient client(ConditionalGetCache cache) {
+    return new HttpLivestockAsyncClient(
+        HttpClient.newHttpClient(),
+        "http://localhost:" + port + "/api/v1/livestock",
+        LivestockConstants.APPLICATION_SMILE_VALUE,
+        Duration.ofSeconds(10),
+        4,
+        1000,
+        cache,
+        null);
+  }
+
+  private static void initializeCount(HttpLivestockAsyncClient client) throws Exception {
+    client.initializeCount(1L, InitializeCountRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .maleCount(5)
+            .femaleCount(3)
+            .build())
+        .get(10, TimeUnit.SECONDS);
+  }
+
+  private static LivestockCountResponse currentCount(HttpLivestockAsyncClient client)
+      throws Exception {
+    return client.getCurrentCount(1L, LivestockCategory.CATTLE)
+        .get(10, TimeUnit.SECONDS)
+        .orElseThrow();
+  }
+
+  interface CountApi {
+
+    @RequestLine("GET /1/counts?category=CATTLE")
+    @Headers("Accept: application/json")
+    String count();
+  }
+}
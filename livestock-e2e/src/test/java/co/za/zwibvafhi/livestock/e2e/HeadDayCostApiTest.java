@@ -0,0 +1,164 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.e2e.helper.DynamicTestFactory;
+import co.za.zwibvafhi.livestock.e2e.helper.TestCaseFactory;
+import co.za.zwibvafhi.livestock.e2e.helper.TestCaseRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Collection;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Head-day costs of a herd of 12 whose events are dated in January 2025: 10 head until one is
+ * purchased on the 11th and sold on the 21st, and two born on the 26th. That is 10 x 10 + 11 x 10
+ * + 10 x 5 + 12 x 6 = 332 head-days in January.
+ */
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Head-Day Cost API Tests")
+class HeadDayCostApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Get head-day costs for a month with an animal entering and leaving")
+  void shouldGetHeadDayCosts() throws Exception {
+    setupData();
+    given()
+        .queryParams("category", "CATTLE", "startDate", "2025-01-01", "endDate", "2025-01-31")
+        .when()
+        .get("/api/v1/livestock/1/head-day-costs")
+        .then()
+        .statusCode(200)
+        .body("headDays", equalTo(332))
+        .body("averageHerdSize", equalTo(10.71f))
+        .body("costs.size()", equalTo(1))
+        .body("costs[0].expenseCategory", equalTo("FEED"))
+        .body("costs[0].totalAmount", equalTo(664.0f))
+        .body("costs[0].costPerHeadDay", equalTo(2.0f));
+  }
+
+  @Test
+  @DisplayName("Get head-day costs for the days the purchased animal was in the herd")
+  void shouldCountAnimalOnlyWhileInHerd() throws Exception {
+    setupData();
+    given()
+        .queryParams("category", "CATTLE", "startDate", "2025-01-11", "endDate", "2025-01-20")
+        .when()
+        .get("/api/v1/livestock/1/head-day-costs")
+        .then()
+        .statusCode(200)
+        .body("headDays", equalTo(110))
+        .body("averageHerdSize", equalTo(11.0f))
+        .body("costs[0].costPerHeadDay", equalTo(6.0364f));
+  }
+
+  @Test
+  @DisplayName("Get head-day costs with invalid user ID")
+  void shouldFailWithInvalidUserId() {
+    given()
+        .queryParams("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/999/head-day-costs")
+        .then()
+        .statusCode(404);
+  }
+
+  @TestFactory
+  @DisplayName("Dynamic head-day cost tests from JSON")
+  Collection<DynamicTest> dynamicHeadDayCostTests() throws Exception {
+    TestCaseFactory testCaseFactory = new TestCaseFactory(objectMapper);
+    TestCaseRunner testCaseRunner = new TestCaseRunner(objectMapper, testCase -> {
+      try {
+        setUp();
+        setupData();
+      } catch (Exception e) {
+        throw new RuntimeException("Failed to setup data for test: " + testCase.getTestName(), e);
+      }
+    });
+    DynamicTestFactory dynamicTestFactory = new DynamicTestFactory(testCaseRunner);
+    String testDir = Path.of("src/test/resources", TestConstants.TESTS_BASE_DIR, TestConstants.HEAD_DAY_COSTS_DIR).toString();
+    return testCaseFactory.loadTestCases(testDir).stream()
+        .map(dynamicTestFactory::createDynamicTest)
+        .toList();
+  }
+
+  private void setupData() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(6)
+        .femaleCount(6)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+
+    // Events and expenses are dated the day they are posted, so past-dated ones are inserted.
+    insertEvent("PURCHASE", 1, 0, "2025-01-11");
+    insertEvent("SALE", 1, 0, "2025-01-21");
+    insertEvent("BIRTH", 1, 1, "2025-01-26");
+
+    insertExpense("FEED", "664.00", "2025-01-15");
+    insertExpense("MEDICATION", "50.00", "2025-02-10");
+  }
+
+  private void insertEvent(String eventType, int maleCount, int femaleCount, String eventDate) {
+    jdbcTemplate.update(
+        "INSERT INTO livestock_event (user_id, category, event_type, male_count, female_count, "
+            + "event_date) VALUES (1, 'CATTLE', ?, ?, ?, ?)",
+        eventType, maleCount, femaleCount, LocalDate.parse(eventDate));
+  }
+
+  private void insertExpense(String expenseCategory, String amount, String expenseDate) {
+    jdbcTemplate.update(
+        "INSERT INTO livestock_expense (user_id, category, expense_category, amount, "
+            + "expense_date) VALUES (1, 'CATTLE', ?, ?, ?)",
+        expenseCategory, new BigDecimal(amount), LocalDate.parse(expenseDate));
+  }
+}
@@ -0,0 +1,213 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.emptyString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Herd ETag Tests")
+class HerdETagApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Unchanged count is answered with 304 and a new event changes its ETag")
+  void shouldValidateCountByHerdVersion() throws Exception {
+    initializeCount();
+    String etag = getCount(null);
+
+    given()
+        .header("If-None-Match", etag)
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(304)
+        .header("ETag", equalTo(etag))
+        .body(emptyString());
+
+    recordBirth();
+
+    String refreshed = getCount(etag);
+    assertThat(refreshed).isNotEqualTo(etag);
+  }
+
+  @Test
+  @DisplayName("Event history ETag changes with events of its herd only")
+  void shouldValidateEventsByHerdVersion() throws Exception {
+    initializeCount();
+    recordBirth();
+    String etag =
+        given()
+            .queryParam("category", "CATTLE")
+            .when()
+            .get("/api/v1/livestock/1/events")
+            .then()
+            .statusCode(200)
+            .body("$", hasSize(1))
+            .header("ETag", notNullValue())
+            .extract()
+            .header("ETag");
+
+    recordExpense();
+
+    given()
+        .header("If-None-Match", etag.substring(2))
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200)
+        .header("ETag", notNullValue())
+        .header("ETag", not(equalTo(etag)));
+  }
+
+  @Test
+  @DisplayName("The weak ETag validates other media types and content codings")
+  void shouldValidateEveryRepresentation() throws Exception {
+    initializeCount();
+    String etag = getCount(null);
+
+    given()
+        .header("If-None-Match", etag)
+        .header("Accept", "application/cbor")
+        .header("Accept-Encoding", "gzip")
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(304)
+        .header("ETag", equalTo(etag));
+    given()
+        .header("Accept", "application/cbor")
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .contentType("application/cbor")
+        .header("ETag", equalTo(etag));
+  }
+
+  @Test
+  @DisplayName("Error responses carry no ETag")
+  void shouldNotTagErrors() {
+    given()
+        .queryParam("category", "CATTLE")
+        .queryParam("eventType", "UNKNOWN")
+        .when()
+        .get("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(400)
+        .header("ETag", nullValue());
+  }
+
+  private String getCount(String ifNoneMatch) {
+    var request = given().queryParam("category", "CATTLE");
+    if (ifNoneMatch != null) {
+      request.header("If-None-Match", ifNoneMatch);
+    }
+    return request
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .header("ETag", startsWith("W/\""))
+        .extract()
+        .header("ETag");
+  }
+
+  private void initializeCount() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordBirth() throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(1)
+        .femaleCount(0)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordExpense() throws Exception {
+    RecordExpenseRequest request = RecordExpenseRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .expenseCategory(ExpenseCategory.FEED)
+        .amount(new BigDecimal("100.00"))
+        .expenseDate(LocalDate.now())
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/expenses")
+        .then()
+        .statusCode(200);
+  }
+}
@@ -0,0 +1,140 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Herd Stream Tests")
+class HerdStreamApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Recorded event is pushed to the user's stream with its count delta")
+  void shouldStreamRecordedEvent() throws Exception {
+    initializeCount();
+    BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    HttpResponse<Stream<String>> response =
+        HttpClient.newHttpClient()
+            .send(
+                HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/v1/livestock/1/stream"))
+                    .header("Accept", "text/event-stream")
+                    .build(),
+                HttpResponse.BodyHandlers.ofLines());
+    assertThat(response.statusCode()).isEqualTo(200);
+    Thread reader = new Thread(() -> response.body().forEach(lines::add));
+    reader.setDaemon(true);
+    reader.start();
+
+    recordBirth();
+
+    String frame = null;
+    String data = null;
+    while (data == null) {
+      String line = lines.poll(10, TimeUnit.SECONDS);
+      assertThat(line).as("stream line").isNotNull();
+      if (line.startsWith("event:")) {
+        frame = line.substring("event:".length()).trim();
+      } else if (line.startsWith("data:")) {
+        data = line.substring("data:".length()).trim();
+      }
+    }
+    JsonNode update = objectMapper.readTree(data);
+    assertThat(frame).isEqualTo("livestock-event");
+    assertThat(update.get("category").asText()).isEqualTo("CATTLE");
+    assertThat(update.get("maleDelta").asInt()).isEqualTo(2);
+    assertThat(update.get("femaleDelta").asInt()).isEqualTo(1);
+    assertThat(update.get("event").get("eventType").asText()).isEqualTo("BIRTH");
+  }
+
+  @Test
+  @DisplayName("Stream of an unknown user is refused")
+  void shouldRefuseUnknownUser() {
+    given()
+        .header("Accept", "text/event-stream, application/problem+json")
+        .when()
+        .get("/api/v1/livestock/999/stream")
+        .then()
+        .statusCode(404)
+        .body("title", equalTo("USER_NOT_FOUND"));
+  }
+
+  private void initializeCount() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  private void recordBirth() throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(2)
+        .femaleCount(1)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+}
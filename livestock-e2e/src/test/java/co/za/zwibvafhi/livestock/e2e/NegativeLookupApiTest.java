@@ -0,0 +1,139 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.core.event.HerdChangedEvent;
+import co.za.zwibvafhi.livestock.core.index.NegativeLookupCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+/**
+ * Lookups of missing users and herds answered from the negative lookup cache. Entries outlive the
+ * database clean between tests, so each test uses its own user or livestock category.
+ */
+@SpringBootTest(
+    classes = LivestockApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "livestock.negative-cache.ttl=PT1H")
+@DisplayName("Livestock Negative Lookup API Tests")
+class NegativeLookupApiTest {
+
+  private static final String METRIC = "livestock.negative.lookups.absorbed";
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private NegativeLookupCache negativeLookups;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Repeated lookups of a missing user are absorbed")
+  void shouldAbsorbUnknownUser() {
+    double absorbed = absorbed("user");
+
+    getHeadDayCosts(999L, LivestockCategory.CATTLE, 404);
+    getHeadDayCosts(999L, LivestockCategory.CATTLE, 404);
+    getHeadDayCosts(999L, LivestockCategory.CATTLE, 404);
+
+    assertThat(absorbed("user") - absorbed).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("Repeated lookups of an uninitialized herd are absorbed until it is initialized")
+  void shouldForgetInitializedHerd() throws Exception {
+    double absorbed = absorbed("count");
+
+    getHeadDayCosts(1L, LivestockCategory.GOAT, 404);
+    getHeadDayCosts(1L, LivestockCategory.GOAT, 404);
+
+    assertThat(absorbed("count") - absorbed).isEqualTo(1.0);
+
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.GOAT)
+        .maleCount(3)
+        .femaleCount(4)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+
+    getHeadDayCosts(1L, LivestockCategory.GOAT, 200)
+        .body("averageHerdSize", equalTo(7.0f));
+    assertThat(absorbed("count") - absorbed).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("A miss read before a herd changed is not remembered")
+  void shouldIgnoreStaleMarks() {
+    long herdGeneration = negativeLookups.herdGeneration(2L, LivestockCategory.SHEEP);
+    long userGeneration = negativeLookups.userGeneration(2L);
+
+    negativeLookups.onHerdChanged(new HerdChangedEvent(2L, LivestockCategory.SHEEP));
+    negativeLookups.markUninitialized(2L, LivestockCategory.SHEEP, herdGeneration);
+    negativeLookups.markUnknownUser(2L, userGeneration);
+
+    assertThat(negativeLookups.isUninitialized(2L, LivestockCategory.SHEEP)).isFalse();
+    assertThat(negativeLookups.isUnknownUser(2L)).isFalse();
+
+    negativeLookups.markUninitialized(2L, LivestockCategory.SHEEP,
+        negativeLookups.herdGeneration(2L, LivestockCategory.SHEEP));
+
+    assertThat(negativeLookups.isUninitialized(2L, LivestockCategory.SHEEP)).isTrue();
+  }
+
+  private ValidatableResponse getHeadDayCosts(Long userId, LivestockCategory category,
+      int statusCode) {
+    return given()
+        .queryParams("category", category.name())
+        .when()
+        .get("/api/v1/livestock/" + userId + "/head-day-costs")
+        .then()
+        .statusCode(statusCode);
+  }
+
+  private double absorbed(String lookup) {
+    return meterRegistry.counter(METRIC, "lookup", lookup).count();
+  }
+}
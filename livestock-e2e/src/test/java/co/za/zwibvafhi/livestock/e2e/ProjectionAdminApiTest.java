@@ -0,0 +1,193 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.NestedTestConfiguration;
+import org.springframework.test.context.NestedTestConfiguration.EnclosingConfiguration;
+
+@SpringBootTest(
+    classes = LivestockApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "livestock.event-sourcing.enabled=true")
+@DisplayName("Livestock Projection Admin API Tests")
+class ProjectionAdminApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Rebuild leaves counts in sync with events unchanged")
+  void shouldKeepCountsInSync() throws Exception {
+    setupData();
+    given()
+        .when()
+        .post("/api/v1/admin/projections/rebuild")
+        .then()
+        .statusCode(200)
+        .body("herds", equalTo(1))
+        .body("correctedHerds", equalTo(0))
+        .body("replayedEvents", equalTo(2));
+  }
+
+  @Test
+  @DisplayName("Rebuild corrects a count that drifted from its events")
+  void shouldCorrectDriftedCount() throws Exception {
+    setupData();
+    jdbcTemplate.update("UPDATE livestock_count SET male_count = 99 WHERE user_id = 1");
+
+    given()
+        .when()
+        .post("/api/v1/admin/projections/rebuild")
+        .then()
+        .statusCode(200)
+        .body("correctedHerds", equalTo(1));
+
+    given()
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .body("maleCount", equalTo(6))
+        .body("femaleCount", equalTo(3));
+  }
+
+  @Test
+  @DisplayName("Rebuild replays only the events after the snapshot of the previous rebuild")
+  void shouldReplayFromLatestSnapshot() throws Exception {
+    setupData();
+    given()
+        .when()
+        .post("/api/v1/admin/projections/rebuild")
+        .then()
+        .statusCode(200)
+        .body("replayedEvents", equalTo(2));
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(0)
+        .femaleCount(1)
+        .build());
+    jdbcTemplate.update("UPDATE livestock_count SET female_count = 0 WHERE user_id = 1");
+
+    given()
+        .when()
+        .post("/api/v1/admin/projections/rebuild")
+        .then()
+        .statusCode(200)
+        .body("correctedHerds", equalTo(1))
+        .body("replayedEvents", equalTo(1));
+
+    given()
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .body("maleCount", equalTo(6))
+        .body("femaleCount", equalTo(4));
+  }
+
+  @Nested
+  @NestedTestConfiguration(EnclosingConfiguration.OVERRIDE)
+  @SpringBootTest(
+      classes = LivestockApplication.class,
+      webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+  @DisplayName("Without event-sourcing")
+  class WithoutEventSourcing {
+
+    @LocalServerPort
+    private int nestedPort;
+
+    @Test
+    @DisplayName("Rebuild is refused, as events do not lock counts")
+    void shouldRefuseRebuild() {
+      RestAssured.port = nestedPort;
+      given()
+          .when()
+          .post("/api/v1/admin/projections/rebuild")
+          .then()
+          .statusCode(409)
+          .body("title", equalTo("PROJECTIONS_DISABLED"));
+    }
+  }
+
+  private void setupData() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(1)
+        .femaleCount(0)
+        .build());
+    recordEvent(RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.DEATH)
+        .maleCount(0)
+        .femaleCount(2)
+        .build());
+  }
+
+  private void recordEvent(RecordEventRequest request) throws Exception {
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+}
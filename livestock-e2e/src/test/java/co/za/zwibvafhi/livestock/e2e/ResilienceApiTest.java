@@ -0,0 +1,196 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import co.za.zwibvafhi.livestock.api.dto.RecordExpenseRequest;
+import co.za.zwibvafhi.livestock.api.model.ExpenseCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.client.ClientMetrics;
+import co.za.zwibvafhi.livestock.client.ConditionalGetCache;
+import co.za.zwibvafhi.livestock.client.FeignConfig;
+import co.za.zwibvafhi.livestock.client.HttpLivestockAsyncClient;
+import co.za.zwibvafhi.livestock.client.ResiliencePolicy;
+import co.za.zwibvafhi.livestock.common.LivestockErrorCodes;
+import co.za.zwibvafhi.livestock.common.LivestockException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.RequestLine;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntUnaryOperator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.MediaType;
+
+/**
+ * Runs the clients against a stub server scripted to answer slowly or as unavailable, as a Fly
+ * machine starting from idle does.
+ */
+@DisplayName("Livestock Client Resilience Tests")
+class ResilienceApiTest {
+
+  private static final String COUNT =
+      "{\"userId\":1,\"category\":\"CATTLE\",\"maleCount\":5,\"femaleCount\":3}";
+
+  private static final String UNAVAILABLE = "{\"title\":\"UNAVAILABLE\",\"detail\":\"Starting\"}";
+
+  private HttpServer server;
+
+  private final AtomicInteger requests = new AtomicInteger();
+
+  /** Status of the n-th request (from 1); 0 answers after a 2 second delay. */
+  private volatile IntUnaryOperator script = n -> 200;
+
+  private ResiliencePolicy policy;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/", this::answer);
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    if (policy != null) {
+      policy.close();
+    }
+  }
+
+  @Test
+  @DisplayName("A GET answered 503 is retried until it succeeds")
+  void shouldRetryUnavailableGet() throws Exception {
+    script = n -> n <= 2 ? 503 : 200;
+    HttpLivestockAsyncClient client = client(policy(3, true, 20));
+
+    assertThat(client.getCurrentCount(1L, LivestockCategory.CATTLE).get(10, TimeUnit.SECONDS))
+        .hasValueSatisfying(count -> assertThat(count.getMaleCount()).isEqualTo(5));
+    assertThat(requests.get()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("A POST is never retried")
+  void shouldNotRetryPost() {
+    script = n -> 503;
+    HttpLivestockAsyncClient client = client(policy(3, true, 20));
+
+    assertThat(client.recordExpense(1L, RecordExpenseRequest.builder()
+            .category(LivestockCategory.CATTLE)
+            .expenseCategory(ExpenseCategory.FEED)
+            .amount(new BigDecimal("10.00"))
+            .build()))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo("UNAVAILABLE"));
+    assertThat(requests.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Once the circuit opens calls fail without reaching the server")
+  void shouldOpenCircuit() throws Exception {
+    script = n -> 503;
+    HttpLivestockAsyncClient client = client(policy(1, false, 4));
+    for (int i = 0; i < 4; i++) {
+      client.getCurrentCount(1L, LivestockCategory.CATTLE).handle((count, error) -> null)
+          .get(10, TimeUnit.SECONDS);
+    }
+
+    assertThat(client.getCurrentCount(1L, LivestockCategory.CATTLE))
+        .failsWithin(Duration.ofSeconds(10))
+        .withThrowableOfType(Exception.class)
+        .havingCause()
+        .isInstanceOfSatisfying(LivestockException.class, ex ->
+            assertThat(ex.getErrorCode()).isEqualTo(LivestockErrorCodes.SERVICE_UNAVAILABLE));
+    assertThat(requests.get()).isEqualTo(4);
+  }
+
+  @Test
+  @DisplayName("A GET slower than the p95 is hedged with a second copy")
+  void shouldHedgeSlowGet() throws Exception {
+    HttpLivestockAsyncClient client = client(policy(1, true, 20));
+    for (int i = 0; i < 32; i++) {
+      client.getCurrentCount(1L, LivestockCategory.CATTLE).get(10, TimeUnit.SECONDS);
+    }
+    int warmUp = requests.get();
+    script = n -> n == warmUp + 1 ? 0 : 200;
+
+    long start = System.nanoTime();
+    assertThat(client.getCurrentCount(1L, LivestockCategory.CATTLE).get(10, TimeUnit.SECONDS))
+        .isPresent();
+
+    assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    assertThat(requests.get()).isEqualTo(warmUp + 2);
+  }
+
+  @Test
+  @DisplayName("The Feign transport retries an unavailable GET")
+  void shouldRetryThroughFeign() {
+    script = n -> n == 1 ? 503 : 200;
+    StaticListableBeanFactory beans = new StaticListableBeanFactory();
+    beans.addBean("policy", policy(3, true, 20));
+    CountApi api = Feign.builder()
+        .addCapability(new FeignConfig(MediaType.APPLICATION_JSON_VALUE).transportCapability(
+            beans.getBeanProvider(ResiliencePolicy.class),
+            beans.getBeanProvider(ConditionalGetCache.class)))
+        .target(CountApi.class, baseUrl());
+
+    assertThat(api.count()).contains("\"maleCount\":5");
+    assertThat(requests.get()).isEqualTo(2);
+  }
+
+  private ResiliencePolicy policy(int maxAttempts, boolean hedging, int breakerWindow) {
+    policy = new ResiliencePolicy(maxAttempts, Duration.ofMillis(10), Duration.ofMillis(50),
+        hedging, Duration.ofMillis(50), breakerWindow, 50, Duration.ofMinutes(1),
+        ClientMetrics.NONE);
+    return policy;
+  }
+
+  private HttpLivestockAsyncClient client(ResiliencePolicy resilience) {
+    return new HttpLivestockAsyncClient(HttpClient.newHttpClient(), baseUrl(),
+        MediaType.APPLICATION_JSON_VALUE, Duration.ofSeconds(10), 16, 1000, null, resilience);
+  }
+
+  private String baseUrl() {
+    return "http://localhost:" + server.getAddress().getPort() + "/api/v1/livestock";
+  }
+
+  private void answer(HttpExchange exchange) throws IOException {
+    exchange.getRequestBody().readAllBytes();
+    int status = script.applyAsInt(requests.incrementAndGet());
+    if (status == 0) {
+      try {
+        Thread.sleep(2000);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      status = 200;
+    }
+    byte[] body = (status == 200 ? COUNT : UNAVAILABLE).getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type",
+        status == 200 ? MediaType.APPLICATION_JSON_VALUE : MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+    exchange.sendResponseHeaders(status, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  interface CountApi {
+
+    @RequestLine("GET /1/counts?category=CATTLE")
+    String count();
+  }
+}
@@ -0,0 +1,146 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static io.restassured.config.DecoderConfig.decoderConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@SpringBootTest(classes = LivestockApplication.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@DisplayName("Livestock Response Cache Tests")
+class ResponseCacheApiTest {
+
+  private static final int EVENTS = 20;
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+  }
+
+  @Test
+  @DisplayName("Cached event history is served compressed and identical on repeated requests")
+  void shouldServeCachedEventHistory() throws Exception {
+    setupData();
+
+    String first = getEvents();
+    String second = getEvents();
+    String identity =
+        given()
+            .config(RestAssured.config().decoderConfig(decoderConfig().noContentDecoders()))
+            .queryParam("category", "CATTLE")
+            .when()
+            .get("/api/v1/livestock/1/events")
+            .then()
+            .statusCode(200)
+            .header("Content-Encoding", nullValue())
+            .body("$", hasSize(EVENTS))
+            .extract()
+            .asString();
+
+    assertThat(second).isEqualTo(first);
+    assertThat(identity).isEqualTo(first);
+  }
+
+  @Test
+  @DisplayName("Cached count is refreshed after a new event")
+  void shouldRefreshCachedCount() throws Exception {
+    setupData();
+    getCount().body("maleCount", equalTo(5 + EVENTS));
+
+    recordBirth();
+
+    getCount().body("maleCount", equalTo(6 + EVENTS));
+  }
+
+  private String getEvents() {
+    return given()
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200)
+        .header("Content-Encoding", equalTo("gzip"))
+        .body("$", hasSize(EVENTS))
+        .extract()
+        .asString();
+  }
+
+  private ValidatableResponse getCount() {
+    return given()
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  private void setupData() throws Exception {
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+    for (int i = 0; i < EVENTS; i++) {
+      recordBirth();
+    }
+  }
+
+  private void recordBirth() throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(LivestockEventType.BIRTH)
+        .maleCount(1)
+        .femaleCount(0)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+}
@@ -0,0 +1,182 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.core.service.helper.ShardedCountStore;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import java.math.BigDecimal;
+import java.util.List;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Counts with increments spread over four delta slots. The compactor is scheduled an hour apart,
+ * so the tests run it themselves.
+ */
+@SpringBootTest(
+    classes = LivestockApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+      "livestock.sharded-counts.enabled=true",
+      "livestock.sharded-counts.slots=4",
+      "livestock.sharded-counts.compact-interval=PT1H"
+    })
+@DisplayName("Livestock Sharded Count API Tests")
+class ShardedCountApiTest {
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private ShardedCountStore shardedCounts;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(5)
+        .femaleCount(5)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+  }
+
+  @Test
+  @DisplayName("A purchase with tags is added to a slot and shows in the count")
+  void shouldDeferPurchase() throws Exception {
+    assertThat(slotCount()).isEqualTo(4);
+
+    recordEvent(LivestockEventType.PURCHASE, List.of("S1", "S2"));
+
+    assertThat(rowMaleCount()).isEqualTo(5);
+    assertThat(pendingMaleDelta()).isEqualTo(2);
+    assertMaleCount(7);
+  }
+
+  @Test
+  @DisplayName("A sale folds the pending slots into the count first")
+  void shouldFoldBeforeSale() throws Exception {
+    recordEvent(LivestockEventType.PURCHASE, List.of("S1", "S2"));
+
+    recordEvent(LivestockEventType.SALE, List.of("S1"));
+
+    assertThat(rowMaleCount()).isEqualTo(6);
+    assertThat(pendingMaleDelta()).isZero();
+    assertMaleCount(6);
+  }
+
+  @Test
+  @DisplayName("The compactor folds pending slots into the count")
+  void shouldCompactPendingSlots() throws Exception {
+    recordEvent(LivestockEventType.PURCHASE, List.of("S1", "S2", "S3"));
+
+    shardedCounts.compact();
+
+    assertThat(rowMaleCount()).isEqualTo(8);
+    assertThat(pendingMaleDelta()).isZero();
+    assertMaleCount(8);
+  }
+
+  @Test
+  @DisplayName("A count without slots gets the slot an increment picks, the rest when compacted")
+  void shouldCreateSlotsOfOlderCounts() throws Exception {
+    jdbcTemplate.update("DELETE FROM livestock_count_delta");
+
+    recordEvent(LivestockEventType.PURCHASE, List.of("S1"));
+
+    assertThat(rowMaleCount()).isEqualTo(5);
+    assertThat(slotCount()).isEqualTo(1);
+    assertThat(pendingMaleDelta()).isEqualTo(1);
+
+    shardedCounts.compact();
+    recordEvent(LivestockEventType.PURCHASE, List.of("S2"));
+
+    assertThat(slotCount()).isEqualTo(4);
+    assertThat(rowMaleCount()).isEqualTo(6);
+    assertThat(pendingMaleDelta()).isEqualTo(1);
+    assertMaleCount(7);
+  }
+
+  private void assertMaleCount(int maleCount) {
+    given()
+        .queryParam("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .body("maleCount", equalTo(maleCount))
+        .body("femaleCount", equalTo(5));
+  }
+
+  private int rowMaleCount() {
+    return jdbcTemplate.queryForObject(
+        "SELECT male_count FROM livestock_count WHERE user_id = 1", Integer.class);
+  }
+
+  private int pendingMaleDelta() {
+    return jdbcTemplate.queryForObject(
+        "SELECT COALESCE(SUM(male_delta), 0) FROM livestock_count_delta", Integer.class);
+  }
+
+  private int slotCount() {
+    return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM livestock_count_delta", Integer.class);
+  }
+
+  private void recordEvent(LivestockEventType eventType, List<String> tags) throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(eventType)
+        .maleCount(tags.size())
+        .femaleCount(0)
+        .cost(eventType == LivestockEventType.PURCHASE ? new BigDecimal("100.00") : null)
+        .salePrice(eventType == LivestockEventType.SALE ? new BigDecimal("200.00") : null)
+        .livestockIds(tags)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then()
+        .statusCode(200);
+  }
+}
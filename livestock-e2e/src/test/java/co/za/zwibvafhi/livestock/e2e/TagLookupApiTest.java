@@ -0,0 +1,181 @@
+package co.za.zwibvafhi.livestock.e2e;
+
+import static io.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+import co.za.zwibvafhi.livestock.api.dto.InitializeCountRequest;
+import co.za.zwibvafhi.livestock.api.dto.RecordEventRequest;
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockEventType;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import co.za.zwibvafhi.livestock.app.LivestockApplication;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockId;
+import co.za.zwibvafhi.livestock.persistence.repository.LivestockIdRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.restassured.RestAssured;
+import io.restassured.http.ContentType;
+import io.restassured.response.ValidatableResponse;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tag number lookups split into chunks of two tags, so every request of more than two tags runs
+ * several statements in the caller's transaction.
+ */
+@SpringBootTest(
+    classes = LivestockApplication.class,
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = "livestock.tag-lookup.chunk-size=2")
+@DisplayName("Livestock Tag Lookup Tests")
+class TagLookupApiTest {
+
+  private static final List<String> TAGS = List.of("T1", "T2", "T3", "T4", "T5");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Autowired
+  private LivestockIdRepository livestockIdRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @BeforeAll
+  static void configureRestAssured() {
+    RestAssured.baseURI = "http://localhost";
+    RestAssured.filters(new LoggingFilter());
+  }
+
+  @BeforeEach
+  void setUp() throws Exception {
+    RestAssured.port = port;
+    flyway.clean();
+    flyway.migrate();
+    InitializeCountRequest countRequest = InitializeCountRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .maleCount(0)
+        .femaleCount(0)
+        .build();
+    given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(countRequest))
+        .when()
+        .post("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200);
+    recordEvent(LivestockEventType.PURCHASE, TAGS).statusCode(200);
+  }
+
+  @Test
+  @DisplayName("Tags in use are found across chunks")
+  void shouldFindTagsInUseAcrossChunks() throws Exception {
+    recordEvent(LivestockEventType.PURCHASE, List.of("T6", "T7", "T8", "T3", "T9"))
+        .statusCode(400)
+        .body("title", equalTo("DUPLICATE_LIVESTOCK_IDS"))
+        .body("detail", equalTo("Duplicate livestock IDs provided: [T3]"));
+  }
+
+  @Test
+  @DisplayName("Tags are counted and updated across chunks")
+  void shouldSellAcrossChunks() throws Exception {
+    recordEvent(LivestockEventType.SALE, TAGS).statusCode(200);
+    recordEvent(LivestockEventType.SALE, List.of("T1", "T4", "T5"))
+        .statusCode(400)
+        .body("title", equalTo("INVALID_LIVESTOCK_IDS"));
+    given()
+        .queryParams("category", "CATTLE")
+        .when()
+        .get("/api/v1/livestock/1/counts")
+        .then()
+        .statusCode(200)
+        .body("maleCount", equalTo(0));
+    assertThat(statuses()).containsOnlyKeys(TAGS).allSatisfy(
+        (tag, status) -> assertThat(status).isEqualTo(LivestockStatus.SOLD));
+  }
+
+  @Test
+  @DisplayName("The status update sees pending changes and leaves no stale entities")
+  void shouldFlushAndDetachAroundStatusUpdate() {
+    new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+      List<LivestockId> ids = livestockIdRepository.findByUserUserIdAndCategoryAndTagNumberIn(
+          1L, LivestockCategory.CATTLE, TAGS);
+      ids.stream()
+          .filter(id -> id.getTagNumber().equals("T2"))
+          .forEach(id -> id.setStatus(LivestockStatus.LOST));
+
+      int updated = livestockIdRepository.updateStatusOfAliveByTagNumbers(
+          1L, LivestockCategory.CATTLE, TAGS, LivestockStatus.SOLD);
+
+      assertThat(updated).isEqualTo(4);
+      assertThat(statuses())
+          .containsEntry("T1", LivestockStatus.SOLD)
+          .containsEntry("T2", LivestockStatus.LOST)
+          .containsEntry("T5", LivestockStatus.SOLD);
+    });
+    assertThat(statuses()).containsEntry("T2", LivestockStatus.LOST);
+  }
+
+  @Test
+  @DisplayName("The status update keeps other entities of the caller managed")
+  void shouldKeepOtherEntitiesManagedAroundStatusUpdate() throws Exception {
+    recordEvent(LivestockEventType.PURCHASE, List.of("T6")).statusCode(200);
+    new TransactionTemplate(transactionManager).executeWithoutResult(tx -> {
+      LivestockId other = livestockIdRepository.findByUserUserIdAndCategoryAndTagNumberIn(
+          1L, LivestockCategory.CATTLE, List.of("T6")).get(0);
+
+      livestockIdRepository.updateStatusOfAliveByTagNumbers(
+          1L, LivestockCategory.CATTLE, TAGS, LivestockStatus.SOLD);
+      other.setStatus(LivestockStatus.LOST);
+    });
+    assertThat(livestockIdRepository.findByUserUserIdAndCategoryAndTagNumberIn(
+            1L, LivestockCategory.CATTLE, List.of("T6")))
+        .singleElement()
+        .extracting(LivestockId::getStatus)
+        .isEqualTo(LivestockStatus.LOST);
+  }
+
+  private Map<String, LivestockStatus> statuses() {
+    return livestockIdRepository
+        .findByUserUserIdAndCategoryAndTagNumberIn(1L, LivestockCategory.CATTLE, TAGS)
+        .stream()
+        .collect(Collectors.toMap(LivestockId::getTagNumber, LivestockId::getStatus));
+  }
+
+  private ValidatableResponse recordEvent(LivestockEventType eventType, List<String> tags)
+      throws Exception {
+    RecordEventRequest request = RecordEventRequest.builder()
+        .category(LivestockCategory.CATTLE)
+        .eventType(eventType)
+        .maleCount(tags.size())
+        .femaleCount(0)
+        .cost(eventType == LivestockEventType.PURCHASE ? new BigDecimal("100.00") : null)
+        .salePrice(eventType == LivestockEventType.SALE ? new BigDecimal("200.00") : null)
+        .livestockIds(tags)
+        .build();
+    return given()
+        .contentType(ContentType.JSON)
+        .body(objectMapper.writeValueAsString(request))
+        .when()
+        .post("/api/v1/livestock/1/events")
+        .then();
+  }
+}
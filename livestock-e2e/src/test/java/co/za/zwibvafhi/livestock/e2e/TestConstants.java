@@ -7,6 +7,8 @@ public final class TestConstants {
   public static final String EXPENSES_DIR = "expenses";
   public static final String PROFIT_DIR = "profit";
   public static final String EXPENSE_SUMMARIES_DIR = "expense-summaries";
+  public static final String ANIMALS_DIR = "animals";
+  public static final String HEAD_DAY_COSTS_DIR = "head-day-costs";
 
   private TestConstants() {
     // Prevent instantiation
@@ -0,0 +1,60 @@
+package co.za.zwibvafhi.livestock.e2e.helper;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import jakarta.persistence.EntityManagerFactory;
+import javax.cache.Caching;
+import org.flywaydb.core.api.callback.Callback;
+import org.flywaydb.core.api.callback.Context;
+import org.flywaydb.core.api.callback.Event;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Clears the Hibernate second-level cache and the application caches whenever a test cleans the
+ * database through Flyway, so cached users, counts, and query results of a previous test are not
+ * served against the fresh schema.
+ *
+ * <p>The second-level cache regions live in the JVM-wide JCache manager shared by every test
+ * context, while a session factory only evicts the named query regions it has used itself. The
+ * caches of that manager are therefore cleared as well, so results cached by another context do
+ * not survive the clean.
+ */
+@AutoConfiguration
+public class CacheResetConfiguration {
+
+  @Bean
+  public Callback cacheResetCallback(
+      ObjectProvider<EntityManagerFactory> entityManagerFactory,
+      ObjectProvider<CacheManager> cacheManager) {
+    return new Callback() {
+      @Override
+      public boolean supports(Event event, Context context) {
+        return event == Event.AFTER_CLEAN;
+      }
+
+      @Override
+      public boolean canHandleInTransaction(Event event, Context context) {
+        return true;
+      }
+
+      @Override
+      public void handle(Event event, Context context) {
+        entityManagerFactory.ifAvailable(
+            factory -> factory.unwrap(SessionFactory.class).getCache().evictAllRegions());
+        javax.cache.CacheManager regions =
+            Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        regions.getCacheNames().forEach(name -> regions.getCache(name).clear());
+        cacheManager.ifAvailable(
+            manager -> manager.getCacheNames().forEach(name -> manager.getCache(name).clear()));
+      }
+
+      @Override
+      public String getCallbackName() {
+        return "cacheReset";
+      }
+    };
+  }
+}
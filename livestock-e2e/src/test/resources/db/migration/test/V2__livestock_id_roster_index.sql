@@ -0,0 +1 @@
+CREATE INDEX idx_livestock_id_roster ON livestock_id (user_id, category, status, tag_number);
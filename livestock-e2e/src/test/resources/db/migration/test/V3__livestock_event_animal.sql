@@ -0,0 +1,14 @@
+CREATE TABLE livestock_event_animal (
+  event_id BIGINT NOT NULL,
+  tag_number VARCHAR(50) NOT NULL,
+  user_id BIGINT NOT NULL,
+  PRIMARY KEY (event_id, tag_number),
+  FOREIGN KEY (event_id) REFERENCES livestock_event(id),
+  FOREIGN KEY (user_id) REFERENCES users(user_id)
+);
+
+CREATE INDEX idx_livestock_event_animal_tag ON livestock_event_animal (user_id, tag_number, event_id);
+
+-- Only the last event of each existing animal is known
+INSERT INTO livestock_event_animal (event_id, tag_number, user_id)
+SELECT event_id, tag_number, user_id FROM livestock_id;
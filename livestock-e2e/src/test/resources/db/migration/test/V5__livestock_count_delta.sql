@@ -0,0 +1,9 @@
+CREATE TABLE livestock_count_delta (
+  count_id BIGINT NOT NULL,
+  slot INT NOT NULL,
+  male_delta INT NOT NULL,
+  female_delta INT NOT NULL,
+  max_id_delta INT NOT NULL,
+  PRIMARY KEY (count_id, slot),
+  FOREIGN KEY (count_id) REFERENCES livestock_count(id)
+);
@@ -0,0 +1 @@
+ALTER TABLE livestock_count ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
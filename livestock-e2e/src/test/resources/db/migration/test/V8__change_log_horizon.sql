@@ -0,0 +1,7 @@
+CREATE TABLE change_log_horizon (
+  user_id BIGINT PRIMARY KEY,
+  seq BIGINT NOT NULL,
+  FOREIGN KEY (user_id) REFERENCES users(user_id)
+);
+
+CREATE INDEX idx_change_log_changed_at ON change_log (changed_at);
@@ -0,0 +1,61 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity recording that a write changed one of a user's records, ordered by a monotonic change
+ * sequence. Entries are insert-only until retention deletes them; clients sync by reading the
+ * entries after the last sequence they have seen.
+ */
+@Entity
+@Table(name = "change_log")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogEntry {
+
+  /** Kind of record a change log entry refers to. */
+  public enum Kind {
+    /** A livestock count was initialized or corrected; the entity is the count. */
+    COUNT,
+    /** A livestock event was recorded, changing its count and animals; the entity is the event. */
+    EVENT,
+    /** A livestock expense was recorded; the entity is the expense. */
+    EXPENSE
+  }
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long seq;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private LivestockCategory category;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private Kind kind;
+
+  @Column(name = "entity_id", nullable = false)
+  private long entityId;
+
+  @Column(name = "changed_at", nullable = false)
+  private LocalDateTime changedAt;
+}
@@ -0,0 +1,30 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Entity recording the highest change sequence of a user whose change log entries were deleted by
+ * retention. A client whose cursor is behind it may have missed changes and must resync fully.
+ */
+@Entity
+@Table(name = "change_log_horizon")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeLogHorizon {
+
+  @Id
+  @Column(name = "user_id")
+  private Long userId;
+
+  @Column(nullable = false)
+  private long seq;
+}
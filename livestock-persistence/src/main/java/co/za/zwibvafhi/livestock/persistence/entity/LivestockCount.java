@@ -5,12 +5,18 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Entity representing livestock count.
+ *
+ * <p>Cached read-write in the {@code livestock-counts} second-level cache region and versioned,
+ * so concurrent updates of the same count fail instead of overwriting each other.
  * */
 @Entity
 @Table(name = "livestock_count")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "livestock-counts")
 @NoArgsConstructor
 @Getter
 @Setter
@@ -36,4 +42,8 @@ public class LivestockCount {
 
   @Column(name = "max_id", nullable = false)
   private int maxId;
+
+  @Version
+  @Column(nullable = false)
+  private long version;
 }
@@ -0,0 +1,53 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entity representing one delta slot of a livestock count. The effective count is the base row
+ * plus the deltas of all its slots; concurrent increments spread over the slots instead of
+ * contending for the base row.
+ *
+ * <p>Slots are only inserted empty and then changed with relative updates, so {@link #isNew()}
+ * is always true and saving never overwrites a slot.
+ */
+@Entity
+@Table(name = "livestock_count_delta")
+@Getter
+@NoArgsConstructor
+public class LivestockCountDelta implements Persistable<LivestockCountDeltaId> {
+
+  @EmbeddedId
+  private LivestockCountDeltaId id;
+
+  @Column(name = "male_delta", nullable = false)
+  private int maleDelta;
+
+  @Column(name = "female_delta", nullable = false)
+  private int femaleDelta;
+
+  @Column(name = "max_id_delta", nullable = false)
+  private int maxIdDelta;
+
+  /**
+   * Creates an empty delta slot.
+   *
+   * @param countId ID of the livestock count
+   * @param slot Slot number
+   */
+  public LivestockCountDelta(Long countId, int slot) {
+    this.id = new LivestockCountDeltaId(countId, slot);
+  }
+
+  @Override
+  @Transient
+  public boolean isNew() {
+    return true;
+  }
+}
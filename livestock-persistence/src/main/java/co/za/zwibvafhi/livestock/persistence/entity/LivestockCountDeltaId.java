@@ -0,0 +1,24 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Composite key of a delta slot of a livestock count. */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LivestockCountDeltaId implements Serializable {
+
+  @Column(name = "count_id", nullable = false)
+  private Long countId;
+
+  @Column(name = "slot", nullable = false)
+  private int slot;
+}
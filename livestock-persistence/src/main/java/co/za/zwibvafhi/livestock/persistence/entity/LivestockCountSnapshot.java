@@ -0,0 +1,55 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing the state of a herd's livestock count after a given event. Snapshots are
+ * insert-only; the count is rebuilt from the latest snapshot plus the events recorded after it.
+ */
+@Entity
+@Table(name = "livestock_count_snapshot")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LivestockCountSnapshot {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false)
+  private LivestockCategory category;
+
+  @Column(name = "last_event_id", nullable = false)
+  private long lastEventId;
+
+  @Column(name = "male_count", nullable = false)
+  private int maleCount;
+
+  @Column(name = "female_count", nullable = false)
+  private int femaleCount;
+
+  @Column(name = "max_id", nullable = false)
+  private int maxId;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * Entity linking a livestock event to each animal it involved, so an animal's full event history
+ * is kept after it leaves the herd.
+ *
+ * <p>Links are insert-only; {@link #isNew()} is always true so that saving them issues batched
+ * inserts without a select per assigned key.
+ */
+@Entity
+@Table(name = "livestock_event_animal")
+@Getter
+@NoArgsConstructor
+public class LivestockEventAnimal implements Persistable<LivestockEventAnimalId> {
+
+  @EmbeddedId
+  private LivestockEventAnimalId id;
+
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  /**
+   * Creates a link between an event and an animal.
+   *
+   * @param eventId ID of the event
+   * @param userId ID of the user
+   * @param tagNumber Tag number of the animal
+   */
+  public LivestockEventAnimal(Long eventId, Long userId, String tagNumber) {
+    this.id = new LivestockEventAnimalId(eventId, tagNumber);
+    this.userId = userId;
+  }
+
+  @Override
+  @Transient
+  public boolean isNew() {
+    return true;
+  }
+}
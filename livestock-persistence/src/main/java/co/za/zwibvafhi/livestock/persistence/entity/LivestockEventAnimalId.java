@@ -0,0 +1,24 @@
+package co.za.zwibvafhi.livestock.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.io.Serializable;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Composite key of a link between a livestock event and an animal's tag number. */
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class LivestockEventAnimalId implements Serializable {
+
+  @Column(name = "event_id", nullable = false)
+  private Long eventId;
+
+  @Column(name = "tag_number", nullable = false)
+  private String tagNumber;
+}
@@ -7,10 +7,20 @@ import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Immutable;
 
-/** Entity representing a user. */
+/**
+ * Entity representing a user.
+ *
+ * <p>Users never change once created, so they are kept read-only in the {@code users}
+ * second-level cache region.
+ */
 @Entity
 @Table(name = "users")
+@Immutable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "users")
 @NoArgsConstructor
 @Getter
 @Setter
@@ -0,0 +1,13 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogHorizon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing the change log horizons of users.
+ *
+ * <p>Provides lookups and upserts of {@link ChangeLogHorizon} by user ID.
+ */
+@Repository
+public interface ChangeLogHorizonRepository extends JpaRepository<ChangeLogHorizon, Long> {}
@@ -0,0 +1,54 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.persistence.entity.ChangeLogEntry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing change log entries.
+ *
+ * <p>Provides inserts of {@link ChangeLogEntry}, reads of a user's entries after a change
+ * sequence, a single index range scan on user and sequence, and the deletes of retention.
+ */
+@Repository
+public interface ChangeLogRepository extends JpaRepository<ChangeLogEntry, Long> {
+
+  /**
+   * Finds the change log entries of a user after a change sequence, in sequence order.
+   *
+   * @param userId the ID of the user
+   * @param seq the change sequence to continue after (exclusive)
+   * @param pageable the maximum number of entries to return
+   * @return a list of matching entries
+   */
+  List<ChangeLogEntry> findByUserIdAndSeqGreaterThanOrderBySeq(
+      Long userId, Long seq, Pageable pageable);
+
+  /**
+   * Finds the last change sequence of every user with entries older than a cutoff.
+   *
+   * @param cutoff the time before which entries are expired
+   * @return a list of arrays containing user ID and the highest expired change sequence
+   */
+  @Query(
+      "SELECT e.userId, MAX(e.seq) FROM ChangeLogEntry e WHERE e.changedAt < :cutoff "
+          + "GROUP BY e.userId")
+  List<Object[]> findLastSeqsBefore(@Param("cutoff") LocalDateTime cutoff);
+
+  /**
+   * Deletes the change log entries of a user up to a change sequence.
+   *
+   * @param userId the ID of the user
+   * @param seq the last change sequence to delete (inclusive)
+   * @return the number of deleted entries
+   */
+  @Modifying
+  @Query("DELETE FROM ChangeLogEntry e WHERE e.userId = :userId AND e.seq <= :seq")
+  int deleteByUserIdUpTo(@Param("userId") Long userId, @Param("seq") long seq);
+}
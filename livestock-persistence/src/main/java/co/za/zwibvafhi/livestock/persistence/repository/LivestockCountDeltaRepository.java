@@ -0,0 +1,91 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCountDelta;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCountDeltaId;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing livestock count delta slots.
+ *
+ * <p>Provides relative updates of {@link LivestockCountDelta} slots and the projections needed to
+ * sum them and fold them back into their count. Slots missing under a shared lock on the count are
+ * created through {@link LivestockCountDeltaSlotRepository}.
+ */
+@Repository
+public interface LivestockCountDeltaRepository
+    extends JpaRepository<LivestockCountDelta, LivestockCountDeltaId>,
+        LivestockCountDeltaSlotRepository {
+
+  /**
+   * Adds to the deltas of one slot of a livestock count.
+   *
+   * @param countId the ID of the livestock count
+   * @param slot the slot number
+   * @param maleDelta the male count to add (negative to subtract)
+   * @param femaleDelta the female count to add (negative to subtract)
+   * @param maxIdDelta the maximum ID increase to add (negative to subtract)
+   * @return the number of updated slots, 0 if the slot does not exist
+   */
+  @Modifying
+  @Query(
+      "UPDATE LivestockCountDelta d SET d.maleDelta = d.maleDelta + :maleDelta, "
+          + "d.femaleDelta = d.femaleDelta + :femaleDelta, "
+          + "d.maxIdDelta = d.maxIdDelta + :maxIdDelta "
+          + "WHERE d.id.countId = :countId AND d.id.slot = :slot")
+  int addToSlot(
+      @Param("countId") Long countId,
+      @Param("slot") int slot,
+      @Param("maleDelta") int maleDelta,
+      @Param("femaleDelta") int femaleDelta,
+      @Param("maxIdDelta") int maxIdDelta);
+
+  /**
+   * Projects the slots of a livestock count.
+   *
+   * @param countId the ID of the livestock count
+   * @return a list of arrays containing slot, male delta, female delta, and maximum ID delta
+   */
+  @Query(
+      "SELECT d.id.slot, d.maleDelta, d.femaleDelta, d.maxIdDelta FROM LivestockCountDelta d "
+          + "WHERE d.id.countId = :countId")
+  List<Object[]> findSlotsByCountId(@Param("countId") Long countId);
+
+  /**
+   * Sums the slots of a livestock count.
+   *
+   * @param countId the ID of the livestock count
+   * @return a single array containing the summed male, female, and maximum ID deltas
+   */
+  @Query(
+      "SELECT COALESCE(SUM(d.maleDelta), 0), COALESCE(SUM(d.femaleDelta), 0), "
+          + "COALESCE(SUM(d.maxIdDelta), 0) FROM LivestockCountDelta d "
+          + "WHERE d.id.countId = :countId")
+  List<Object[]> sumByCountId(@Param("countId") Long countId);
+
+  /**
+   * Finds the livestock counts with deltas not yet folded into them.
+   *
+   * @return a list of livestock count IDs
+   */
+  @Query(
+      "SELECT DISTINCT d.id.countId FROM LivestockCountDelta d "
+          + "WHERE d.maleDelta <> 0 OR d.femaleDelta <> 0 OR d.maxIdDelta <> 0")
+  List<Long> findCountIdsWithPendingDeltas();
+
+  /**
+   * Finds the livestock counts with fewer delta slots than configured, including counts without
+   * any.
+   *
+   * @param slots the configured number of slots per count
+   * @return a list of livestock count IDs
+   */
+  @Query(
+      "SELECT c.id FROM LivestockCount c WHERE "
+          + "(SELECT COUNT(d) FROM LivestockCountDelta d WHERE d.id.countId = c.id) < :slots")
+  List<Long> findCountIdsWithFewerSlotsThan(@Param("slots") long slots);
+}
@@ -0,0 +1,19 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+/**
+ * Creation of livestock count delta slots that concurrent transactions may race for.
+ *
+ * <p>Implemented by {@link LivestockCountDeltaSlotRepositoryImpl} and exposed through
+ * {@link LivestockCountDeltaRepository}.
+ */
+public interface LivestockCountDeltaSlotRepository {
+
+  /**
+   * Inserts an empty delta slot unless it exists. A slot inserted meanwhile by another
+   * transaction is waited for and left as it is, without failing the caller's transaction.
+   *
+   * @param countId the ID of the livestock count
+   * @param slot the slot number
+   */
+  void insertSlotIfAbsent(Long countId, int slot);
+}
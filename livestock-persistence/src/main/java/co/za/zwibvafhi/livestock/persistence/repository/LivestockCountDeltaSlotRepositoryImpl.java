@@ -0,0 +1,65 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import java.sql.DatabaseMetaData;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * JDBC implementation of {@link LivestockCountDeltaSlotRepository}.
+ *
+ * <p>On PostgreSQL, where a failed statement aborts the whole transaction, the slot is inserted
+ * with {@code ON CONFLICT DO NOTHING}. Other databases only roll back the failed statement, so a
+ * conditional insert that loses the race to a concurrent one is ignored. Either way the statement
+ * runs on the caller's connection and only locks the slot row, never the count row.
+ */
+public class LivestockCountDeltaSlotRepositoryImpl implements LivestockCountDeltaSlotRepository {
+
+  private static final String UPSERT_SQL =
+      "INSERT INTO livestock_count_delta (count_id, slot, male_delta, female_delta, max_id_delta) "
+          + "VALUES (?, ?, 0, 0, 0) ON CONFLICT (count_id, slot) DO NOTHING";
+
+  private static final String INSERT_SQL =
+      "INSERT INTO livestock_count_delta (count_id, slot, male_delta, female_delta, max_id_delta) "
+          + "SELECT ?, ?, 0, 0, 0 WHERE NOT EXISTS "
+          + "(SELECT 1 FROM livestock_count_delta WHERE count_id = ? AND slot = ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean postgres;
+
+  public LivestockCountDeltaSlotRepositoryImpl(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.postgres = isPostgres(jdbcTemplate);
+  }
+
+  @Override
+  public void insertSlotIfAbsent(Long countId, int slot) {
+    if (postgres) {
+      jdbcTemplate.update(UPSERT_SQL, countId, slot);
+      return;
+    }
+    try {
+      jdbcTemplate.update(INSERT_SQL, countId, slot, countId, slot);
+    } catch (DuplicateKeyException e) {
+      // Inserted by a concurrent transaction since the check
+    }
+  }
+
+  /**
+   * Checks whether the data source is a PostgreSQL database.
+   *
+   * @param jdbcTemplate the JDBC template
+   * @return true for PostgreSQL, false otherwise or if the metadata cannot be read
+   */
+  private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+    try {
+      String productName =
+          JdbcUtils.extractDatabaseMetaData(
+              jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+      return "PostgreSQL".equals(productName);
+    } catch (MetaDataAccessException e) {
+      return false;
+    }
+  }
+}
@@ -2,8 +2,16 @@ package co.za.zwibvafhi.livestock.persistence.repository;
 
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockCount;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -11,6 +19,9 @@ import org.springframework.stereotype.Repository;
  *
  * <p>Provides CRUD operations for {@link LivestockCount} and custom queries to retrieve counts
  * by user ID and livestock category.
+ *
+ * <p>Lookups by user ID and category are cached in the {@code livestock-count-queries} query
+ * cache region, which Hibernate invalidates whenever a count is written.
  */
 @Repository
 public interface LivestockCountRepository extends JpaRepository<LivestockCount, Long> {
@@ -22,5 +33,53 @@ public interface LivestockCountRepository extends JpaRepository<LivestockCount,
    * @param category the livestock category (e.g., CATTLE, GOAT)
    * @return an {@link Optional} containing the count if found, or empty if not
    */
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+    @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "livestock-count-queries")
+  })
   Optional<LivestockCount> findByUserUserIdAndCategory(Long userId, LivestockCategory category);
-}
\ No newline at end of file
+
+  /**
+   * Finds a livestock count by user ID and category and locks it until the end of the current
+   * transaction.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return an {@link Optional} containing the locked count if found, or empty if not
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM LivestockCount c WHERE c.user.userId = :userId AND c.category = :category")
+  Optional<LivestockCount> findForUpdateByUserUserIdAndCategory(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+
+  /**
+   * Finds a livestock count by user ID and category and locks it against exclusive locks until
+   * the end of the current transaction, while other shared locks are still granted.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return an {@link Optional} containing the locked count if found, or empty if not
+   */
+  @Lock(LockModeType.PESSIMISTIC_READ)
+  @Query("SELECT c FROM LivestockCount c WHERE c.user.userId = :userId AND c.category = :category")
+  Optional<LivestockCount> findForShareByUserUserIdAndCategory(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+
+  /**
+   * Finds a livestock count by ID and locks it until the end of the current transaction.
+   *
+   * @param id the ID of the livestock count
+   * @return an {@link Optional} containing the locked count if found, or empty if not
+   */
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT c FROM LivestockCount c WHERE c.id = :id")
+  Optional<LivestockCount> findForUpdateById(@Param("id") Long id);
+
+  /**
+   * Projects the herd of every livestock count.
+   *
+   * @return a list of arrays containing user ID and category, ordered by user ID
+   */
+  @Query("SELECT c.user.userId, c.category FROM LivestockCount c ORDER BY c.user.userId, c.id")
+  List<Object[]> findAllHerds();
+}
@@ -0,0 +1,29 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockCountSnapshot;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing livestock count snapshots.
+ *
+ * <p>Provides inserts of {@link LivestockCountSnapshot} and lookup of the latest snapshot of a
+ * herd.
+ */
+@Repository
+public interface LivestockCountSnapshotRepository
+    extends JpaRepository<LivestockCountSnapshot, Long> {
+
+  /**
+   * Finds the latest snapshot of a herd by user ID and category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return an {@link Optional} containing the snapshot with the highest last event ID, or empty
+   *     if the herd has none
+   */
+  Optional<LivestockCountSnapshot> findFirstByUserIdAndCategoryOrderByLastEventIdDesc(
+      Long userId, LivestockCategory category);
+}
@@ -0,0 +1,16 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockEventAnimal;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockEventAnimalId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository for managing links between livestock events and animals.
+ *
+ * <p>Provides batched inserts of {@link LivestockEventAnimal} links; timelines are read through
+ * {@link LivestockEventRepository}.
+ */
+@Repository
+public interface LivestockEventAnimalRepository
+    extends JpaRepository<LivestockEventAnimal, LivestockEventAnimalId> {}
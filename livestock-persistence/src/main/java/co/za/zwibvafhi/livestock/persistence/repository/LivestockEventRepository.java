@@ -6,6 +6,8 @@ import co.za.zwibvafhi.livestock.persistence.entity.LivestockEvent;
 import java.time.LocalDate;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -66,4 +68,82 @@ public interface LivestockEventRepository extends JpaRepository<LivestockEvent,
    */
   List<LivestockEvent> findByUserUserIdAndCategoryAndEventDateBetween(
       Long userId, LivestockCategory category, LocalDate startDate, LocalDate endDate);
-}
\ No newline at end of file
+
+  /**
+   * Aggregates head counts per event date and event type for a user and category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return a list of arrays containing event date, event type, and total head count, ordered by
+   *     event date
+   */
+  @Query(
+      "SELECT e.eventDate, e.eventType, SUM(e.maleCount + e.femaleCount) "
+          + "FROM LivestockEvent e "
+          + "WHERE e.user.userId = :userId AND e.category = :category "
+          + "GROUP BY e.eventDate, e.eventType "
+          + "ORDER BY e.eventDate")
+  List<Object[]> findHeadCountsByUserUserIdAndCategoryGroupedByEventDate(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+
+  /**
+   * Projects the monetary columns of all events for a user and category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return a list of arrays containing event date, event type, sale price, and cost, ordered by
+   *     event date
+   */
+  @Query(
+      "SELECT e.eventDate, e.eventType, e.salePrice, e.cost "
+          + "FROM LivestockEvent e "
+          + "WHERE e.user.userId = :userId AND e.category = :category "
+          + "AND (e.salePrice IS NOT NULL OR e.cost IS NOT NULL) "
+          + "ORDER BY e.eventDate")
+  List<Object[]> findAmountsByUserUserIdAndCategory(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+
+  /**
+   * Finds all events linked to an animal of a user, ordered by event date.
+   *
+   * @param userId the ID of the user
+   * @param tagNumber the tag number of the animal
+   * @return a list of the animal's events, ordered by event date
+   */
+  @Query(
+      "SELECT e FROM LivestockEventAnimal a JOIN LivestockEvent e ON e.id = a.id.eventId "
+          + "WHERE a.userId = :userId AND a.id.tagNumber = :tagNumber "
+          + "ORDER BY e.eventDate, e.id")
+  List<LivestockEvent> findByUserUserIdAndTagNumberOrderByEventDate(
+      @Param("userId") Long userId, @Param("tagNumber") String tagNumber);
+
+  /**
+   * Projects the head count columns of the events of a user and category recorded after a given
+   * event, in the order they were recorded.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param afterEventId the ID of the last event already applied (exclusive)
+   * @return a list of arrays containing event ID, event type, male count, and female count,
+   *     ordered by event ID
+   */
+  @Query(
+      "SELECT e.id, e.eventType, e.maleCount, e.femaleCount FROM LivestockEvent e "
+          + "WHERE e.user.userId = :userId AND e.category = :category AND e.id > :afterEventId "
+          + "ORDER BY e.id")
+  List<Object[]> findReplayRowsByUserUserIdAndCategory(
+      @Param("userId") Long userId,
+      @Param("category") LivestockCategory category,
+      @Param("afterEventId") long afterEventId);
+
+  /**
+   * Counts the events of a user and category recorded after a given event.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param afterEventId the event ID to count after (exclusive)
+   * @return the number of matching events
+   */
+  long countByUserUserIdAndCategoryAndIdGreaterThan(
+      Long userId, LivestockCategory category, Long afterEventId);
+}
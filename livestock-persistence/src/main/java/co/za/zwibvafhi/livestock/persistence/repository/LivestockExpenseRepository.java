@@ -78,4 +78,20 @@ public interface LivestockExpenseRepository extends JpaRepository<LivestockExpen
       @Param("category") LivestockCategory category,
       @Param("startDate") LocalDate startDate,
       @Param("endDate") LocalDate endDate);
-}
\ No newline at end of file
+
+  /**
+   * Projects the date, category, and amount of all expenses for a user and category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return a list of arrays containing expense date, expense category, and amount, ordered by
+   *     expense date
+   */
+  @Query(
+      "SELECT e.expenseDate, e.expenseCategory, e.amount "
+          + "FROM LivestockExpense e "
+          + "WHERE e.user.userId = :userId AND e.category = :category "
+          + "ORDER BY e.expenseDate")
+  List<Object[]> findAmountsByUserUserIdAndCategory(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+}
@@ -1,9 +1,20 @@
 package co.za.zwibvafhi.livestock.persistence.repository;
 
 import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockGender;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
 import co.za.zwibvafhi.livestock.persistence.entity.LivestockId;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -13,7 +24,8 @@ import org.springframework.stereotype.Repository;
  * livestock IDs by user ID, category, and tag numbers.
  */
 @Repository
-public interface LivestockIdRepository extends JpaRepository<LivestockId, Long> {
+public interface LivestockIdRepository
+    extends JpaRepository<LivestockId, Long>, LivestockIdTagRepository {
 
   /**
    * Finds livestock IDs by user ID and category.
@@ -34,4 +46,94 @@ public interface LivestockIdRepository extends JpaRepository<LivestockId, Long>
    */
   List<LivestockId> findByUserUserIdAndCategoryAndTagNumberIn(
       Long userId, LivestockCategory category, List<String> tagNumbers);
-}
\ No newline at end of file
+
+  /**
+   * Finds the recorded purchase prices of livestock IDs by user ID and category.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @return a list of non-null purchase prices
+   */
+  @Query(
+      "SELECT l.purchasePrice FROM LivestockId l "
+          + "WHERE l.user.userId = :userId AND l.category = :category "
+          + "AND l.purchasePrice IS NOT NULL")
+  List<BigDecimal> findPurchasePricesByUserUserIdAndCategory(
+      @Param("userId") Long userId, @Param("category") LivestockCategory category);
+
+  /**
+   * Projects a page of livestock IDs by user ID, category, status, and optional gender, ordered by
+   * tag number and starting after a tag number.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param status the livestock status (e.g., ALIVE, SOLD)
+   * @param gender the livestock gender, or null for both
+   * @param afterTagNumber the tag number to continue after (exclusive), or empty to start
+   * @param pageable the maximum number of rows to return
+   * @return a list of arrays containing tag number, gender, status, and purchase price
+   */
+  @Query(
+      "SELECT l.tagNumber, l.gender, l.status, l.purchasePrice FROM LivestockId l "
+          + "WHERE l.user.userId = :userId AND l.category = :category AND l.status = :status "
+          + "AND (:gender IS NULL OR l.gender = :gender) AND l.tagNumber > :afterTagNumber "
+          + "ORDER BY l.tagNumber")
+  List<Object[]> findRosterByUserUserIdAndCategoryAndStatus(
+      @Param("userId") Long userId,
+      @Param("category") LivestockCategory category,
+      @Param("status") LivestockStatus status,
+      @Param("gender") LivestockGender gender,
+      @Param("afterTagNumber") String afterTagNumber,
+      Pageable pageable);
+
+  /**
+   * Projects the livestock IDs of a user involved in any of the given events.
+   *
+   * @param userId the ID of the user
+   * @param eventIds the IDs of the events
+   * @return a list of arrays containing tag number, gender, status, and purchase price
+   */
+  @Query(
+      "SELECT l.tagNumber, l.gender, l.status, l.purchasePrice FROM LivestockId l "
+          + "WHERE l.user.userId = :userId AND l.tagNumber IN ("
+          + "SELECT a.id.tagNumber FROM LivestockEventAnimal a "
+          + "WHERE a.userId = :userId AND a.id.eventId IN :eventIds) "
+          + "ORDER BY l.tagNumber")
+  List<Object[]> findAnimalsByUserUserIdAndEventIds(
+      @Param("userId") Long userId, @Param("eventIds") Collection<Long> eventIds);
+
+  /**
+   * Finds the tag numbers of livestock IDs by user ID, category, and status.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param status the livestock status (e.g., ALIVE)
+   * @return a list of matching tag numbers
+   */
+  @Query(
+      "SELECT l.tagNumber FROM LivestockId l "
+          + "WHERE l.user.userId = :userId AND l.category = :category AND l.status = :status")
+  List<String> findTagNumbersByUserUserIdAndCategoryAndStatus(
+      @Param("userId") Long userId,
+      @Param("category") LivestockCategory category,
+      @Param("status") LivestockStatus status);
+
+  /**
+   * Finds the tag numbers of all livestock IDs of a user.
+   *
+   * @param userId the ID of the user
+   * @return a list of tag numbers in any category and status
+   */
+  @Query("SELECT l.tagNumber FROM LivestockId l WHERE l.user.userId = :userId")
+  List<String> findTagNumbersByUserUserId(@Param("userId") Long userId);
+
+  /**
+   * Streams the user ID and tag number of all livestock IDs, ordered by user ID. Must be consumed
+   * inside a transaction and closed after use.
+   *
+   * @return a stream of arrays containing user ID and tag number
+   */
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+  @Query("SELECT l.user.userId, l.tagNumber FROM LivestockId l ORDER BY l.user.userId")
+  Stream<Object[]> streamUserIdsAndTagNumbers();
+}
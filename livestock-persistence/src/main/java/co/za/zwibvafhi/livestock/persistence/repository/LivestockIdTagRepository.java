@@ -0,0 +1,51 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Tag number lookups on livestock IDs that bind a bounded number of statement shapes regardless
+ * of how many tag numbers a request carries.
+ *
+ * <p>Implemented by {@link LivestockIdTagRepositoryImpl} and exposed through
+ * {@link LivestockIdRepository}.
+ */
+public interface LivestockIdTagRepository {
+
+  /**
+   * Counts livestock IDs by user ID, category, optional status, and tag numbers.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param status the livestock status (e.g., ALIVE), or null for any status
+   * @param tagNumbers the distinct tag numbers to match
+   * @return the number of matching livestock IDs
+   */
+  long countByTagNumbers(
+      Long userId, LivestockCategory category, LivestockStatus status, Collection<String> tagNumbers);
+
+  /**
+   * Finds which of the given tag numbers are already used by livestock IDs of a user, in any
+   * category and status.
+   *
+   * @param userId the ID of the user
+   * @param tagNumbers the distinct tag numbers to match
+   * @return the matching tag numbers
+   */
+  List<String> findExistingTagNumbers(Long userId, Collection<String> tagNumbers);
+
+  /**
+   * Updates the status of alive livestock IDs by user ID, category, and tag numbers. IDs that are
+   * no longer alive are left unchanged and not counted.
+   *
+   * @param userId the ID of the user
+   * @param category the livestock category (e.g., CATTLE, GOAT)
+   * @param tagNumbers the distinct tag numbers to update
+   * @param status the new livestock status (e.g., SOLD)
+   * @return the number of updated livestock IDs
+   */
+  int updateStatusOfAliveByTagNumbers(
+      Long userId, LivestockCategory category, Collection<String> tagNumbers, LivestockStatus status);
+}
@@ -0,0 +1,261 @@
+package co.za.zwibvafhi.livestock.persistence.repository;
+
+import co.za.zwibvafhi.livestock.api.model.LivestockCategory;
+import co.za.zwibvafhi.livestock.api.model.LivestockStatus;
+import co.za.zwibvafhi.livestock.persistence.entity.LivestockId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.hibernate.engine.spi.EntityEntry;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+
+/**
+ * JDBC implementation of {@link LivestockIdTagRepository}.
+ *
+ * <p>On PostgreSQL the tag numbers of a chunk are bound as a single {@code text[]} parameter with
+ * {@code tag_number = ANY(?)}, so every chunk size shares one statement. Other databases get an
+ * IN list padded to the next power of two with the last tag number, which keeps the number of
+ * distinct statements logarithmic in the chunk size. Requests larger than
+ * {@code livestock.tag-lookup.chunk-size} are split into chunks, run in order on the caller's
+ * connection so they see its uncommitted writes and share its transaction.
+ *
+ * <p>Updates bypass the persistence context, so pending changes are flushed before them and the
+ * managed livestock IDs they may have changed are detached after them. Other entities the caller
+ * holds stay managed, so their later changes are still written.
+ */
+public class LivestockIdTagRepositoryImpl implements LivestockIdTagRepository {
+
+  private static final String COUNT_SQL =
+      "SELECT COUNT(*) FROM livestock_id WHERE user_id = ? AND category = ?";
+
+  private static final String EXISTING_SQL =
+      "SELECT tag_number FROM livestock_id WHERE user_id = ?";
+
+  private static final String UPDATE_SQL =
+      "UPDATE livestock_id SET status = ? WHERE user_id = ? AND category = ? AND status = 'ALIVE'";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final boolean arrayParameter;
+  private final int chunkSize;
+
+  @PersistenceContext
+  private EntityManager entityManager;
+
+  public LivestockIdTagRepositoryImpl(
+      JdbcTemplate jdbcTemplate,
+      @Value("${livestock.tag-lookup.chunk-size:1024}") int chunkSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.arrayParameter = isPostgres(jdbcTemplate);
+    this.chunkSize = chunkSize;
+  }
+
+  @Override
+  public long countByTagNumbers(
+      Long userId, LivestockCategory category, LivestockStatus status, Collection<String> tagNumbers) {
+    List<Object> args = new ArrayList<>(List.of(userId, category.name()));
+    String sql = COUNT_SQL;
+    if (status != null) {
+      sql += " AND status = ?";
+      args.add(status.name());
+    }
+    long count = 0;
+    for (List<String> chunk : chunk(tagNumbers)) {
+      count += count(sql, args, chunk);
+    }
+    return count;
+  }
+
+  @Override
+  public List<String> findExistingTagNumbers(Long userId, Collection<String> tagNumbers) {
+    List<Object> args = List.of(userId);
+    List<List<String>> chunks = chunk(tagNumbers);
+    if (chunks.size() == 1) {
+      return findTagNumbers(args, chunks.get(0));
+    }
+    List<String> found = new ArrayList<>();
+    for (List<String> chunk : chunks) {
+      found.addAll(findTagNumbers(args, chunk));
+    }
+    return found;
+  }
+
+  @Override
+  public int updateStatusOfAliveByTagNumbers(
+      Long userId, LivestockCategory category, Collection<String> tagNumbers, LivestockStatus status) {
+    List<Object> args = List.of(status.name(), userId, category.name());
+    entityManager.flush();
+    int updated = 0;
+    for (List<String> chunk : chunk(tagNumbers)) {
+      List<String> values = bindValues(chunk);
+      updated +=
+          jdbcTemplate.update(
+              UPDATE_SQL + tagCondition(values.size()), ps -> bind(ps, args, values));
+    }
+    detach(userId, category, tagNumbers);
+    return updated;
+  }
+
+  /**
+   * Detaches the managed livestock IDs of tag numbers, so they are read again with their updated
+   * status.
+   *
+   * @param userId the user ID
+   * @param category the livestock category
+   * @param tagNumbers the tag numbers
+   */
+  private void detach(Long userId, LivestockCategory category, Collection<String> tagNumbers) {
+    Set<String> tags = Set.copyOf(tagNumbers);
+    for (Map.Entry<Object, EntityEntry> entry :
+        entityManager
+            .unwrap(SessionImplementor.class)
+            .getPersistenceContextInternal()
+            .reentrantSafeEntityEntries()) {
+      if (entry.getKey() instanceof LivestockId livestockId
+          && livestockId.getCategory() == category
+          && tags.contains(livestockId.getTagNumber())
+          && userId.equals(livestockId.getUser().getUserId())) {
+        entityManager.detach(livestockId);
+      }
+    }
+  }
+
+  /**
+   * Counts the rows matching one chunk of tag numbers.
+   *
+   * @param sql the count statement without the tag condition
+   * @param args the leading parameters
+   * @param chunk the tag numbers of the chunk
+   * @return the number of matching rows
+   */
+  private long count(String sql, List<Object> args, List<String> chunk) {
+    List<String> values = bindValues(chunk);
+    Long count =
+        jdbcTemplate.query(
+            sql + tagCondition(values.size()),
+            ps -> bind(ps, args, values),
+            rs -> rs.next() ? rs.getLong(1) : 0L);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Finds the tag numbers matching one chunk of tag numbers.
+   *
+   * @param args the leading parameters
+   * @param chunk the tag numbers of the chunk
+   * @return the matching tag numbers
+   */
+  private List<String> findTagNumbers(List<Object> args, List<String> chunk) {
+    List<String> values = bindValues(chunk);
+    return jdbcTemplate.query(
+        EXISTING_SQL + tagCondition(values.size()),
+        ps -> bind(ps, args, values),
+        (rs, rowNum) -> rs.getString(1));
+  }
+
+  /**
+   * Splits tag numbers into chunks of at most the configured chunk size.
+   *
+   * @param tagNumbers the tag numbers
+   * @return the chunks, at least one
+   */
+  private List<List<String>> chunk(Collection<String> tagNumbers) {
+    List<String> all = List.copyOf(tagNumbers);
+    if (all.size() <= chunkSize) {
+      return List.of(all);
+    }
+    List<List<String>> chunks = new ArrayList<>((all.size() + chunkSize - 1) / chunkSize);
+    for (int from = 0; from < all.size(); from += chunkSize) {
+      chunks.add(all.subList(from, Math.min(from + chunkSize, all.size())));
+    }
+    return chunks;
+  }
+
+  /**
+   * Returns the tag numbers to bind for a chunk, padded to a power of two with the last tag
+   * number unless they are bound as one array parameter.
+   *
+   * @param chunk the tag numbers of the chunk
+   * @return the values to bind
+   */
+  private List<String> bindValues(List<String> chunk) {
+    if (arrayParameter || chunk.isEmpty()) {
+      return chunk;
+    }
+    int padded = Integer.highestOneBit(chunk.size());
+    if (padded < chunk.size()) {
+      padded <<= 1;
+    }
+    List<String> values = new ArrayList<>(padded);
+    values.addAll(chunk);
+    values.addAll(Collections.nCopies(padded - chunk.size(), chunk.get(chunk.size() - 1)));
+    return values;
+  }
+
+  /**
+   * Builds the tag number condition for a number of bound values.
+   *
+   * @param size the number of tag numbers to bind
+   * @return the SQL condition starting with AND
+   */
+  private String tagCondition(int size) {
+    if (arrayParameter) {
+      return " AND tag_number = ANY(?)";
+    }
+    if (size == 0) {
+      return " AND 1 = 0";
+    }
+    return " AND tag_number IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
+  }
+
+  /**
+   * Binds the leading parameters followed by the tag numbers.
+   *
+   * @param ps the prepared statement
+   * @param args the leading parameters
+   * @param values the tag numbers to bind
+   * @throws SQLException if binding fails
+   */
+  private void bind(PreparedStatement ps, List<Object> args, List<String> values)
+      throws SQLException {
+    int index = 1;
+    for (Object arg : args) {
+      ps.setObject(index++, arg);
+    }
+    if (arrayParameter) {
+      ps.setArray(index, ps.getConnection().createArrayOf("text", values.toArray()));
+      return;
+    }
+    for (String value : values) {
+      ps.setString(index++, value);
+    }
+  }
+
+  /**
+   * Checks whether the data source is a PostgreSQL database.
+   *
+   * @param jdbcTemplate the JDBC template
+   * @return true for PostgreSQL, false otherwise or if the metadata cannot be read
+   */
+  private static boolean isPostgres(JdbcTemplate jdbcTemplate) {
+    try {
+      String productName =
+          JdbcUtils.extractDatabaseMetaData(
+              jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+      return "PostgreSQL".equals(productName);
+    } catch (MetaDataAccessException e) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,25 @@
+CREATE TABLE livestock_count_snapshot (
+  id BIGINT AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  category VARCHAR(50) NOT NULL,
+  last_event_id BIGINT NOT NULL,
+  male_count INT NOT NULL,
+  female_count INT NOT NULL,
+  max_id INT NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  FOREIGN KEY (user_id) REFERENCES users(user_id)
+);
+
+CREATE INDEX idx_livestock_count_snapshot_herd
+  ON livestock_count_snapshot (user_id, category, last_event_id);
+
+CREATE INDEX idx_livestock_event_herd ON livestock_event (user_id, category, id);
+
+-- Existing counts become the baseline of their herd as of the latest recorded event
+INSERT INTO livestock_count_snapshot
+  (user_id, category, last_event_id, male_count, female_count, max_id, created_at)
+SELECT c.user_id, c.category,
+  COALESCE((SELECT MAX(e.id) FROM livestock_event e
+    WHERE e.user_id = c.user_id AND e.category = c.category), 0),
+  c.male_count, c.female_count, c.max_id, CURRENT_TIMESTAMP
+FROM livestock_count c;
@@ -0,0 +1,11 @@
+CREATE TABLE change_log (
+  seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+  user_id BIGINT NOT NULL,
+  category VARCHAR(50) NOT NULL,
+  kind VARCHAR(20) NOT NULL,
+  entity_id BIGINT NOT NULL,
+  changed_at TIMESTAMP NOT NULL,
+  FOREIGN KEY (user_id) REFERENCES users(user_id)
+);
+
+CREATE INDEX idx_change_log_user_seq ON change_log (user_id, seq);